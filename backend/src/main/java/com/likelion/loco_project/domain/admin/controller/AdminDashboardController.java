@@ -2,6 +2,7 @@ package com.likelion.loco_project.domain.admin.controller;
 
 import com.likelion.loco_project.domain.admin.dto.*;
 import com.likelion.loco_project.domain.admin.service.AdminDashboardService;
+import com.likelion.loco_project.global.cache.CacheStatsDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -45,6 +46,12 @@ public class AdminDashboardController {
         return dashboardService.getReservationStats();
     }
 
+    @Operation(summary = "캐시 통계 조회", description = "로컬 캐시별 크기, 적중/미적중/축출 횟수를 조회합니다.")
+    @GetMapping("/cache-stats")
+    public List<CacheStatsDto> getCacheStats() {
+        return dashboardService.getCacheStats();
+    }
+
     @Operation(summary = "공간 유형별 분포 데이터 조회", description = "관리자 대시보드의 공간 유형별 분포 그래프 데이터를 조회합니다.")
     @GetMapping("/space-type-distribution")
     public DashboardSpaceTypeDistributionDto getSpaceTypeDistribution() {
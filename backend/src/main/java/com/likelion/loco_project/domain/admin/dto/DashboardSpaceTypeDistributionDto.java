@@ -9,5 +9,6 @@ import java.util.Map;
 @Getter
 @Builder
 public class DashboardSpaceTypeDistributionDto {
-    private Map<String, Long> distribution;
+    private Map<String, Long> distribution; // 유형별 공간 수
+    private Map<String, Long> statusDistribution; // 상태별 공간 수
 } 
\ No newline at end of file
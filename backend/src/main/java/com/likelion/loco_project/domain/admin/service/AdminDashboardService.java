@@ -7,13 +7,15 @@ import com.likelion.loco_project.domain.reservation.repository.ReservationReposi
 import com.likelion.loco_project.domain.payment.repository.PaymentRepository;
 import com.likelion.loco_project.domain.payment.entity.PaymentStatus;
 import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.service.SpaceStatsCounter;
+import com.likelion.loco_project.global.cache.CacheStatsDto;
+import com.likelion.loco_project.global.cache.LocalCacheRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +24,8 @@ public class AdminDashboardService {
     private final SpaceRepository spaceRepository;
     private final ReservationRepository reservationRepository;
     private final PaymentRepository paymentRepository;
+    private final LocalCacheRegistry localCacheRegistry;
+    private final SpaceStatsCounter spaceStatsCounter;
 
     public DashboardSummaryDto getSummary() {
         long userCount = userRepository.count();
@@ -74,10 +78,18 @@ public class AdminDashboardService {
         return DashboardReservationChartDto.builder().labels(labels).data(data).build();
     }
 
+    public List<CacheStatsDto> getCacheStats() {
+        return localCacheRegistry.getAllStats();
+    }
+
+    // 메모리 카운터에서 바로 읽음 (시작 직후 아직 적재 전이면 한 번 집계)
     public DashboardSpaceTypeDistributionDto getSpaceTypeDistribution() {
-        Map<String, Long> distribution = spaceRepository.countSpacesByType();
+        if (!spaceStatsCounter.isLoaded()) {
+            spaceStatsCounter.reconcile();
+        }
         return DashboardSpaceTypeDistributionDto.builder()
-                .distribution(distribution)
+                .distribution(spaceStatsCounter.countByType())
+                .statusDistribution(spaceStatsCounter.countByStatus())
                 .build();
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.likelion.loco_project.domain.board.board.dto.*;
 import com.likelion.loco_project.domain.board.board.service.BoardService;
 import com.likelion.loco_project.global.exception.AccessDeniedException;
 import com.likelion.loco_project.global.exception.ResourceNotFoundException;
+import com.likelion.loco_project.global.util.GlobalUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 
@@ -70,7 +72,13 @@ public class ApiV1BoardController {
     @GetMapping("/{id}")
     public ResponseEntity<BoardDetailResponseDto> getBoardById(
             @Parameter(description = "조회할 게시글 ID", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest request) {
+        // 수정 시각이 그대로면 게시글/작성자/공간 로딩 없이 304 반환
+        long lastModified = GlobalUtil.toEpochMillis(boardService.getBoardModifiedDate(id));
+        if (request.checkNotModified(GlobalUtil.weakEtag("board", id, lastModified), lastModified)) {
+            return null;
+        }
         BoardDetailResponseDto board = boardService.getBoardById(id);
         return ResponseEntity.ok(board);
     }
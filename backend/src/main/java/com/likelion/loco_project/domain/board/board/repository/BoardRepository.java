@@ -3,9 +3,13 @@ package com.likelion.loco_project.domain.board.board.repository;
 import com.likelion.loco_project.domain.board.board.entity.Board;
 import com.likelion.loco_project.domain.board.board.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
@@ -20,4 +24,8 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 
     // 카테고리별 게시글 목록 조회
     List<Board> findByCategory(Category category);
+
+    // 조건부 조회(ETag/Last-Modified)용 수정 시각만 조회 (게시글/작성자/공간을 로딩하지 않음)
+    @Query("SELECT b.modifiedDate FROM Board b WHERE b.id = :id")
+    Optional<LocalDateTime> findModifiedDateById(@Param("id") Long id);
 }
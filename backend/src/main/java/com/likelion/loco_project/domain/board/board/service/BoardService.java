@@ -7,6 +7,7 @@ import com.likelion.loco_project.domain.board.board.repository.BoardImageReposit
 import com.likelion.loco_project.domain.board.board.repository.BoardRepository;
 import com.likelion.loco_project.domain.host.entity.Host;
 import com.likelion.loco_project.domain.host.repository.HostRepository;
+import com.likelion.loco_project.domain.host.service.HostIdResolver;
 import com.likelion.loco_project.domain.s3.S3Service;
 import com.likelion.loco_project.domain.space.entity.Space;
 import com.likelion.loco_project.domain.space.repository.SpaceRepository;
@@ -21,6 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -31,6 +33,7 @@ import java.util.stream.Collectors;
 public class BoardService {
     private final BoardRepository boardRepository;
     private final HostRepository hostRepository; // 호스트 레포지토리
+    private final HostIdResolver hostIdResolver; // 사용자 ID -> 호스트 ID 변환 (캐시)
     private final SpaceRepository spaceRepository; // 공간 레포지토리
     private final UserRepository userRepository; // 사용자 레포지토리 (권한 확인에 사용)
 
@@ -86,8 +89,10 @@ public class BoardService {
                 .orElseThrow(() -> new ResourceNotFoundException("유저ID를 찾을 수 없습니다 : " + userId));
 
         // 2. 이 작성자 (User)가 호스트인지 체크, 호스트 정보가 없으면 예외 발생
-        Host authorHost = hostRepository.findByUserId(userId)
+        //    호스트 ID는 캐시에서 찾고, 게시글 연관관계에는 조회 없이 참조(프록시)만 사용
+        Long authorHostId = hostIdResolver.findHostId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("이 유저ID에 대한 호스트 정보가 존재하지 않습니다 : " + userId + ", 호스트만이 게시글을 작성할 수 있습니다."));
+        Host authorHost = hostRepository.getReferenceById(authorHostId);
 
         // 3. 게시글이 등록될 공간 정보 조회
         Space space = spaceRepository.findById(spaceId)
@@ -165,6 +170,17 @@ public class BoardService {
                 .collect(Collectors.toList());
     }
 
+    /** 2-1. 특정 게시글 수정 시각 조회
+     * 상세 조회의 조건부 요청(ETag/Last-Modified) 비교용, 수정 시각 컬럼 하나만 조회
+     * @param id 조회할 게시글의 ID
+     * @return 게시글 마지막 수정 시각
+     * @throws ResourceNotFoundException 게시글을 찾을 수 없을 때 발생
+     */
+    public LocalDateTime getBoardModifiedDate(Long id) {
+        return boardRepository.findModifiedDateById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다 : " + id));
+    }
+
     /** 2-2. 특정 게시글 조회
      * 특정 게시글의 상세 정보를 조회, 연관된 이미지 목록 조회 로직 (S3 객체 키 사용)
      * @param id 조회할 게시글의 ID
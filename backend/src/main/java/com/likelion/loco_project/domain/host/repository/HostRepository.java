@@ -3,6 +3,8 @@ package com.likelion.loco_project.domain.host.repository;
 import com.likelion.loco_project.domain.host.entity.Host;
 import com.likelion.loco_project.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,4 +16,8 @@ public interface HostRepository extends JpaRepository<Host, Long> {
 
     // User 엔티티로 Host를 찾는 메서드 추가
     Optional<Host> findByUser(User user);
+
+    // user_id로 호스트 ID만 조회 (HostIdResolver 캐시 적재용)
+    @Query("SELECT h.id FROM Host h WHERE h.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
 }
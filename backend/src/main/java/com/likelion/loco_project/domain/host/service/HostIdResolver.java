@@ -0,0 +1,32 @@
+package com.likelion.loco_project.domain.host.service;
+
+import com.likelion.loco_project.domain.host.repository.HostRepository;
+import com.likelion.loco_project.global.cache.LocalCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+// 사용자 ID -> 호스트 ID 변환 (공간/게시글/호스트 서비스가 공통으로 사용)
+// 호스트 대시보드 요청마다 반복되던 hostRepository.findByUserId 조회를 캐시로 대체
+// 호스트가 아닌 사용자(조회 결과 없음)는 캐시하지 않으므로 호스트 등록 직후에도 바로 조회됨
+// 호스트를 삭제하거나 다른 사용자로 옮기는 경로가 없어 user_id -> host_id 매핑은 바뀌지 않으므로 무효화하지 않음
+@Component
+@RequiredArgsConstructor
+public class HostIdResolver {
+
+    private final HostRepository hostRepository;
+    private final LocalCache<Long, Long> hostIdByUserIdCache;
+
+    public Optional<Long> findHostId(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(hostIdByUserIdCache.get(userId,
+                key -> hostRepository.findIdByUserId(key).orElse(null)));
+    }
+
+    public boolean isHost(Long userId) {
+        return findHostId(userId).isPresent();
+    }
+}
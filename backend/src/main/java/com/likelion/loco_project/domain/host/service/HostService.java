@@ -26,6 +26,7 @@ public class HostService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserService userService;
+    private final HostIdResolver hostIdResolver;
 
     // 호스트 등록 기능
     @Transactional
@@ -63,7 +64,8 @@ public class HostService {
     @Transactional(readOnly = true)
     public HostResponseDto getHostInfo(Long userId) {
         // userId를 기반으로 Host 정보 조회
-        Host host = hostRepository.findByUserId(userId)
+        Host host = hostIdResolver.findHostId(userId)
+                .flatMap(hostRepository::findById)
                 .orElseThrow(() -> new EntityNotFoundException("호스트 정보를 찾을 수 없습니다."));
         // 조회된 Host 정보를 DTO로 변환하여 반환
         return new HostResponseDto(host);
@@ -97,14 +99,15 @@ public class HostService {
     // 호스트인지의 여부
     @Transactional(readOnly = true)
     public boolean isHost(Long userId) {
-        return hostRepository.findByUserId(userId).isPresent();
+        return hostIdResolver.isHost(userId);
     }
 
     // 호스트 로그인 검증
     @Transactional(readOnly = true)
     public Host loginAndValidate(String email, String password) {
         User user = userService.loginAndValidate(email, password, UserType.HOST);
-        return hostRepository.findByUserId(user.getId())
+        return hostIdResolver.findHostId(user.getId())
+                .flatMap(hostRepository::findById)
                 .orElseThrow(() -> new IllegalArgumentException("호스트 정보를 찾을 수 없습니다."));
     }
 
@@ -32,6 +32,8 @@ public class PaymentRequestDto {
     @Min(value = 100, message = "결제 금액은 최소 100원 이상이어야 합니다.")
     private Integer amount;
 
+    private String reservationHoldId;                       //임시 예약 ID (선택)
+
 
     public Payment toEntity() {
         Payment payment = new Payment();
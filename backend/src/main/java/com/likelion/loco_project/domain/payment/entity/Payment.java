@@ -27,6 +27,7 @@ public class Payment {
     private LocalDateTime paymentAt;                    //결제 일시
     private String paymentFailedReason;                 //결제 실패 사유
     private LocalDateTime refundedAt;                   //환불 날짜
+    private String reservationHoldId;                   //결제 중 잡아 둔 임시 예약 ID (결제 실패 시 해제)
 
     @ManyToOne
     @JoinColumn(name = "guest_id")
@@ -6,6 +6,8 @@ import com.likelion.loco_project.domain.payment.dto.PaymentRequestDto;
 import com.likelion.loco_project.domain.payment.entity.Payment;
 import com.likelion.loco_project.domain.payment.entity.PaymentStatus;
 import com.likelion.loco_project.domain.payment.repository.PaymentRepository;
+import com.likelion.loco_project.domain.reservation.service.ReservationHoldService;
+import com.likelion.loco_project.global.util.GlobalUtil;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +23,7 @@ import java.util.Optional;
 public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final GuestRepository guestRepository;
+    private final ReservationHoldService reservationHoldService;
 
     // 결제 요청
     @Transactional
@@ -37,6 +40,7 @@ public class PaymentService {
         payment.setPaymentStatus(PaymentStatus.REQUESTED);
         payment.setPaymentAmount(dto.getPaymentAmount());
         payment.setPaymentMethod(dto.getPaymentMethod());
+        payment.setReservationHoldId(dto.getReservationHoldId());
         // 기타 필요한 필드 세팅
         return paymentRepository.save(payment);
     }
@@ -48,6 +52,7 @@ public class PaymentService {
         payment.setTransactionId(transactionId);
         payment.setPaymentStatus(PaymentStatus.COMPLETED);
         payment.setPaymentAt(LocalDateTime.now());
+        // 잡아 둔 시간대는 여기서 해제하지 않음 (아직 예약이 없으므로, 예약 생성 후 해제되거나 만료될 때까지 다른 게스트가 가져가지 못하도록)
         return payment;
     }
 
@@ -57,6 +62,10 @@ public class PaymentService {
         Payment payment = findPaymentById(paymentId);
         payment.setPaymentStatus(PaymentStatus.FAILED);
         payment.setPaymentFailedReason(reason);
+        // 결제가 실패하면 잡아 둔 시간대를 만료 전이라도 바로 해제 (결제한 게스트의 임시 예약일 때만)
+        String holdId = payment.getReservationHoldId();
+        Long guestId = payment.getGuest() == null ? null : payment.getGuest().getId();
+        GlobalUtil.afterCommit(() -> reservationHoldService.release(holdId, guestId));
         return payment;
     }
 
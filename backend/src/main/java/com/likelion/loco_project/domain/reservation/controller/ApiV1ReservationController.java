@@ -1,12 +1,20 @@
 package com.likelion.loco_project.domain.reservation.controller;
 
+import com.likelion.loco_project.domain.reservation.dto.RecurringReservationRequestDto;
+import com.likelion.loco_project.domain.reservation.dto.RecurringReservationResultDto;
+import com.likelion.loco_project.domain.reservation.dto.ReservationHoldDto;
+import com.likelion.loco_project.domain.reservation.dto.ReservationHoldRequestDto;
 import com.likelion.loco_project.domain.reservation.dto.ReservationRequestDto;
+import com.likelion.loco_project.domain.reservation.dto.SpaceMonthCalendarDto;
 import com.likelion.loco_project.domain.reservation.entity.Reservation;
+import com.likelion.loco_project.domain.reservation.service.ReservationHoldService;
 import com.likelion.loco_project.domain.reservation.service.ReservationService;
+import com.likelion.loco_project.domain.reservation.service.SpaceCalendarService;
 import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -15,9 +23,15 @@ import java.util.List;
 public class ApiV1ReservationController {
 
     private final ReservationService reservationService;
+    private final SpaceCalendarService spaceCalendarService;
+    private final ReservationHoldService reservationHoldService;
 
-    public ApiV1ReservationController(ReservationService reservationService) {
+    public ApiV1ReservationController(ReservationService reservationService,
+                                      SpaceCalendarService spaceCalendarService,
+                                      ReservationHoldService reservationHoldService) {
         this.reservationService = reservationService;
+        this.spaceCalendarService = spaceCalendarService;
+        this.reservationHoldService = reservationHoldService;
     }
 
     @Operation(summary = "예약 생성", description = "새로운 예약을 생성합니다.")
@@ -27,6 +41,26 @@ public class ApiV1ReservationController {
         return ResponseEntity.ok(reservation);
     }
 
+    @Operation(summary = "반복 예약 생성", description = "매일/매주 반복 규칙으로 여러 회차를 한 번에 예약합니다. 충돌 없는 회차만 생성하고 충돌한 회차는 사유와 함께 반환합니다. (최대 " + ReservationService.MAX_RECURRING_OCCURRENCES + "회)")
+    @PostMapping("/recurring")
+    public ResponseEntity<RecurringReservationResultDto> createRecurringReservations(
+            @RequestBody RecurringReservationRequestDto requestDto) {
+        return ResponseEntity.ok(reservationService.createRecurringReservations(requestDto));
+    }
+
+    @Operation(summary = "임시 예약(시간대 선점)", description = "결제 전에 시간대를 일정 시간 동안 선점합니다. 만료되거나 결제가 실패하거나 예약이 생성되면 자동 해제됩니다. 예약 생성/결제 요청 시 holdId 를 함께 보내야 합니다.")
+    @PostMapping("/holds")
+    public ResponseEntity<ReservationHoldDto> placeHold(@RequestBody ReservationHoldRequestDto requestDto) {
+        return ResponseEntity.ok(reservationHoldService.placeHold(requestDto));
+    }
+
+    @Operation(summary = "임시 예약 해제", description = "선점한 시간대를 만료 전에 해제합니다. 임시 예약을 건 게스트 본인만 해제할 수 있습니다.")
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<Void> releaseHold(@PathVariable String holdId, @RequestParam Long guestId) {
+        reservationHoldService.releaseOwnHold(holdId, guestId);
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "예약 상세 조회", description = "예약 ID로 특정 예약의 상세 정보를 조회합니다.")
     @GetMapping("/{id}")
     public ResponseEntity<Object> getReservation(@PathVariable Long id) {
@@ -48,4 +82,12 @@ public class ApiV1ReservationController {
         Reservation reservation = reservationService.cancelReservation(id);
         return ResponseEntity.ok(reservation);
     }
+
+    @Operation(summary = "공간 월별 예약 달력", description = "공간의 한 달 예약 현황을 날짜별 30분 단위 점유 비트맵(i 번째 비트가 1이면 i 번째 칸 예약됨)으로 조회합니다. month 형식: yyyy-MM")
+    @GetMapping("/spaces/{spaceId}/calendar")
+    public ResponseEntity<SpaceMonthCalendarDto> getSpaceMonthCalendar(
+            @PathVariable Long spaceId,
+            @RequestParam YearMonth month) {
+        return ResponseEntity.ok(spaceCalendarService.getMonthCalendar(spaceId, month));
+    }
 }
@@ -0,0 +1,30 @@
+package com.likelion.loco_project.domain.reservation.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Getter
+@Setter
+public class RecurringReservationRequestDto {   //반복 예약 요청
+    private Long guestId;                       //게스트 ID
+    private Long spaceId;                       //공간 ID
+    private int bookingCapacity;                //예약 인원
+    private LocalDateTime startTime;            //첫 회차 시작시간
+    private LocalDateTime endTime;              //첫 회차 종료시간 (모든 회차의 길이는 첫 회차와 같음)
+    private Frequency frequency;                //반복 단위
+    private int interval = 1;                   //반복 간격 (2 이면 격주/이틀마다)
+    private Set<DayOfWeek> daysOfWeek;          //매주 반복할 요일 (WEEKLY 전용, 비우면 첫 회차 요일)
+    private Integer count;                      //회차 수 (count, until 중 하나 이상 필수)
+    private LocalDate until;                    //이 날짜까지 반복 (포함)
+    private String holdId;                      //임시 예약 ID (선점한 경우)
+
+    public enum Frequency {
+        DAILY,  // 매일
+        WEEKLY  // 매주
+    }
+}
@@ -0,0 +1,35 @@
+package com.likelion.loco_project.domain.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 반복 예약 결과: 회차별로 생성된 예약과 충돌로 건너뛴 회차를 함께 반환
+@Getter
+@Builder
+public class RecurringReservationResultDto {
+    private Long spaceId;
+    private int requestedCount;             // 반복 규칙으로 펼친 회차 수
+    private int createdCount;               // 생성된 예약 수
+    private List<Created> created;
+    private List<Conflict> conflicts;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Created {
+        private Long reservationId;
+        private LocalDateTime startTime;
+        private LocalDateTime endTime;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Conflict {
+        private LocalDateTime startTime;
+        private LocalDateTime endTime;
+        private String reason;
+    }
+}
@@ -0,0 +1,10 @@
+package com.likelion.loco_project.domain.reservation.dto;
+
+import java.time.LocalDateTime;
+
+// 인기 공간 랭킹 집계용 프로젝션 (예약 ID, 공간 ID, 예약 일시만 조회)
+public interface ReservationActivityView {
+    Long getId();
+    Long getSpaceId();
+    LocalDateTime getReservationDate();
+}
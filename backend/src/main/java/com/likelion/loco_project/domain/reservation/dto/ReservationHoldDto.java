@@ -0,0 +1,18 @@
+package com.likelion.loco_project.domain.reservation.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 임시 예약 정보 (만료 전까지 다른 사용자는 해당 시간대를 예약/선점할 수 없음)
+// 예약 생성과 결제 요청 시 holdId 를 함께 보내야 본인 임시 예약으로 인정됨
+@Getter
+@Builder
+public class ReservationHoldDto {
+    private String holdId;
+    private Long spaceId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private LocalDateTime expiresAt;    // 이 시각이 지나면 자동 해제
+}
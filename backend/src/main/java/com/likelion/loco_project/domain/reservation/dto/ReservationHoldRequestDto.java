@@ -0,0 +1,15 @@
+package com.likelion.loco_project.domain.reservation.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class ReservationHoldRequestDto {    //임시 예약(결제 전 시간대 선점) 요청
+    private Long guestId;                   //게스트 ID
+    private Long spaceId;                   //공간 ID
+    private LocalDateTime startTime;        //선점할 시작시간
+    private LocalDateTime endTime;          //선점할 종료시간
+}
@@ -18,6 +18,8 @@ public class ReservationRequestDto {    //예약 요청
     private LocalDateTime startTime;    //예약한 시작시간
     @Future
     private LocalDateTime endTime;      //예약한 종료시간
+    private String holdId;              //임시 예약 ID (결제 전 선점한 경우)
+    private Long paymentId;             //결제 ID
 
     public Reservation toEntity() {
         Reservation reservation = new Reservation();
@@ -28,8 +30,4 @@ public class ReservationRequestDto {    //예약 요청
         // space, guest는 Service에서 조회 후 주입
         return reservation;
     }
-
-    public Long getPaymentId() {
-        return null;
-    }
 }
@@ -0,0 +1,11 @@
+package com.likelion.loco_project.domain.reservation.dto;
+
+import java.time.LocalDateTime;
+
+// 예약 가능 시간 인덱스 적재용 프로젝션 (예약 ID, 공간 ID, 시작/종료 시간만 조회)
+public interface ReservationSlotView {
+    Long getId();
+    Long getSpaceId();
+    LocalDateTime getStartTime();
+    LocalDateTime getEndTime();
+}
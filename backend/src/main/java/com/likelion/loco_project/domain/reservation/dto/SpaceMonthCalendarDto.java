@@ -0,0 +1,28 @@
+package com.likelion.loco_project.domain.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 공간의 월별 예약 달력
+// 날짜마다 하루를 slotMinutes 단위로 나눈 점유 비트맵을 담음 (i 번째 비트가 1이면 i 번째 칸에 예약이 있음)
+@Getter
+@Builder
+public class SpaceMonthCalendarDto {
+    private Long spaceId;
+    private String month;       // yyyy-MM
+    private int slotMinutes;    // 한 칸의 길이 (분)
+    private int slotsPerDay;    // 하루 칸 수
+    private List<Day> days;     // 해당 월의 모든 날짜 (1일부터)
+
+    @Getter
+    @AllArgsConstructor
+    public static class Day {
+        private LocalDate date;
+        private long busyBitmap;    // 점유 비트맵
+        private boolean fullyBooked; // 모든 칸이 예약됨
+    }
+}
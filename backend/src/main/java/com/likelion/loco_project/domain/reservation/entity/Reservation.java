@@ -11,6 +11,10 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        // 공간별 기간 조회용 (월별 예약 달력: space_id 등치 + start_time 범위)
+        @Index(name = "idx_reservation_space_start", columnList = "space_id, start_time")
+})
 @Getter
 @Setter
 public class Reservation {
@@ -1,5 +1,7 @@
 package com.likelion.loco_project.domain.reservation.repository;
 
+import com.likelion.loco_project.domain.reservation.dto.ReservationActivityView;
+import com.likelion.loco_project.domain.reservation.dto.ReservationSlotView;
 import com.likelion.loco_project.domain.reservation.entity.Reservation;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -41,4 +43,91 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     // 최근 예약 5건 (최신순)
     List<Reservation> findTop5ByOrderByIdDesc();
 
+    // 예약 가능 시간 인덱스 적재용: 아직 끝나지 않았고 취소되지 않은 예약의 시간 정보만 조회
+    @Query("""
+    SELECT r.id AS id, r.space.id AS spaceId, r.startTime AS startTime, r.endTime AS endTime
+    FROM Reservation r
+    WHERE r.endTime > :now
+      AND (r.status IS NULL OR r.status <> :cancelled)
+    """)
+    List<ReservationSlotView> findActiveSlotsEndingAfter(
+            @Param("now") LocalDateTime now,
+            @Param("cancelled") Reservation.ReservationStatus cancelled
+    );
+
+    // 예약 구간 인덱스에서 한 공간만 DB 기준으로 다시 적재할 때 사용
+    @Query("""
+    SELECT r.id AS id, r.space.id AS spaceId, r.startTime AS startTime, r.endTime AS endTime
+    FROM Reservation r
+    WHERE r.space.id = :spaceId
+      AND r.endTime > :now
+      AND (r.status IS NULL OR r.status <> :cancelled)
+    """)
+    List<ReservationSlotView> findActiveSlotsOfSpaceEndingAfter(
+            @Param("spaceId") Long spaceId,
+            @Param("now") LocalDateTime now,
+            @Param("cancelled") Reservation.ReservationStatus cancelled
+    );
+
+    // 인기 공간 랭킹용: since 이후에 생성된 예약 중 afterId 보다 ID가 큰 것만 조회 (증분 갱신)
+    @Query("""
+    SELECT r.id AS id, r.space.id AS spaceId, r.reservationDate AS reservationDate
+    FROM Reservation r
+    WHERE r.id > :afterId
+      AND r.reservationDate >= :since
+      AND (r.status IS NULL OR r.status <> :cancelled)
+    """)
+    List<ReservationActivityView> findActivitiesAfter(
+            @Param("afterId") Long afterId,
+            @Param("since") LocalDateTime since,
+            @Param("cancelled") Reservation.ReservationStatus cancelled
+    );
+
+    // 예약 생성 시 겹치는 활성(취소되지 않은) 예약이 있는지 확인
+    // 공간 행을 잠근 상태에서 호출하므로 여러 서버가 동시에 같은 시간대를 예약해도 하나만 통과
+    @Query("""
+    SELECT COUNT(r) > 0 FROM Reservation r
+    WHERE r.space.id = :spaceId
+      AND r.endTime > :startTime
+      AND r.startTime < :endTime
+      AND (r.status IS NULL OR r.status <> :cancelled)
+    """)
+    boolean existsActiveOverlap(
+            @Param("spaceId") Long spaceId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime,
+            @Param("cancelled") Reservation.ReservationStatus cancelled
+    );
+
+    // 예약 가능 시간 인덱스 적재 전의 검색용: [startTime, endTime) 에 겹치는 활성 예약이 있는 공간 ID
+    @Query("""
+    SELECT DISTINCT r.space.id FROM Reservation r
+    WHERE r.endTime > :startTime
+      AND r.startTime < :endTime
+      AND (r.status IS NULL OR r.status <> :cancelled)
+    """)
+    List<Long> findActiveSpaceIdsOverlapping(
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime,
+            @Param("cancelled") Reservation.ReservationStatus cancelled
+    );
+
+    // 월별 예약 달력용: 한 공간에서 [from, to) 사이에 시작했고 since 이후에 끝나는 활성 예약의 시간 정보만 조회
+    // (space_id, start_time) 인덱스 범위 하나만 읽음 (from 은 달 시작보다 최대 예약 길이만큼 앞으로 잡아 전달)
+    @Query("""
+    SELECT r.id AS id, r.space.id AS spaceId, r.startTime AS startTime, r.endTime AS endTime
+    FROM Reservation r
+    WHERE r.space.id = :spaceId
+      AND r.startTime >= :from
+      AND r.startTime < :to
+      AND r.endTime > :since
+      AND (r.status IS NULL OR r.status <> :cancelled)
+    """)
+    List<ReservationSlotView> findActiveSlotsStartingBetween(
+            @Param("spaceId") Long spaceId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("since") LocalDateTime since,
+            @Param("cancelled") Reservation.ReservationStatus cancelled
+    );
 }
@@ -0,0 +1,92 @@
+package com.likelion.loco_project.domain.reservation.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+// 메모리 임시 예약 저장소 (Redis 없는 테스트/로컬 환경용, 서버 한 대 안에서만 유효)
+// 만료 시각 순 우선순위 큐로 만료된 것만 앞에서부터 꺼내 정리
+@Component
+@ConditionalOnProperty(name = "reservation-hold.store", havingValue = "memory")
+public class InMemoryReservationHoldStore implements ReservationHoldStore {
+
+    private final Map<String, ReservationHold> byId = new HashMap<>();
+    private final Map<Long, Map<String, ReservationHold>> bySpace = new HashMap<>();
+    private final PriorityQueue<ReservationHold> expiryQueue =
+            new PriorityQueue<>(Comparator.comparingLong(ReservationHold::expireAtMillis));
+
+    @Override
+    public synchronized boolean tryHold(ReservationHold hold, long nowMillis) {
+        if (!findOverlapping(hold.spaceId(), hold.startMillis(), hold.endMillis(), nowMillis).isEmpty()) {
+            return false;
+        }
+        byId.put(hold.holdId(), hold);
+        bySpace.computeIfAbsent(hold.spaceId(), k -> new LinkedHashMap<>()).put(hold.holdId(), hold);
+        expiryQueue.add(hold);
+        return true;
+    }
+
+    @Override
+    public synchronized List<ReservationHold> findOverlapping(long spaceId, long startMillis, long endMillis, long nowMillis) {
+        Map<String, ReservationHold> holds = bySpace.get(spaceId);
+        if (holds == null) {
+            return List.of();
+        }
+        List<ReservationHold> result = new ArrayList<>();
+        for (ReservationHold hold : holds.values()) {
+            if (!hold.isExpired(nowMillis) && hold.overlaps(startMillis, endMillis)) {
+                result.add(hold);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized Optional<ReservationHold> find(String holdId, long nowMillis) {
+        ReservationHold hold = byId.get(holdId);
+        return hold == null || hold.isExpired(nowMillis) ? Optional.empty() : Optional.of(hold);
+    }
+
+    @Override
+    public synchronized boolean release(String holdId, long guestId) {
+        ReservationHold hold = byId.get(holdId);
+        if (hold == null || hold.guestId() != guestId) {
+            return false;
+        }
+        byId.remove(holdId);
+        removeFromSpace(hold);
+        // 큐에 남은 항목은 만료 시각이 지나면 purgeExpired 에서 함께 빠짐
+        return true;
+    }
+
+    @Override
+    public synchronized int purgeExpired(long nowMillis) {
+        int purged = 0;
+        while (!expiryQueue.isEmpty() && expiryQueue.peek().isExpired(nowMillis)) {
+            ReservationHold hold = expiryQueue.poll();
+            if (byId.remove(hold.holdId(), hold)) {
+                removeFromSpace(hold);
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    private void removeFromSpace(ReservationHold hold) {
+        Map<String, ReservationHold> holds = bySpace.get(hold.spaceId());
+        if (holds != null) {
+            holds.remove(hold.holdId());
+            if (holds.isEmpty()) {
+                bySpace.remove(hold.spaceId());
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.likelion.loco_project.domain.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// Redis 임시 예약 저장소 (여러 서버가 같은 임시 예약을 공유)
+// 한 공간의 키는 모두 같은 해시 태그 {spaceId} 를 써서 Redis Cluster 에서도 같은 슬롯에 있고, 스크립트가 쓰는 키는 모두 KEYS 로 넘김
+// - reservation-hold:{spaceId}:holds       (HASH)   holdId -> "시작|종료|만료|게스트ID"
+// - reservation-hold:{spaceId}:id:{holdId} (STRING) "공간ID|시작|종료|만료|게스트ID", 만료 시각에 자동 삭제
+// - reservation-hold:{spaceId}:expiry      (ZSET)   holdId, 점수 = 만료 시각 → 만료된 것만 범위 조회로 한 번에 정리
+// - reservation-hold:spaces                (SET)    임시 예약이 있는 공간 ID (정리 작업이 훑을 공간 목록)
+// 공간별 HASH/ZSET 은 가장 늦게 만료되는 홀드에 맞춰 TTL 을 두므로, 정리 작업이 놓친 항목도 결국 함께 사라짐
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reservation-hold.store", havingValue = "redis", matchIfMissing = true)
+public class RedisReservationHoldStore implements ReservationHoldStore {
+
+    private static final String KEY_PREFIX = "reservation-hold:";
+    private static final String SPACES_KEY = "reservation-hold:spaces";
+
+    // 겹침 확인과 저장을 스크립트 하나로 실행해 서버 간에도 같은 시간대에 임시 예약이 하나만 잡히도록 함
+    // KEYS: [holds, expiry, id]
+    private static final RedisScript<Long> TRY_HOLD_SCRIPT = new DefaultRedisScript<>("""
+            local start = tonumber(ARGV[2])
+            local finish = tonumber(ARGV[3])
+            local now = tonumber(ARGV[5])
+            local entries = redis.call('HGETALL', KEYS[1])
+            for i = 2, #entries, 2 do
+              local s, e, x = string.match(entries[i], '^(%d+)|(%d+)|(%d+)|')
+              if tonumber(x) > now and tonumber(s) < finish and tonumber(e) > start then
+                return 0
+              end
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '|' .. ARGV[3] .. '|' .. ARGV[4] .. '|' .. ARGV[6])
+            redis.call('ZADD', KEYS[2], ARGV[4], ARGV[1])
+            for i = 1, 2 do
+              if redis.call('PTTL', KEYS[i]) < tonumber(ARGV[7]) then
+                redis.call('PEXPIRE', KEYS[i], ARGV[7])
+              end
+            end
+            redis.call('SET', KEYS[3], ARGV[8], 'PX', ARGV[7])
+            return 1
+            """, Long.class);
+
+    // 소유 게스트 확인과 세 키의 삭제를 스크립트 하나로 실행 (중간에 실패하거나 다른 요청과 섞여 일부만 남지 않도록)
+    // KEYS: [id, holds, expiry]
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('GET', KEYS[1])
+            if not value then
+              return 0
+            end
+            local guestId = string.match(value, '|(%d+)$')
+            if guestId ~= ARGV[2] then
+              return 0
+            end
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            redis.call('ZREM', KEYS[3], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    // 한 공간에서 만료된 홀드를 HASH/ZSET 에서 삭제하고 [삭제한 수, 남은 수] 를 반환
+    // KEYS: [holds, expiry]
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PURGE_SCRIPT = new DefaultRedisScript<>("""
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+            if #expired > 0 then
+              redis.call('HDEL', KEYS[1], unpack(expired))
+              redis.call('ZREM', KEYS[2], unpack(expired))
+            end
+            return {#expired, redis.call('ZCARD', KEYS[2])}
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public boolean tryHold(ReservationHold hold, long nowMillis) {
+        long ttlMillis = Math.max(1, hold.expireAtMillis() - nowMillis);
+        Long result = stringRedisTemplate.execute(TRY_HOLD_SCRIPT,
+                List.of(holdsKey(hold.spaceId()), expiryKey(hold.spaceId()), idKey(hold.spaceId(), hold.holdId())),
+                hold.holdId(),
+                String.valueOf(hold.startMillis()),
+                String.valueOf(hold.endMillis()),
+                String.valueOf(hold.expireAtMillis()),
+                String.valueOf(nowMillis),
+                String.valueOf(hold.guestId()),
+                String.valueOf(ttlMillis),
+                hold.spaceId() + "|" + hold.startMillis() + "|" + hold.endMillis() + "|"
+                        + hold.expireAtMillis() + "|" + hold.guestId());
+        if (result == null || result != 1L) {
+            return false;
+        }
+        // 정리 대상 공간 목록은 다른 슬롯이라 스크립트 밖에서 추가 (빠져도 공간별 키의 TTL 로 정리됨)
+        stringRedisTemplate.opsForSet().add(SPACES_KEY, String.valueOf(hold.spaceId()));
+        return true;
+    }
+
+    @Override
+    public List<ReservationHold> findOverlapping(long spaceId, long startMillis, long endMillis, long nowMillis) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(holdsKey(spaceId));
+        List<ReservationHold> result = new ArrayList<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String[] parts = entry.getValue().toString().split("\\|");
+            ReservationHold hold = new ReservationHold(entry.getKey().toString(), spaceId,
+                    Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+            if (!hold.isExpired(nowMillis) && hold.overlaps(startMillis, endMillis)) {
+                result.add(hold);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<ReservationHold> find(String holdId, long nowMillis) {
+        Long spaceId = ReservationHold.spaceIdOf(holdId);
+        if (spaceId == null) {
+            return Optional.empty();
+        }
+        String value = stringRedisTemplate.opsForValue().get(idKey(spaceId, holdId));
+        if (value == null) {
+            return Optional.empty();
+        }
+        String[] parts = value.split("\\|");
+        ReservationHold hold = new ReservationHold(holdId, Long.parseLong(parts[0]),
+                Long.parseLong(parts[1]), Long.parseLong(parts[2]), Long.parseLong(parts[3]), Long.parseLong(parts[4]));
+        return hold.isExpired(nowMillis) ? Optional.empty() : Optional.of(hold);
+    }
+
+    @Override
+    // 이미 만료된 경우 공간 HASH/만료 ZSET 에 남은 항목은 purgeExpired 에서 정리
+    public boolean release(String holdId, long guestId) {
+        Long spaceId = ReservationHold.spaceIdOf(holdId);
+        if (spaceId == null) {
+            return false;
+        }
+        Long result = stringRedisTemplate.execute(RELEASE_SCRIPT,
+                List.of(idKey(spaceId, holdId), holdsKey(spaceId), expiryKey(spaceId)),
+                holdId,
+                String.valueOf(guestId));
+        return result != null && result == 1L;
+    }
+
+    // 임시 예약이 있는 공간마다 만료 ZSET 에서 만료 시각이 지난 항목만 범위 조회해 HDEL/ZREM 으로 삭제
+    // 남은 홀드가 없는 공간은 정리 대상 목록에서 뺌
+    @Override
+    public int purgeExpired(long nowMillis) {
+        Set<String> spaceIds = stringRedisTemplate.opsForSet().members(SPACES_KEY);
+        if (spaceIds == null) {
+            return 0;
+        }
+        int purged = 0;
+        for (String spaceId : spaceIds) {
+            long id = Long.parseLong(spaceId);
+            List<?> result = stringRedisTemplate.execute(PURGE_SCRIPT,
+                    List.of(holdsKey(id), expiryKey(id)), String.valueOf(nowMillis));
+            if (result == null || result.size() < 2) {
+                continue;
+            }
+            purged += ((Number) result.get(0)).intValue();
+            if (((Number) result.get(1)).longValue() == 0) {
+                stringRedisTemplate.opsForSet().remove(SPACES_KEY, spaceId);
+            }
+        }
+        return purged;
+    }
+
+    // 한 공간의 키는 모두 같은 해시 태그를 씀
+    private static String spaceTag(long spaceId) {
+        return KEY_PREFIX + "{" + spaceId + "}";
+    }
+
+    private static String holdsKey(long spaceId) {
+        return spaceTag(spaceId) + ":holds";
+    }
+
+    private static String expiryKey(long spaceId) {
+        return spaceTag(spaceId) + ":expiry";
+    }
+
+    private static String idKey(long spaceId, String holdId) {
+        return spaceTag(spaceId) + ":id:" + holdId;
+    }
+}
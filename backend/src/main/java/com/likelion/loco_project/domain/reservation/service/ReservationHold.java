@@ -0,0 +1,47 @@
+package com.likelion.loco_project.domain.reservation.service;
+
+import java.util.UUID;
+
+// 결제 전까지 잡아 두는 임시 예약 (시간은 모두 epoch 밀리초)
+public record ReservationHold(
+        String holdId,
+        long spaceId,
+        long startMillis,
+        long endMillis,
+        long expireAtMillis,
+        long guestId
+) {
+    public boolean overlaps(long start, long end) {
+        return startMillis < end && endMillis > start;
+    }
+
+    // holdId, 게스트, 공간이 모두 일치하고 [start, end) 를 모두 덮을 때만 요청한 게스트 본인의 임시 예약으로 인정
+    public boolean isOwnHoldFor(String ownHoldId, Long ownerGuestId, long ownerSpaceId, long start, long end) {
+        return holdId.equals(ownHoldId)
+                && ownerGuestId != null && guestId == ownerGuestId
+                && spaceId == ownerSpaceId
+                && startMillis <= start && endMillis >= end;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expireAtMillis <= nowMillis;
+    }
+
+    // holdId 는 "공간ID-UUID" 형식 (holdId 만으로 공간별 저장 위치를 찾을 수 있도록)
+    public static String newHoldId(long spaceId) {
+        return spaceId + "-" + UUID.randomUUID();
+    }
+
+    // holdId 에 들어 있는 공간 ID (형식이 맞지 않으면 null)
+    public static Long spaceIdOf(String holdId) {
+        int separator = holdId == null ? -1 : holdId.indexOf('-');
+        if (separator <= 0) {
+            return null;
+        }
+        try {
+            return Long.parseLong(holdId.substring(0, separator));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
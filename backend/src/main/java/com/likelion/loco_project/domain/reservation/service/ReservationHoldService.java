@@ -0,0 +1,157 @@
+package com.likelion.loco_project.domain.reservation.service;
+
+import com.likelion.loco_project.domain.guest.repository.GuestRepository;
+import com.likelion.loco_project.domain.reservation.dto.ReservationHoldDto;
+import com.likelion.loco_project.domain.reservation.dto.ReservationHoldRequestDto;
+import com.likelion.loco_project.domain.reservation.entity.Reservation;
+import com.likelion.loco_project.domain.reservation.repository.ReservationRepository;
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.repository.SpaceRepository;
+import com.likelion.loco_project.global.exception.AccessDeniedException;
+import com.likelion.loco_project.global.util.GlobalUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+// 임시 예약(홀드): 시간대를 고른 뒤 결제가 끝날 때까지 다른 사용자가 같은 시간대를 예약/선점하지 못하도록 잡아 둠
+// - 만료 시간(TTL)이 지나면 자동 해제되고, 결제가 실패하거나 예약이 생성되면 즉시 해제 (결제 성공만으로는 해제하지 않음)
+// - 홀드를 건 게스트 본인만 자기 홀드로 예약하거나 해제할 수 있음
+// - 만료된 홀드는 조회에서 바로 제외되며 저장소 정리는 주기 작업이 만료된 것만 한 번에 처리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationHoldService {
+
+    private final ReservationHoldStore reservationHoldStore;
+    private final SpaceBookingEngine spaceBookingEngine;
+    private final ReservationRepository reservationRepository;
+    private final SpaceRepository spaceRepository;
+    private final GuestRepository guestRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${reservation-hold.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // 임시 예약 생성
+    // 예약 생성과 같은 공간 락 + 공간 행 잠금 안에서 확정 예약과 다른 홀드를 모두 확인
+    public ReservationHoldDto placeHold(ReservationHoldRequestDto dto) {
+        if (dto.getSpaceId() == null || dto.getGuestId() == null
+                || dto.getStartTime() == null || dto.getEndTime() == null) {
+            throw new IllegalArgumentException("공간, 게스트와 예약 시간을 입력해주세요.");
+        }
+        if (!dto.getStartTime().isBefore(dto.getEndTime())) {
+            throw new IllegalArgumentException("시작 시간은 종료 시간보다 빨라야 합니다.");
+        }
+        if (dto.getEndTime().isAfter(dto.getStartTime().plusDays(SpaceCalendarService.MAX_BOOKING_DAYS))) {
+            throw new IllegalArgumentException("예약은 최대 " + SpaceCalendarService.MAX_BOOKING_DAYS + "일까지 가능합니다.");
+        }
+        if (!guestRepository.existsById(dto.getGuestId())) {
+            throw new IllegalArgumentException("게스트 정보 없음");
+        }
+
+        return spaceBookingEngine.withSpaceLock(dto.getSpaceId(), () -> transactionTemplate.execute(status ->
+                insertHold(dto)));
+    }
+
+    private ReservationHoldDto insertHold(ReservationHoldRequestDto dto) {
+        Space space = spaceRepository.findByIdForUpdate(dto.getSpaceId())
+                .orElseThrow(() -> new IllegalArgumentException("공간 정보 없음"));
+
+        // 확정 예약과의 겹침은 예약 생성과 같이 DB 로만 판단
+        boolean overlapping = reservationRepository.existsActiveOverlap(space.getId(), dto.getStartTime(), dto.getEndTime(),
+                Reservation.ReservationStatus.CANCELLED);
+        spaceBookingEngine.syncIfStale(space.getId(), dto.getStartTime(), dto.getEndTime(), overlapping);
+        if (overlapping) {
+            throw new IllegalStateException("해당 시간대에 이미 예약이 존재합니다.");
+        }
+
+        long now = System.currentTimeMillis();
+        ReservationHold hold = new ReservationHold(
+                ReservationHold.newHoldId(space.getId()),
+                space.getId(),
+                GlobalUtil.toEpochMillis(dto.getStartTime()),
+                GlobalUtil.toEpochMillis(dto.getEndTime()),
+                now + ttlSeconds * 1000,
+                dto.getGuestId());
+        if (!reservationHoldStore.tryHold(hold, now)) {
+            throw new IllegalStateException("다른 사용자가 결제 진행 중인 시간대입니다.");
+        }
+        return toDto(hold);
+    }
+
+    // [start, end) 에 guestId 본인의 임시 예약(ownHoldId)이 아닌 유효한 홀드가 걸려 있는지
+    // holdId 만으로는 인정하지 않고 게스트/공간이 같고 요청 시간대를 모두 덮는 홀드여야 본인 것으로 봄
+    public boolean isHeldByOthers(long spaceId, LocalDateTime start, LocalDateTime end, String ownHoldId, Long guestId) {
+        long startMillis = GlobalUtil.toEpochMillis(start);
+        long endMillis = GlobalUtil.toEpochMillis(end);
+        return findOverlapping(spaceId, start, end).stream()
+                .anyMatch(hold -> !hold.isOwnHoldFor(ownHoldId, guestId, spaceId, startMillis, endMillis));
+    }
+
+    // [start, end) 와 겹치는 유효한 홀드 목록 (반복 예약은 전체 기간을 한 번에 조회한 뒤 회차별로 isOwnHoldFor 확인)
+    public List<ReservationHold> findOverlapping(long spaceId, LocalDateTime start, LocalDateTime end) {
+        return reservationHoldStore.findOverlapping(spaceId,
+                GlobalUtil.toEpochMillis(start), GlobalUtil.toEpochMillis(end), System.currentTimeMillis());
+    }
+
+    // 임시 예약 해제 API: 본인(guestId)의 임시 예약만 해제 가능 (없거나 이미 만료되었으면 무시)
+    public void releaseOwnHold(String holdId, Long guestId) {
+        if (holdId == null || holdId.isBlank()) {
+            return;
+        }
+        if (guestId == null) {
+            throw new IllegalArgumentException("게스트 ID가 누락되었습니다.");
+        }
+        Optional<ReservationHold> hold = reservationHoldStore.find(holdId, System.currentTimeMillis());
+        if (hold.isEmpty()) {
+            return;
+        }
+        if (hold.get().guestId() != guestId || !reservationHoldStore.release(holdId, guestId)) {
+            throw new AccessDeniedException("본인의 임시 예약만 해제할 수 있습니다.");
+        }
+    }
+
+    // 예약 생성/결제 실패 후 해제: guestId 의 임시 예약일 때만 조용히 해제 (다른 게스트의 holdId 가 넘어와도 건드리지 않음)
+    public void release(String holdId, Long guestId) {
+        if (holdId == null || holdId.isBlank() || guestId == null) {
+            return;
+        }
+        reservationHoldStore.release(holdId, guestId);
+    }
+
+    // 만료된 홀드 일괄 정리 (홀드마다 타이머를 두지 않고 만료 시각 순 인덱스에서 지난 것만 한 번에 삭제)
+    @Scheduled(fixedDelayString = "${reservation-hold.purge-interval-ms:30000}")
+    public void purgeExpired() {
+        try {
+            int purged = reservationHoldStore.purgeExpired(System.currentTimeMillis());
+            if (purged > 0) {
+                log.debug("만료된 임시 예약 정리: {}건", purged);
+            }
+        } catch (RuntimeException e) {
+            log.warn("만료된 임시 예약 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private static ReservationHoldDto toDto(ReservationHold hold) {
+        return ReservationHoldDto.builder()
+                .holdId(hold.holdId())
+                .spaceId(hold.spaceId())
+                .startTime(toLocalDateTime(hold.startMillis()))
+                .endTime(toLocalDateTime(hold.endMillis()))
+                .expiresAt(toLocalDateTime(hold.expireAtMillis()))
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
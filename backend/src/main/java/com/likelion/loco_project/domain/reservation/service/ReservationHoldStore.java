@@ -0,0 +1,23 @@
+package com.likelion.loco_project.domain.reservation.service;
+
+import java.util.List;
+import java.util.Optional;
+
+// 임시 예약 저장소 (운영: Redis, 테스트: 메모리)
+// 만료된 임시 예약은 조회에서 바로 제외되고, 저장소에서는 purgeExpired 로 한 번에 정리
+public interface ReservationHoldStore {
+
+    // 같은 공간에 시간이 겹치는 유효한 임시 예약이 없을 때만 저장 (확인과 저장을 원자적으로 처리)
+    boolean tryHold(ReservationHold hold, long nowMillis);
+
+    // [start, end) 와 겹치는 유효한 임시 예약 목록
+    List<ReservationHold> findOverlapping(long spaceId, long startMillis, long endMillis, long nowMillis);
+
+    Optional<ReservationHold> find(String holdId, long nowMillis);
+
+    // guestId 의 임시 예약일 때만 삭제 (확인과 삭제를 원자적으로 처리, 삭제했으면 true)
+    boolean release(String holdId, long guestId);
+
+    // nowMillis 이전에 만료된 임시 예약을 일괄 삭제하고 삭제한 수를 반환
+    int purgeExpired(long nowMillis);
+}
@@ -4,75 +4,307 @@ import com.likelion.loco_project.domain.guest.entity.Guest;
 import com.likelion.loco_project.domain.guest.repository.GuestRepository;
 import com.likelion.loco_project.domain.payment.entity.Payment;
 import com.likelion.loco_project.domain.payment.repository.PaymentRepository;
+import com.likelion.loco_project.domain.reservation.dto.RecurringReservationRequestDto;
+import com.likelion.loco_project.domain.reservation.dto.RecurringReservationResultDto;
 import com.likelion.loco_project.domain.reservation.dto.ReservationRequestDto;
+import com.likelion.loco_project.domain.reservation.dto.ReservationSlotView;
 import com.likelion.loco_project.domain.reservation.entity.Reservation;
 import com.likelion.loco_project.domain.reservation.repository.ReservationRepository;
 import com.likelion.loco_project.domain.space.entity.Space;
 import com.likelion.loco_project.domain.space.repository.SpaceRepository;
+import com.likelion.loco_project.global.util.GlobalUtil;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Service
 @Slf4j
 public class ReservationService {
 
+    // 반복 예약 한 번에 만들 수 있는 최대 회차 수 / 최대 기간(일)
+    public static final int MAX_RECURRING_OCCURRENCES = 100;
+    public static final int MAX_RECURRING_DAYS = 366;
+
     private final ReservationRepository reservationRepository;
     private final GuestRepository guestRepository;
     private final PaymentRepository paymentRepository;
     private final SpaceRepository spaceRepository;
+    private final SpaceAvailabilityIndex spaceAvailabilityIndex;
+    private final SpaceBookingEngine spaceBookingEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final SpaceCalendarService spaceCalendarService;
+    private final ReservationHoldService reservationHoldService;
 
     public ReservationService(ReservationRepository reservationRepository,
                               GuestRepository guestRepository,
                               PaymentRepository paymentRepository,
-                              SpaceRepository spaceRepository) {
+                              SpaceRepository spaceRepository,
+                              SpaceAvailabilityIndex spaceAvailabilityIndex,
+                              SpaceBookingEngine spaceBookingEngine,
+                              TransactionTemplate transactionTemplate,
+                              SpaceCalendarService spaceCalendarService,
+                              ReservationHoldService reservationHoldService) {
         this.reservationRepository = reservationRepository;
         this.guestRepository = guestRepository;
         this.paymentRepository = paymentRepository;
         this.spaceRepository = spaceRepository;
+        this.spaceAvailabilityIndex = spaceAvailabilityIndex;
+        this.spaceBookingEngine = spaceBookingEngine;
+        this.transactionTemplate = transactionTemplate;
+        this.spaceCalendarService = spaceCalendarService;
+        this.reservationHoldService = reservationHoldService;
     }
 
-    @Transactional
+    // 예약 생성
+    // 같은 공간의 예약은 공간별 락 안에서 트랜잭션을 커밋까지 끝내고 다음 요청을 받아 순서대로 처리
+    // DB 에서도 공간 행을 잠근 뒤 겹치는 예약을 확인하므로 여러 서버가 동시에 같은 시간대를 예약해도 하나만 성공
+    // (락 안에서 커밋해야 하므로 @Transactional 대신 TransactionTemplate 사용)
     public Reservation createReservation(ReservationRequestDto dto) {
+        validateReservationTime(dto); // 입력 검증 + 이미 찬 시간대는 락을 기다리기 전에 거절
+        return spaceBookingEngine.withSpaceLock(dto.getSpaceId(), () -> transactionTemplate.execute(status ->
+                insertReservation(dto)));
+    }
+
+    private Reservation insertReservation(ReservationRequestDto dto) {
+        Space space = spaceRepository.findByIdForUpdate(dto.getSpaceId())
+                .orElseThrow(() -> new IllegalArgumentException("공간 정보 없음"));
+
+        // 겹침은 공간 행 잠금 안에서 DB 로만 판단 (메모리 인덱스가 다르게 답하면 그 공간만 DB 기준으로 다시 적재)
+        boolean overlapping = reservationRepository.existsActiveOverlap(space.getId(), dto.getStartTime(), dto.getEndTime(),
+                Reservation.ReservationStatus.CANCELLED);
+        spaceBookingEngine.syncIfStale(space.getId(), dto.getStartTime(), dto.getEndTime(), overlapping);
+        if (overlapping) {
+            throw new IllegalStateException("해당 시간대에 이미 예약이 존재합니다.");
+        }
+        // 다른 사용자가 결제 중인(임시 예약한) 시간대는 예약 불가, 본인 홀드는 통과
+        if (reservationHoldService.isHeldByOthers(space.getId(), dto.getStartTime(), dto.getEndTime(),
+                dto.getHoldId(), dto.getGuestId())) {
+            throw new IllegalStateException("다른 사용자가 결제 진행 중인 시간대입니다.");
+        }
+
         Guest guest = guestRepository.findById(dto.getGuestId())
                 .orElseThrow(() -> new IllegalArgumentException("게스트 정보 없음"));
 
         Payment payment = paymentRepository.findById(dto.getPaymentId())
                 .orElseThrow(() -> new IllegalArgumentException("결제 정보 없음"));
 
-        Space space = spaceRepository.findById(dto.getSpaceId())
+        Reservation reservation = newReservation(guest, space, dto.getBookingCapacity(), dto.getStartTime(), dto.getEndTime());
+        reservation.setPayment(payment);
+
+        Reservation saved = reservationRepository.save(reservation);
+        // 커밋된 예약만 예약 구간/예약 가능 시간 인덱스에 반영하고 임시 예약은 해제 (공간 락을 풀기 전에 실행됨)
+        GlobalUtil.afterCommit(() -> {
+            spaceBookingEngine.add(saved);
+            spaceAvailabilityIndex.add(saved);
+            spaceCalendarService.evict(saved);
+            reservationHoldService.release(dto.getHoldId(), guest.getId());
+        });
+        return saved;
+    }
+
+    record Occurrence(LocalDateTime start, LocalDateTime end) {
+    }
+
+    // 반복 예약 생성
+    // 반복 규칙을 회차로 펼친 뒤 공간 락 + 공간 행 잠금 안에서 전체 기간의 기존 예약과 임시 예약을 한 번씩만 조회해 회차별로 충돌 판단
+    // 충돌 없는 회차만 saveAll 한 번으로 저장 (hibernate.jdbc.batch_size 로 JDBC 배치 INSERT), 충돌한 회차는 사유와 함께 반환
+    public RecurringReservationResultDto createRecurringReservations(RecurringReservationRequestDto dto) {
+        List<Occurrence> occurrences = expandOccurrences(dto);
+        return spaceBookingEngine.withSpaceLock(dto.getSpaceId(), () -> transactionTemplate.execute(status ->
+                insertRecurringReservations(dto, occurrences)));
+    }
+
+    private RecurringReservationResultDto insertRecurringReservations(RecurringReservationRequestDto dto,
+                                                                      List<Occurrence> occurrences) {
+        Space space = spaceRepository.findByIdForUpdate(dto.getSpaceId())
                 .orElseThrow(() -> new IllegalArgumentException("공간 정보 없음"));
+        Guest guest = guestRepository.findById(dto.getGuestId())
+                .orElseThrow(() -> new IllegalArgumentException("게스트 정보 없음"));
+
+        // 회차는 시작 시간 순이고 길이가 같으므로 첫 회차 시작 ~ 마지막 회차 종료가 전체 기간
+        LocalDateTime rangeStart = occurrences.get(0).start();
+        LocalDateTime rangeEnd = occurrences.get(occurrences.size() - 1).end();
+
+        // 전체 기간의 활성 예약을 (space_id, start_time) 인덱스 범위 조회 한 번으로 가져와 시작 시간 -> 가장 늦은 종료 시간으로 보관
+        NavigableMap<LocalDateTime, LocalDateTime> busy = new TreeMap<>();
+        List<ReservationSlotView> slots = reservationRepository.findActiveSlotsStartingBetween(
+                space.getId(), rangeStart.minusDays(SpaceCalendarService.MAX_BOOKING_DAYS), rangeEnd, rangeStart,
+                Reservation.ReservationStatus.CANCELLED);
+        for (ReservationSlotView slot : slots) {
+            busy.merge(slot.getStartTime(), slot.getEndTime(), ReservationService::later);
+        }
+        List<ReservationHold> holds = reservationHoldService.findOverlapping(space.getId(), rangeStart, rangeEnd);
+
+        List<Reservation> accepted = new ArrayList<>();
+        List<RecurringReservationResultDto.Conflict> conflicts = new ArrayList<>();
+        for (Occurrence occurrence : occurrences) {
+            if (overlapsAny(busy, occurrence)) {
+                conflicts.add(new RecurringReservationResultDto.Conflict(
+                        occurrence.start(), occurrence.end(), "해당 시간대에 이미 예약이 존재합니다."));
+                continue;
+            }
+            long startMillis = GlobalUtil.toEpochMillis(occurrence.start());
+            long endMillis = GlobalUtil.toEpochMillis(occurrence.end());
+            if (holds.stream().anyMatch(hold -> hold.overlaps(startMillis, endMillis)
+                    && !hold.isOwnHoldFor(dto.getHoldId(), guest.getId(), space.getId(), startMillis, endMillis))) {
+                conflicts.add(new RecurringReservationResultDto.Conflict(
+                        occurrence.start(), occurrence.end(), "다른 사용자가 결제 진행 중인 시간대입니다."));
+                continue;
+            }
+            accepted.add(newReservation(guest, space, dto.getBookingCapacity(), occurrence.start(), occurrence.end()));
+            busy.merge(occurrence.start(), occurrence.end(), ReservationService::later); // 회차끼리 겹치는 경우도 확인
+        }
+
+        List<Reservation> saved = reservationRepository.saveAll(accepted);
+        GlobalUtil.afterCommit(() -> {
+            for (Reservation reservation : saved) {
+                spaceBookingEngine.add(reservation);
+                spaceAvailabilityIndex.add(reservation);
+                spaceCalendarService.evict(reservation);
+            }
+            reservationHoldService.release(dto.getHoldId(), guest.getId());
+        });
+        log.info("반복 예약 생성. 공간 ID: {}, 회차: {}, 생성: {}, 충돌: {}",
+                space.getId(), occurrences.size(), saved.size(), conflicts.size());
+
+        return RecurringReservationResultDto.builder()
+                .spaceId(space.getId())
+                .requestedCount(occurrences.size())
+                .createdCount(saved.size())
+                .created(saved.stream()
+                        .map(r -> new RecurringReservationResultDto.Created(r.getId(), r.getStartTime(), r.getEndTime()))
+                        .toList())
+                .conflicts(conflicts)
+                .build();
+    }
+
+    // 반복 규칙을 회차 목록으로 펼침 (첫 회차와 같은 시각/길이, 최대 MAX_RECURRING_OCCURRENCES 회, MAX_RECURRING_DAYS 일 이내)
+    static List<Occurrence> expandOccurrences(RecurringReservationRequestDto dto) {
+        if (dto.getSpaceId() == null || dto.getGuestId() == null || dto.getStartTime() == null
+                || dto.getEndTime() == null || dto.getFrequency() == null) {
+            throw new IllegalArgumentException("공간, 게스트, 예약 시간과 반복 단위를 입력해주세요.");
+        }
+        if (!dto.getStartTime().isBefore(dto.getEndTime())) {
+            throw new IllegalArgumentException("시작 시간은 종료 시간보다 빨라야 합니다.");
+        }
+        if (!dto.getStartTime().isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("첫 회차 시작 시간은 현재 이후여야 합니다.");
+        }
+        if (dto.getEndTime().isAfter(dto.getStartTime().plusDays(SpaceCalendarService.MAX_BOOKING_DAYS))) {
+            throw new IllegalArgumentException("예약은 최대 " + SpaceCalendarService.MAX_BOOKING_DAYS + "일까지 가능합니다.");
+        }
+        if (dto.getInterval() < 1) {
+            throw new IllegalArgumentException("반복 간격은 1 이상이어야 합니다.");
+        }
+        if (dto.getCount() == null && dto.getUntil() == null) {
+            throw new IllegalArgumentException("반복 회차 수 또는 종료 날짜를 입력해주세요.");
+        }
+        if (dto.getCount() != null && (dto.getCount() < 1 || dto.getCount() > MAX_RECURRING_OCCURRENCES)) {
+            throw new IllegalArgumentException("반복 예약은 최대 " + MAX_RECURRING_OCCURRENCES + "회까지 가능합니다.");
+        }
 
+        Duration length = Duration.between(dto.getStartTime(), dto.getEndTime());
+        LocalDate firstDay = dto.getStartTime().toLocalDate();
+        LocalDate firstWeek = firstDay.with(DayOfWeek.MONDAY);
+        LocalDate lastDay = firstDay.plusDays(MAX_RECURRING_DAYS - 1);
+        if (dto.getUntil() != null && dto.getUntil().isBefore(lastDay)) {
+            lastDay = dto.getUntil();
+        }
+        boolean weekly = dto.getFrequency() == RecurringReservationRequestDto.Frequency.WEEKLY;
+        Set<DayOfWeek> daysOfWeek = weekly && dto.getDaysOfWeek() != null && !dto.getDaysOfWeek().isEmpty()
+                ? dto.getDaysOfWeek()
+                : Set.of(firstDay.getDayOfWeek());
+        // 종료 날짜만 지정한 경우 한도를 넘는지 알 수 있도록 한 회차 더 펼쳐 봄
+        int limit = dto.getCount() != null ? dto.getCount() : MAX_RECURRING_OCCURRENCES + 1;
+
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (LocalDate day = firstDay; !day.isAfter(lastDay) && occurrences.size() < limit; day = day.plusDays(1)) {
+            boolean matches = weekly
+                    ? daysOfWeek.contains(day.getDayOfWeek())
+                    && ChronoUnit.WEEKS.between(firstWeek, day.with(DayOfWeek.MONDAY)) % dto.getInterval() == 0
+                    : ChronoUnit.DAYS.between(firstDay, day) % dto.getInterval() == 0;
+            if (matches) {
+                LocalDateTime start = day.atTime(dto.getStartTime().toLocalTime());
+                occurrences.add(new Occurrence(start, start.plus(length)));
+            }
+        }
+        if (occurrences.isEmpty()) {
+            throw new IllegalArgumentException("반복 규칙에 해당하는 회차가 없습니다.");
+        }
+        if (occurrences.size() > MAX_RECURRING_OCCURRENCES) {
+            throw new IllegalArgumentException("반복 예약은 최대 " + MAX_RECURRING_OCCURRENCES + "회까지 가능합니다.");
+        }
+        return occurrences;
+    }
+
+    // 시작 시간이 (회차 시작 - 최대 예약 길이) 이후인 예약 중 회차 시작 이후에 끝나는 것이 있으면 겹침
+    private static boolean overlapsAny(NavigableMap<LocalDateTime, LocalDateTime> busy, Occurrence occurrence) {
+        for (LocalDateTime end : busy.subMap(occurrence.start().minusDays(SpaceCalendarService.MAX_BOOKING_DAYS), true,
+                occurrence.end(), false).values()) {
+            if (end.isAfter(occurrence.start())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static Reservation newReservation(Guest guest, Space space, int bookingCapacity,
+                                              LocalDateTime start, LocalDateTime end) {
         Reservation reservation = new Reservation();
         reservation.setGuest(guest);
-        reservation.setPayment(payment);
         reservation.setSpace(space);
         reservation.setReservationDate(LocalDateTime.now());
-        reservation.setBookingCapacity(dto.getBookingCapacity());
-        reservation.setStartTime(dto.getStartTime());
-        reservation.setEndTime(dto.getEndTime());
-
-        return reservationRepository.save(reservation);
+        reservation.setBookingCapacity(bookingCapacity);
+        reservation.setStartTime(start);
+        reservation.setEndTime(end);
+        reservation.setStatus(Reservation.ReservationStatus.PENDING);
+        return reservation;
     }
 
     //예약 가능시간 확인
     public void validateReservationTime(ReservationRequestDto request) {
+        if (request.getSpaceId() == null || request.getStartTime() == null || request.getEndTime() == null) {
+            throw new IllegalArgumentException("공간과 예약 시간을 입력해주세요.");
+        }
+
         // 시작 시간이 종료 시간보다 나중이면 예외 발생
         if (!request.getStartTime().isBefore(request.getEndTime())) {
             throw new IllegalArgumentException("시작 시간은 종료 시간보다 빨라야 합니다.");
         }
 
-        // 중복 예약 검사 (구현 필요)
-        // boolean isOverlapping = reservationRepository.existsByStartTimeLessThanAndEndTimeGreaterThan(
-        //         request.getEndTime(), request.getStartTime());
+        // 예약 달력은 최대 예약 길이를 기준으로 조회 범위를 잡으므로 그보다 긴 예약은 받지 않음
+        if (request.getEndTime().isAfter(request.getStartTime().plusDays(SpaceCalendarService.MAX_BOOKING_DAYS))) {
+            throw new IllegalArgumentException("예약은 최대 " + SpaceCalendarService.MAX_BOOKING_DAYS + "일까지 가능합니다.");
+        }
 
-        // if (isOverlapping) {
-        //     throw new IllegalStateException("해당 시간대에 이미 예약이 존재합니다.");
-        // }
+        // 중복 예약 검사: 메모리 인덱스가 겹친다고 할 때만 DB 로 확인해 거절 (인덱스만으로는 거절하지 않음)
+        // 최종 확인은 예약 생성 시 공간 락 + 공간 행 잠금 안에서 다시 수행
+        if (spaceBookingEngine.overlaps(request.getSpaceId(), request.getStartTime(), request.getEndTime())
+                && reservationRepository.existsActiveOverlap(request.getSpaceId(), request.getStartTime(),
+                request.getEndTime(), Reservation.ReservationStatus.CANCELLED)) {
+            throw new IllegalStateException("해당 시간대에 이미 예약이 존재합니다.");
+        }
+        if (reservationHoldService.isHeldByOthers(request.getSpaceId(), request.getStartTime(), request.getEndTime(),
+                request.getHoldId(), request.getGuestId())) {
+            throw new IllegalStateException("다른 사용자가 결제 진행 중인 시간대입니다.");
+        }
     }
 
     public Optional<Object> getReservation(Long id) {
@@ -83,7 +315,18 @@ public class ReservationService {
         return null;
     }
 
+    @Transactional
     public Reservation cancelReservation(Long id) {
-        return null;
+        Reservation reservation = reservationRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("예약 정보 없음"));
+
+        reservation.setStatus(Reservation.ReservationStatus.CANCELLED);
+        // 취소가 커밋된 뒤 해당 시간대를 다시 예약 가능으로 표시
+        GlobalUtil.afterCommit(() -> {
+            spaceBookingEngine.remove(reservation);
+            spaceAvailabilityIndex.remove(reservation);
+            spaceCalendarService.evict(reservation);
+        });
+        return reservation;
     }
 }
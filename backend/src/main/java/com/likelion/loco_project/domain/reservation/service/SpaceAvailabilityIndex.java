@@ -0,0 +1,209 @@
+package com.likelion.loco_project.domain.reservation.service;
+
+import com.likelion.loco_project.domain.reservation.dto.ReservationSlotView;
+import com.likelion.loco_project.domain.reservation.entity.Reservation;
+import com.likelion.loco_project.domain.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+// 공간별 예약 점유 비트맵
+// 하루를 30분 단위 48칸으로 나누고 한 날짜를 long 하나(48비트)에 담음, 비트가 1이면 그 시간대에 예약이 있음
+// "토요일 14:00~18:00 예약 가능" 같은 조건을 공간별 예약 조회 없이 비트 연산 한 번으로 확인
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceAvailabilityIndex {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int SLOT_SECONDS = SLOT_MINUTES * 60;
+
+    private final ReservationRepository reservationRepository;
+
+    // 공간 ID -> (날짜 -> 점유 비트맵)
+    private final Map<Long, Map<LocalDate, Long>> bitmaps = new ConcurrentHashMap<>();
+    // 공간 ID -> (예약 ID -> 예약 구간), 취소 시 겹쳐 있던 다른 예약의 칸까지 지우지 않도록 날짜 비트맵을 다시 계산할 때 사용
+    private final Map<Long, Map<Long, Interval>> intervals = new ConcurrentHashMap<>();
+    // 예약이 추가/취소될 때마다 증가 (예약 가능 조건이 들어간 검색 결과 캐시 키에 사용)
+    private final AtomicLong version = new AtomicLong();
+    private volatile boolean loaded = false;
+
+    private record Interval(LocalDateTime start, LocalDateTime end) {
+    }
+
+    // 애플리케이션 시작 시 아직 끝나지 않은(취소되지 않은) 예약만 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        List<ReservationSlotView> rows = reservationRepository.findActiveSlotsEndingAfter(
+                LocalDateTime.now(), Reservation.ReservationStatus.CANCELLED);
+        for (ReservationSlotView row : rows) {
+            if (row.getSpaceId() != null) {
+                add(row.getId(), row.getSpaceId(), row.getStartTime(), row.getEndTime());
+            }
+        }
+        loaded = true;
+        log.info("예약 가능 시간 인덱스 적재 완료. 예약 수: {}, 소요 시간: {}ms", rows.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public void add(Reservation reservation) {
+        if (reservation.getId() == null || reservation.getSpace() == null) {
+            return;
+        }
+        add(reservation.getId(), reservation.getSpace().getId(), reservation.getStartTime(), reservation.getEndTime());
+    }
+
+    public void remove(Reservation reservation) {
+        if (reservation.getId() == null || reservation.getSpace() == null) {
+            return;
+        }
+        remove(reservation.getId(), reservation.getSpace().getId());
+    }
+
+    public synchronized void add(long reservationId, long spaceId, LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null || !start.isBefore(end)) {
+            return;
+        }
+        intervals.computeIfAbsent(spaceId, k -> new ConcurrentHashMap<>()).put(reservationId, new Interval(start, end));
+        Map<LocalDate, Long> days = bitmaps.computeIfAbsent(spaceId, k -> new ConcurrentHashMap<>());
+        forEachDayMask(start, end, (day, mask) -> days.merge(day, mask, (a, b) -> a | b));
+        version.incrementAndGet();
+    }
+
+    public synchronized void remove(long reservationId, long spaceId) {
+        Map<Long, Interval> spaceIntervals = intervals.get(spaceId);
+        Interval removed = spaceIntervals == null ? null : spaceIntervals.remove(reservationId);
+        if (removed == null) {
+            return;
+        }
+
+        // 취소된 예약이 걸쳐 있던 날짜만 남은 예약으로 다시 계산
+        Map<LocalDate, Long> days = bitmaps.get(spaceId);
+        Set<LocalDate> touched = new HashSet<>();
+        forEachDayMask(removed.start(), removed.end(), (day, mask) -> {
+            touched.add(day);
+            days.remove(day);
+        });
+        for (Interval other : spaceIntervals.values()) {
+            forEachDayMask(other.start(), other.end(), (day, mask) -> {
+                if (touched.contains(day)) {
+                    days.merge(day, mask, (a, b) -> a | b);
+                }
+            });
+        }
+
+        if (spaceIntervals.isEmpty()) {
+            intervals.remove(spaceId);
+            bitmaps.remove(spaceId);
+        }
+        version.incrementAndGet();
+    }
+
+    // 해당 공간이 [start, end) 시간 동안 비어 있는지
+    public boolean isAvailable(long spaceId, LocalDateTime start, LocalDateTime end) {
+        Map<LocalDate, Long> days = bitmaps.get(spaceId);
+        if (days == null) {
+            return true;
+        }
+        for (Map.Entry<LocalDate, Long> window : windowMasks(start, end).entrySet()) {
+            if ((days.getOrDefault(window.getKey(), 0L) & window.getValue()) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // [start, end) 시간에 예약이 하나라도 걸려 있는 공간 ID 목록
+    // 예약이 있는 공간만 한 번 훑으므로 검색 후보 수와 관계없이 비용이 일정
+    public Set<Long> findBusySpaceIds(LocalDateTime start, LocalDateTime end) {
+        Map<LocalDate, Long> window = windowMasks(start, end);
+        Set<Long> busy = new HashSet<>();
+        bitmaps.forEach((spaceId, days) -> {
+            for (Map.Entry<LocalDate, Long> entry : window.entrySet()) {
+                if ((days.getOrDefault(entry.getKey(), 0L) & entry.getValue()) != 0) {
+                    busy.add(spaceId);
+                    return;
+                }
+            }
+        });
+        return busy;
+    }
+
+    // 검색 조건용 [start, end) 에 예약이 있는 공간 ID 목록
+    // 인덱스 적재 전에는 DB 에서 겹치는 예약을 직접 조회 (예약 가능 조건을 건너뛴 결과가 나가거나 캐시되지 않도록)
+    public Set<Long> findBusySpaceIdsOrQuery(LocalDateTime start, LocalDateTime end) {
+        if (loaded) {
+            return findBusySpaceIds(start, end);
+        }
+        return new HashSet<>(reservationRepository.findActiveSpaceIdsOverlapping(
+                start, end, Reservation.ReservationStatus.CANCELLED));
+    }
+
+    // 하루의 점유 비트맵 (예약이 없으면 0)
+    public long getDayBitmap(long spaceId, LocalDate day) {
+        Map<LocalDate, Long> days = bitmaps.get(spaceId);
+        return days == null ? 0L : days.getOrDefault(day, 0L);
+    }
+
+    // 매일 새벽 지난 날짜의 비트맵과 끝난 예약 구간을 정리
+    @Scheduled(cron = "0 0 4 * * *")
+    public synchronized void pruneExpired() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        bitmaps.values().forEach(days -> days.keySet().removeIf(day -> day.isBefore(today)));
+        bitmaps.values().removeIf(Map::isEmpty);
+        intervals.values().forEach(spaceIntervals -> spaceIntervals.values().removeIf(interval -> !interval.end().isAfter(now)));
+        intervals.values().removeIf(Map::isEmpty);
+    }
+
+    private static Map<LocalDate, Long> windowMasks(LocalDateTime start, LocalDateTime end) {
+        Map<LocalDate, Long> masks = new LinkedHashMap<>();
+        forEachDayMask(start, end, masks::put);
+        return masks;
+    }
+
+    // [start, end) 구간을 날짜별 비트 마스크로 나눠 전달 (30분 칸에 조금이라도 걸치면 해당 칸 포함)
+    static void forEachDayMask(LocalDateTime start, LocalDateTime end, BiConsumer<LocalDate, Long> consumer) {
+        if (start == null || end == null || !start.isBefore(end)) {
+            return;
+        }
+        LocalDate day = start.toLocalDate();
+        LocalDate lastDay = end.minusNanos(1).toLocalDate(); // 자정 정각에 끝나면 다음 날은 포함하지 않음
+        while (!day.isAfter(lastDay)) {
+            LocalDateTime dayStart = day.atStartOfDay();
+            LocalDateTime nextDayStart = dayStart.plusDays(1);
+            int fromSlot = start.isAfter(dayStart) ? start.toLocalTime().toSecondOfDay() / SLOT_SECONDS : 0;
+            int toSlot = end.isBefore(nextDayStart)
+                    ? (end.toLocalTime().toSecondOfDay() + SLOT_SECONDS - 1) / SLOT_SECONDS
+                    : SLOTS_PER_DAY;
+            if (toSlot > fromSlot) {
+                consumer.accept(day, rangeMask(fromSlot, toSlot));
+            }
+            day = day.plusDays(1);
+        }
+    }
+
+    // fromSlot 이상 toSlot 미만 칸의 비트가 1인 마스크
+    private static long rangeMask(int fromSlot, int toSlot) {
+        return ((1L << (toSlot - fromSlot)) - 1) << fromSlot;
+    }
+}
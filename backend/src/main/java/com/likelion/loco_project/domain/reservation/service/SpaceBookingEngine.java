@@ -0,0 +1,217 @@
+package com.likelion.loco_project.domain.reservation.service;
+
+import com.likelion.loco_project.domain.reservation.dto.ReservationSlotView;
+import com.likelion.loco_project.domain.reservation.entity.Reservation;
+import com.likelion.loco_project.domain.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// 예약 생성 엔진: 공간별 예약 구간 인덱스 + 공간 단위 쓰기 직렬화
+// - 공간마다 대기/확정 예약을 시작 시간 순으로 보관해, 겹침 여부를 DB 조회 없이 빠르게 추정
+// - 이 서버에서 커밋된 변경만 반영되므로 (다른 서버의 예약/취소는 모름) 참고용이며, 예약 가능 여부는 항상
+//   호출하는 쪽에서 공간 행 잠금 + DB 겹침 확인으로 판단하고 결과가 다르면 syncIfStale 로 그 공간만 다시 적재
+// - 같은 공간의 예약 생성은 줄무늬(striped) 락으로 한 번에 하나씩 처리 (서로 다른 공간은 동시에 처리)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceBookingEngine {
+
+    private static final int LOCK_STRIPES = 64; // 2의 거듭제곱
+
+    private final ReservationRepository reservationRepository;
+
+    private final ReentrantLock[] stripes = createStripes();
+    private final Map<Long, Schedule> schedules = new ConcurrentHashMap<>(); // 공간 ID -> 예약 구간
+    private volatile boolean loaded = false;
+
+    // 한 공간의 예약 구간 (시작 시간 -> (예약 ID -> 종료 시간))
+    // 겹치는 예약은 시작 시간이 (조회 시작 - 가장 긴 예약 길이) 이후인 것들 뿐이므로 그 범위만 확인
+    private static final class Schedule {
+        private final TreeMap<LocalDateTime, Map<Long, LocalDateTime>> byStart = new TreeMap<>();
+        private final Map<Long, LocalDateTime> startById = new HashMap<>();
+        private Duration longest = Duration.ZERO;
+
+        synchronized boolean overlaps(LocalDateTime start, LocalDateTime end) {
+            NavigableMap<LocalDateTime, Map<Long, LocalDateTime>> candidates =
+                    byStart.subMap(start.minus(longest), true, end, false);
+            for (Map<Long, LocalDateTime> ends : candidates.values()) {
+                for (LocalDateTime otherEnd : ends.values()) {
+                    if (otherEnd.isAfter(start)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        synchronized void add(long reservationId, LocalDateTime start, LocalDateTime end) {
+            remove(reservationId);
+            byStart.computeIfAbsent(start, k -> new HashMap<>(2)).put(reservationId, end);
+            startById.put(reservationId, start);
+            Duration length = Duration.between(start, end);
+            if (length.compareTo(longest) > 0) {
+                longest = length;
+            }
+        }
+
+        synchronized void remove(long reservationId) {
+            LocalDateTime start = startById.remove(reservationId);
+            if (start == null) {
+                return;
+            }
+            Map<Long, LocalDateTime> ends = byStart.get(start);
+            ends.remove(reservationId);
+            if (ends.isEmpty()) {
+                byStart.remove(start);
+            }
+        }
+
+        synchronized boolean isEmpty() {
+            return byStart.isEmpty();
+        }
+
+        // 끝난 예약 정리 (남은 예약이 없으면 true)
+        synchronized boolean pruneEndedBefore(LocalDateTime now) {
+            Iterator<Map<Long, LocalDateTime>> iterator = byStart.values().iterator();
+            while (iterator.hasNext()) {
+                Map<Long, LocalDateTime> ends = iterator.next();
+                ends.entrySet().removeIf(entry -> {
+                    if (entry.getValue().isAfter(now)) {
+                        return false;
+                    }
+                    startById.remove(entry.getKey());
+                    return true;
+                });
+                if (ends.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+            return byStart.isEmpty();
+        }
+    }
+
+    private static ReentrantLock[] createStripes() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    // 애플리케이션 시작 시 아직 끝나지 않은 대기/확정 예약을 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        List<ReservationSlotView> rows = reservationRepository.findActiveSlotsEndingAfter(
+                LocalDateTime.now(), Reservation.ReservationStatus.CANCELLED);
+        for (ReservationSlotView row : rows) {
+            if (row.getSpaceId() != null) {
+                add(row.getId(), row.getSpaceId(), row.getStartTime(), row.getEndTime());
+            }
+        }
+        loaded = true;
+        log.info("예약 구간 인덱스 적재 완료. 예약 수: {}, 소요 시간: {}ms", rows.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // [start, end) 와 겹치는 대기/확정 예약이 이 서버가 아는 범위에서 있는지 (인덱스 적재 전에는 false)
+    public boolean overlaps(long spaceId, LocalDateTime start, LocalDateTime end) {
+        Schedule schedule = schedules.get(spaceId);
+        return schedule != null && schedule.overlaps(start, end);
+    }
+
+    // 공간 행 잠금 안에서 DB 로 확인한 겹침 여부와 인덱스의 답이 다르면 그 공간의 구간을 DB 기준으로 다시 적재
+    // (같은 공간의 추가와 섞이지 않도록 withSpaceLock 안에서 호출)
+    public void syncIfStale(long spaceId, LocalDateTime start, LocalDateTime end, boolean overlapsInDb) {
+        if (overlaps(spaceId, start, end) != overlapsInDb) {
+            reload(spaceId);
+        }
+    }
+
+    // 한 공간의 아직 끝나지 않은 대기/확정 예약을 DB 에서 다시 읽어 교체
+    public void reload(long spaceId) {
+        Schedule schedule = new Schedule();
+        for (ReservationSlotView row : reservationRepository.findActiveSlotsOfSpaceEndingAfter(
+                spaceId, LocalDateTime.now(), Reservation.ReservationStatus.CANCELLED)) {
+            if (row.getStartTime() != null && row.getEndTime() != null && row.getStartTime().isBefore(row.getEndTime())) {
+                schedule.add(row.getId(), row.getStartTime(), row.getEndTime());
+            }
+        }
+        schedules.compute(spaceId, (id, old) -> schedule.isEmpty() ? null : schedule);
+        log.debug("예약 구간 인덱스를 DB 기준으로 다시 적재. 공간 ID: {}", spaceId);
+    }
+
+    // 같은 공간에 대한 작업을 한 번에 하나씩 실행 (action 안에서 트랜잭션을 커밋까지 끝내야 함)
+    public <T> T withSpaceLock(long spaceId, Supplier<T> action) {
+        ReentrantLock lock = stripes[stripeIndex(spaceId)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void add(Reservation reservation) {
+        if (reservation.getId() == null || reservation.getSpace() == null) {
+            return;
+        }
+        add(reservation.getId(), reservation.getSpace().getId(), reservation.getStartTime(), reservation.getEndTime());
+    }
+
+    public void add(long reservationId, long spaceId, LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null || !start.isBefore(end)) {
+            return;
+        }
+        // 정리 작업과 겹쳐도 구간이 사라지지 않도록 공간 단위로 원자적으로 추가
+        schedules.compute(spaceId, (id, schedule) -> {
+            Schedule target = schedule == null ? new Schedule() : schedule;
+            target.add(reservationId, start, end);
+            return target;
+        });
+    }
+
+    public void remove(Reservation reservation) {
+        if (reservation.getId() == null || reservation.getSpace() == null) {
+            return;
+        }
+        Schedule schedule = schedules.get(reservation.getSpace().getId());
+        if (schedule != null) {
+            schedule.remove(reservation.getId());
+        }
+    }
+
+    // 매일 새벽 끝난 예약 구간 정리
+    @Scheduled(cron = "0 10 4 * * *")
+    public void pruneExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long spaceId : schedules.keySet()) {
+            schedules.computeIfPresent(spaceId, (id, schedule) -> schedule.pruneEndedBefore(now) ? null : schedule);
+        }
+    }
+
+    // 공간 ID 를 섞어 줄무늬 락 하나를 고름 (연속된 ID 가 같은 락에 몰리지 않도록)
+    static int stripeIndex(long spaceId) {
+        long h = spaceId * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 58) & (LOCK_STRIPES - 1);
+    }
+}
@@ -0,0 +1,85 @@
+package com.likelion.loco_project.domain.reservation.service;
+
+import com.likelion.loco_project.domain.reservation.dto.ReservationSlotView;
+import com.likelion.loco_project.domain.reservation.dto.SpaceMonthCalendarDto;
+import com.likelion.loco_project.domain.reservation.entity.Reservation;
+import com.likelion.loco_project.domain.reservation.repository.ReservationRepository;
+import com.likelion.loco_project.domain.space.repository.SpaceRepository;
+import com.likelion.loco_project.global.cache.LocalCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+// 공간의 월별 예약 달력
+// 해당 월에 걸친 예약만 (space_id, start_time) 인덱스 범위 조회 한 번으로 가져와 날짜별 점유 비트맵으로 만들고 캐시
+@Service
+@RequiredArgsConstructor
+public class SpaceCalendarService {
+
+    // 예약 한 건의 최대 길이 (달 시작 전에 시작해 이번 달까지 이어지는 예약을 찾기 위해 조회 범위를 이만큼 앞으로 넓힘)
+    public static final int MAX_BOOKING_DAYS = 7;
+    private static final long FULL_DAY = (1L << SpaceAvailabilityIndex.SLOTS_PER_DAY) - 1;
+
+    private final ReservationRepository reservationRepository;
+    private final SpaceRepository spaceRepository;
+    private final LocalCache<String, SpaceMonthCalendarDto> spaceCalendarCache;
+
+    @Transactional(readOnly = true)
+    public SpaceMonthCalendarDto getMonthCalendar(Long spaceId, YearMonth month) {
+        return spaceCalendarCache.get(cacheKey(spaceId, month), key -> buildCalendar(spaceId, month));
+    }
+
+    private SpaceMonthCalendarDto buildCalendar(Long spaceId, YearMonth month) {
+        if (!spaceRepository.existsById(spaceId)) {
+            throw new IllegalArgumentException("공간 정보 없음");
+        }
+        LocalDateTime monthStart = month.atDay(1).atStartOfDay();
+        LocalDateTime monthEnd = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        long[] bitmaps = new long[month.lengthOfMonth()];
+        List<ReservationSlotView> rows = reservationRepository.findActiveSlotsStartingBetween(
+                spaceId, monthStart.minusDays(MAX_BOOKING_DAYS), monthEnd, monthStart,
+                Reservation.ReservationStatus.CANCELLED);
+        for (ReservationSlotView row : rows) {
+            SpaceAvailabilityIndex.forEachDayMask(row.getStartTime(), row.getEndTime(), (day, mask) -> {
+                if (YearMonth.from(day).equals(month)) {
+                    bitmaps[day.getDayOfMonth() - 1] |= mask;
+                }
+            });
+        }
+
+        List<SpaceMonthCalendarDto.Day> days = new ArrayList<>(bitmaps.length);
+        for (int i = 0; i < bitmaps.length; i++) {
+            LocalDate date = month.atDay(i + 1);
+            days.add(new SpaceMonthCalendarDto.Day(date, bitmaps[i], bitmaps[i] == FULL_DAY));
+        }
+        return SpaceMonthCalendarDto.builder()
+                .spaceId(spaceId)
+                .month(month.toString())
+                .slotMinutes(SpaceAvailabilityIndex.SLOT_MINUTES)
+                .slotsPerDay(SpaceAvailabilityIndex.SLOTS_PER_DAY)
+                .days(days)
+                .build();
+    }
+
+    // 예약 생성/취소가 커밋된 뒤 호출, 예약이 걸친 달의 달력만 무효화
+    public void evict(Reservation reservation) {
+        if (reservation.getSpace() == null || reservation.getStartTime() == null || reservation.getEndTime() == null) {
+            return;
+        }
+        YearMonth last = YearMonth.from(reservation.getEndTime().minusNanos(1));
+        for (YearMonth month = YearMonth.from(reservation.getStartTime()); !month.isAfter(last); month = month.plusMonths(1)) {
+            spaceCalendarCache.invalidate(cacheKey(reservation.getSpace().getId(), month));
+        }
+    }
+
+    private static String cacheKey(Long spaceId, YearMonth month) {
+        return spaceId + ":" + month;
+    }
+}
@@ -2,6 +2,7 @@ package com.likelion.loco_project.domain.review.controller;
 
 import com.likelion.loco_project.domain.review.dto.ReviewRequestDto;
 import com.likelion.loco_project.domain.review.dto.ReviewResponseDto;
+import com.likelion.loco_project.domain.review.dto.SpaceRatingSummaryDto;
 import com.likelion.loco_project.domain.review.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -95,6 +96,21 @@ public class GuestReviewController {
         return ResponseEntity.ok(reviewService.getReviewsBySpace(spaceId, sort));
     }
 
+    @Operation(
+        summary = "공간 평점 요약 조회",
+        description = "특정 공간의 평균 평점, 리뷰 수, 평점별 리뷰 수를 조회합니다.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "평점 요약 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "공간을 찾을 수 없음")
+        }
+    )
+    @GetMapping("/space/{spaceId}/summary")
+    public ResponseEntity<SpaceRatingSummaryDto> getRatingSummary(
+            @Parameter(description = "평점 요약을 조회할 공간 ID", required = true)
+            @PathVariable Long spaceId) {
+        return ResponseEntity.ok(reviewService.getRatingSummary(spaceId));
+    }
+
     @Operation(
         summary = "게스트별 리뷰 조회",
         description = "특정 게스트가 작성한 리뷰 목록을 조회합니다.",
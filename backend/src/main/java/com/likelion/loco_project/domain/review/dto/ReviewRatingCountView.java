@@ -0,0 +1,8 @@
+package com.likelion.loco_project.domain.review.dto;
+
+// 공간별/평점별 리뷰 수 집계 프로젝션
+public interface ReviewRatingCountView {
+    Long getSpaceId();
+    Integer getRating();
+    Long getReviewCount();
+}
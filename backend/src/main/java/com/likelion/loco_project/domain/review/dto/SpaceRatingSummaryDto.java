@@ -0,0 +1,30 @@
+package com.likelion.loco_project.domain.review.dto;
+
+import com.likelion.loco_project.domain.space.entity.Space;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// 공간 평점 요약 (공간에 저장된 집계 값을 그대로 사용)
+@Getter
+@Builder
+public class SpaceRatingSummaryDto {
+
+    private Long spaceId;
+    private BigDecimal averageRating; // 평균 평점 (리뷰가 없으면 null)
+    private long reviewCount;         // 리뷰 수
+    private long[] histogram;         // 평점별 리뷰 수 (index 0 = 1점)
+
+    public static SpaceRatingSummaryDto from(Space space) {
+        long[] histogram = space.getRatingHistogram() == null || space.getRatingHistogram().length != Space.MAX_RATING
+                ? new long[Space.MAX_RATING]
+                : space.getRatingHistogram().clone();
+        return SpaceRatingSummaryDto.builder()
+                .spaceId(space.getId())
+                .averageRating(space.getSpaceRating())
+                .reviewCount(space.getReviewCount() == null ? 0L : space.getReviewCount())
+                .histogram(histogram)
+                .build();
+    }
+}
@@ -1,8 +1,10 @@
 package com.likelion.loco_project.domain.review.repository;
 
+import com.likelion.loco_project.domain.review.dto.ReviewRatingCountView;
 import com.likelion.loco_project.domain.review.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -27,4 +29,12 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     // 전체 (관리자 등)
     List<Review> findAllByIsDeletedFalse();
+
+    // 공간별/평점별 리뷰 수 (삭제되지 않은 리뷰 기준, 공간 평점 집계 보정용)
+    @Query("SELECT r.space.id AS spaceId, r.rating AS rating, COUNT(r) AS reviewCount FROM Review r WHERE r.isDeleted = false GROUP BY r.space.id, r.rating")
+    List<ReviewRatingCountView> countRatingsGroupBySpace();
+
+    // 특정 공간의 평점별 리뷰 수
+    @Query("SELECT r.space.id AS spaceId, r.rating AS rating, COUNT(r) AS reviewCount FROM Review r WHERE r.space.id = :spaceId AND r.isDeleted = false GROUP BY r.space.id, r.rating")
+    List<ReviewRatingCountView> countRatingsBySpaceId(@Param("spaceId") Long spaceId);
 }
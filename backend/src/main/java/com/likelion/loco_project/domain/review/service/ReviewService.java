@@ -1,11 +1,18 @@
 package com.likelion.loco_project.domain.review.service;
 
+import com.likelion.loco_project.domain.guest.entity.Guest;
+import com.likelion.loco_project.domain.guest.repository.GuestRepository;
 import com.likelion.loco_project.domain.review.dto.ReviewRequestDto;
 import com.likelion.loco_project.domain.review.dto.ReviewResponseDto;
+import com.likelion.loco_project.domain.review.dto.SpaceRatingSummaryDto;
 import com.likelion.loco_project.domain.review.entity.Review;
 import com.likelion.loco_project.domain.review.repository.ReviewRepository;
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.repository.SpaceRepository;
+import com.likelion.loco_project.domain.space.service.SpaceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,46 +22,70 @@ import java.util.stream.Collectors;
 public class ReviewService {
 
     private final ReviewRepository reviewRepository;
+    private final GuestRepository guestRepository;
+    private final SpaceRepository spaceRepository;
+    private final SpaceService spaceService;
 
+    // 리뷰 작성 (공간 평점 집계도 같은 트랜잭션에서 갱신)
+    @Transactional
     public ReviewResponseDto createReview(Long guestId, ReviewRequestDto requestDto) {
+        validateRating(requestDto.getRating());
+        Guest guest = guestRepository.findById(guestId)
+                .orElseThrow(() -> new IllegalArgumentException("게스트 정보 없음"));
+        Space space = spaceRepository.findById(requestDto.getSpaceId())
+                .orElseThrow(() -> new IllegalArgumentException("공간 정보 없음"));
+
         Review review = Review.builder()
-                //.guestId(guestId)
-                //.spaceId(requestDto.getSpaceId())
+                .guest(guest)
+                .space(space)
                 .rating(requestDto.getRating())
                 .content(requestDto.getContent())
                 .build();
         reviewRepository.save(review);
-        //return ReviewResponseDto.fromEntity(review);
-        return null;
+        spaceService.applyReviewRating(space.getId(), review.getRating(), null);
+        return ReviewResponseDto.from(review);
     }
 
+    @Transactional
     public ReviewResponseDto updateReview(Long reviewId, Long guestId, ReviewRequestDto requestDto) {
-        Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
+        validateRating(requestDto.getRating());
+        Review review = findActiveReview(reviewId);
 
-//        if (!review.getGuestId().equals(guestId)) {
-//            throw new SecurityException("작성자만 수정할 수 있습니다.");
-//        }
+        if (!review.getGuest().getId().equals(guestId)) {
+            throw new SecurityException("작성자만 수정할 수 있습니다.");
+        }
 
-//        review.update(requestDto.getRating(), requestDto.getContent());
-//        return ReviewResponseDto.fromEntity(review);
-        return null;
+        int oldRating = review.getRating();
+        review.updateReview(requestDto.getRating(), requestDto.getContent());
+        if (oldRating != review.getRating()) {
+            spaceService.applyReviewRating(review.getSpace().getId(), review.getRating(), oldRating);
+        }
+        return ReviewResponseDto.from(review);
     }
 
+    // 리뷰 삭제 (soft delete 후 평점 집계에서 제외)
+    @Transactional
     public void deleteReview(Long reviewId, Long guestId) {
-        Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
-//        if (!review.getGuestId().equals(guestId)) {
-//            throw new SecurityException("작성자만 삭제할 수 있습니다.");
-//        }
-        reviewRepository.delete(review);
+        Review review = findActiveReview(reviewId);
+        if (!review.getGuest().getId().equals(guestId)) {
+            throw new SecurityException("작성자만 삭제할 수 있습니다.");
+        }
+        review.softDelete();
+        spaceService.applyReviewRating(review.getSpace().getId(), null, review.getRating());
     }
 
     public List<ReviewResponseDto> getReviewsForSpace(Long spaceId) {
-//        return reviewRepository.findAllBySpaceId(spaceId).stream()
-//                .map(ReviewResponseDto::fromEntity)
-//                .collect(Collectors.toList());
-        return null;
+        return reviewRepository.findBySpaceIdAndIsDeletedFalse(spaceId).stream()
+                .map(ReviewResponseDto::from)
+                .collect(Collectors.toList());
+    }
+
+    // 공간 평점 요약 (리뷰를 집계하지 않고 공간에 저장된 집계 값을 읽음)
+    @Transactional(readOnly = true)
+    public SpaceRatingSummaryDto getRatingSummary(Long spaceId) {
+        Space space = spaceRepository.findById(spaceId)
+                .orElseThrow(() -> new IllegalArgumentException("공간 정보 없음"));
+        return SpaceRatingSummaryDto.from(space);
     }
 
     //공간 리뷰 필터링
@@ -87,4 +118,19 @@ public class ReviewService {
                 .collect(Collectors.toList());
     }
 
+    // 이미 삭제된 리뷰는 집계에서 빠져 있으므로 수정/삭제 대상에서 제외
+    private Review findActiveReview(Long reviewId) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
+        if (review.isDeleted()) {
+            throw new IllegalArgumentException("리뷰를 찾을 수 없습니다.");
+        }
+        return review;
+    }
+
+    private void validateRating(int rating) {
+        if (rating < 1 || rating > Space.MAX_RATING) {
+            throw new IllegalArgumentException("평점은 1~" + Space.MAX_RATING + "점 사이여야 합니다.");
+        }
+    }
 }
@@ -2,22 +2,34 @@ package com.likelion.loco_project.domain.space.controller;
 
 import com.likelion.loco_project.domain.space.dto.*;
 import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.entity.SpaceType;
+import com.likelion.loco_project.domain.space.service.SpaceBulkImportService;
+import com.likelion.loco_project.domain.space.service.SpaceDetailBodyCache;
 import com.likelion.loco_project.domain.space.service.SpaceService;
 import com.likelion.loco_project.global.rsData.RsData;
+import com.likelion.loco_project.global.util.GlobalUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -28,6 +40,8 @@ import java.util.List;
 public class ApiV1SpaceController {
 
     private final SpaceService spaceService;
+    private final SpaceBulkImportService spaceBulkImportService;
+    private final SpaceDetailBodyCache spaceDetailBodyCache;
 
     // 공간 등록
     @PostMapping
@@ -45,21 +59,51 @@ public class ApiV1SpaceController {
         }
     }
 
+    // 공간 일괄 등록 (요청 본문을 스트리밍으로 읽으므로 파일 크기와 관계없이 메모리 사용량이 일정)
+    @PostMapping(value = "/bulk", consumes = {"application/x-ndjson", "text/csv"})
+    @Operation(summary = "공간 일괄 등록",
+            description = "NDJSON(application/x-ndjson, 한 줄에 공간 등록 요청 JSON 하나) 또는 CSV(text/csv, 첫 줄은 필드명 헤더, imageUrls는 '|'로 구분)로 여러 공간을 한 번에 등록합니다. 잘못된 행은 건너뛰고 줄 번호별 오류로 반환합니다.")
+    public ResponseEntity<RsData<SpaceBulkImportResultDto>> importSpaces(
+            @AuthenticationPrincipal Long hostId,
+            HttpServletRequest request) throws IOException {
+        SpaceBulkImportService.Format format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? SpaceBulkImportService.Format.CSV
+                : SpaceBulkImportService.Format.NDJSON;
+        SpaceBulkImportResultDto result = spaceBulkImportService.importSpaces(hostId, format, request.getInputStream());
+        return ResponseEntity.ok(RsData.of("S-1", "공간 일괄 등록 완료", result));
+    }
+
     // 공간 단건 조회(지도)
     @Operation(
         summary = "공간 단건 조회",
         description = "공간 ID로 단일 공간 정보를 조회합니다. (지도에서 사용)",
         responses = {
-            @ApiResponse(responseCode = "200", description = "공간 조회 성공"),
+            @ApiResponse(responseCode = "200", description = "공간 조회 성공 (data: 공간 상세)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = RsData.class))),
             @ApiResponse(responseCode = "404", description = "공간을 찾을 수 없음")
         }
     )
     @GetMapping("/{id}")
-    public ResponseEntity<RsData<SpaceResponseDto>> getSpace(
+    public ResponseEntity<byte[]> getSpace(
             @Parameter(description = "조회할 공간 ID", required = true, example = "1")
-            @PathVariable("id") Long id) {
+            @PathVariable("id") Long id,
+            @AuthenticationPrincipal Long userId,
+            WebRequest request) {
         SpaceResponseDto dto = spaceService.getSpace(id);
-        return ResponseEntity.ok(RsData.of("S-200", "공간 조회 성공", dto));
+        // 캐시에 있는 DTO 의 ETag 와 같으면 찜 여부 조회/직렬화 없이 304 (로그인 사용자는 찜 여부가 달라 사용자별 값)
+        // Last-Modified 는 보내지 않음 (이미지 추가/찜 수 변경 시 modifiedDate 가 바뀌지 않아 If-Modified-Since 로는 갱신을 알 수 없음)
+        String etag = GlobalUtil.weakEtag("space", id, dto.getEtag(), userId == null ? "anon" : "u" + userId);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        Boolean favoritedByMe = userId == null
+                ? null
+                : spaceService.fillFavoritedByMe(userId, List.of(dto)).get(0).getIsFavoritedByMe();
+        // 응답 본문(RsData<SpaceResponseDto>)은 미리 직렬화해 둔 JSON 바이트를 그대로 씀
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(spaceDetailBodyCache.getBody(dto, favoritedByMe));
     }
 
 //    // 모든 공간 목록 조회
@@ -88,11 +132,44 @@ public class ApiV1SpaceController {
 
     @GetMapping("/all")
     public Page<SpaceListResponseDto> getAllSpaces(
-            @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable
+            @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest request
     ) {
+        // 공간 카탈로그가 바뀌지 않았으면 DB 조회 없이 304
+        if (request.checkNotModified(GlobalUtil.weakEtag("spaces", spaceService.getCatalogTag()))) {
+            return null;
+        }
         return spaceService.getAllSpacesWithPagination(pageable);
     }
 
+    // 모든 공간 목록 카드 조회 (/all 과 같은 페이징, 카드에 필요한 필드만 반환)
+    @GetMapping("/cards")
+    @Operation(summary = "공간 카드 목록 조회", description = "목록 카드에 필요한 필드(이름, 유형, 가격, 주소, 인원, 평점, 대표 이미지)만 페이지 단위로 조회합니다.")
+    public Page<SpaceCardResponseDto> getSpaceCards(
+            @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest request
+    ) {
+        if (request.checkNotModified(GlobalUtil.weakEtag("space-cards", spaceService.getCatalogTag()))) {
+            return null;
+        }
+        return spaceService.getAllSpaceCards(pageable);
+    }
+
+    // 모든 공간 목록 조회 (커서 기반, 전체 개수 없이 다음 커서만 반환)
+    @GetMapping("/all/cursor")
+    @Operation(summary = "모든 공간 조회 (커서)", description = "커서 기반으로 공간 목록을 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. 정렬은 id 또는 price만 지원합니다.")
+    public ResponseEntity<RsData<SpaceCursorPageDto<SpaceListResponseDto>>> getAllSpacesByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "12") int size,
+            @RequestParam(name = "sort", defaultValue = "id,desc") String sort) {
+        String[] parts = sort.split(",");
+        boolean descending = parts.length < 2 || !"asc".equalsIgnoreCase(parts[1].trim());
+        int pageSize = Math.max(1, Math.min(size, 100));
+
+        SpaceCursorPageDto<SpaceListResponseDto> spaces = spaceService.getAllSpacesWithCursor(cursor, parts[0], descending, pageSize);
+        return ResponseEntity.ok(RsData.of("S-1", "공간 목록 조회 성공", spaces));
+    }
+
 //    @GetMapping("/api/v1/spaces/all")
 //    public Page<SpaceListResponseDto> getAllSpaces(
 //            @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable
@@ -155,7 +232,7 @@ public class ApiV1SpaceController {
 
     // 공간 검색
     @GetMapping("/search")
-    @Operation(summary = "공간 검색", description = "조건에 맞는 공간을 검색합니다.")
+    @Operation(summary = "공간 검색", description = "조건에 맞는 공간을 검색합니다. sortBy=relevance 이면 검색어 관련도순으로 정렬하고, availableFrom/availableTo를 지정하면 해당 시간대에 예약이 없는 공간만 반환합니다.")
     public ResponseEntity<Page<SpaceResponseDto>> searchSpaces(
             @RequestParam(required = false) String location,
             @RequestParam(required = false) Integer minPrice,
@@ -163,10 +240,49 @@ public class ApiV1SpaceController {
             @RequestParam(required = false) Integer capacity,
             @RequestParam(required = false) List<String> spaceTypes,
             @RequestParam(required = false) List<String> facilities,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime availableFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime availableTo,
             @RequestParam(required = false, defaultValue = "id") String sortBy,
             @RequestParam(required = false, defaultValue = "DESC") String sortDirection,
             @RequestParam(required = false, defaultValue = "0") int page,
-            @RequestParam(required = false, defaultValue = "10") int size) {
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @AuthenticationPrincipal Long userId) {
+        SpaceSearchDto searchDto = toSearchDto(location, minPrice, maxPrice, capacity, spaceTypes, facilities,
+                availableFrom, availableTo, sortBy, sortDirection, page, size);
+        
+        // 검색 결과는 사용자와 무관하게 캐시하고, 찜 여부는 페이지 단위로 한 번에 채움
+        return ResponseEntity.ok(spaceService.fillFavoritedByMe(userId, spaceService.searchSpaces(searchDto)));
+    }
+
+    // 공간 검색 + 패싯 개수
+    @GetMapping("/search/faceted")
+    @Operation(summary = "공간 검색 (패싯 포함)", description = "공간 검색 결과와 함께 현재 조건에서의 유형별/가격대별/수용 인원대별 공간 수를 반환합니다. 각 패싯 개수는 해당 패싯의 조건만 제외하고 계산합니다.")
+    public ResponseEntity<SpaceFacetedSearchDto> searchSpacesWithFacets(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) Integer capacity,
+            @RequestParam(required = false) List<String> spaceTypes,
+            @RequestParam(required = false) List<String> facilities,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime availableFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime availableTo,
+            @RequestParam(required = false, defaultValue = "id") String sortBy,
+            @RequestParam(required = false, defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @AuthenticationPrincipal Long userId) {
+        SpaceSearchDto searchDto = toSearchDto(location, minPrice, maxPrice, capacity, spaceTypes, facilities,
+                availableFrom, availableTo, sortBy, sortDirection, page, size);
+        SpaceFacetedSearchDto result = spaceService.searchSpacesWithFacets(searchDto);
+        return ResponseEntity.ok(new SpaceFacetedSearchDto(
+                spaceService.fillFavoritedByMe(userId, result.getResults()), result.getFacets()));
+    }
+
+    // 검색 요청 파라미터를 검색 조건 DTO로 변환
+    private static SpaceSearchDto toSearchDto(String location, Integer minPrice, Integer maxPrice, Integer capacity,
+                                              List<String> spaceTypes, List<String> facilities,
+                                              LocalDateTime availableFrom, LocalDateTime availableTo,
+                                              String sortBy, String sortDirection, int page, int size) {
         SpaceSearchDto searchDto = new SpaceSearchDto();
         searchDto.setLocation(location);
         searchDto.setMinPrice(minPrice);
@@ -174,12 +290,124 @@ public class ApiV1SpaceController {
         searchDto.setCapacity(capacity);
         searchDto.setSpaceTypes(spaceTypes);
         searchDto.setFacilities(facilities);
+        searchDto.setAvailableFrom(availableFrom);
+        searchDto.setAvailableTo(availableTo);
         searchDto.setSortBy(sortBy);
         searchDto.setSortDirection(sortDirection);
         searchDto.setPage(page);
         searchDto.setSize(size);
-        
-        return ResponseEntity.ok(spaceService.searchSpaces(searchDto));
+        return searchDto;
+    }
+
+    // 공간 찜 추가
+    @PostMapping("/{id}/favorite")
+    @Operation(summary = "공간 찜 추가", description = "로그인한 사용자의 찜 목록에 공간을 추가합니다.")
+    public ResponseEntity<RsData<Void>> favoriteSpace(
+            @PathVariable("id") Long id,
+            @AuthenticationPrincipal Long userId) {
+        spaceService.favoriteSpace(userId, id);
+        return ResponseEntity.ok(RsData.of("S-1", "찜 추가 성공"));
+    }
+
+    // 공간 찜 제거
+    @DeleteMapping("/{id}/favorite")
+    @Operation(summary = "공간 찜 제거", description = "로그인한 사용자의 찜 목록에서 공간을 제거합니다.")
+    public ResponseEntity<RsData<Void>> unfavoriteSpace(
+            @PathVariable("id") Long id,
+            @AuthenticationPrincipal Long userId) {
+        spaceService.unfavoriteSpace(userId, id);
+        return ResponseEntity.ok(RsData.of("S-1", "찜 제거 성공"));
+    }
+
+    // 검색어 자동완성
+    @GetMapping("/suggest")
+    @Operation(summary = "검색어 자동완성", description = "입력 중인 검색어로 시작하는 공간 이름과 주소 단어(시/구/동)를 조회합니다. 입력 중인 글자(예: \"강나\")와 초성(예: \"ㄱㄴ\")도 지원합니다.")
+    public ResponseEntity<RsData<List<SpaceSuggestionDto>>> suggestSpaces(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<SpaceSuggestionDto> suggestions = spaceService.suggestSpaces(query, limit);
+        return ResponseEntity.ok(RsData.of("S-1", "검색어 자동완성 조회 성공", suggestions));
+    }
+
+    // 인기 공간 목록
+    @GetMapping("/popular")
+    @Operation(summary = "인기 공간 조회", description = "최근 예약, 찜 수, 평점으로 계산한 인기 공간을 지역(시/도, 예: 서울)과 공간 유형별로 조회합니다. 랭킹은 5분마다 갱신됩니다.")
+    public ResponseEntity<RsData<List<SpacePopularityDto>>> getPopularSpaces(
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) SpaceType spaceType,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<SpacePopularityDto> spaces = spaceService.getPopularSpaces(region, spaceType, limit);
+        return ResponseEntity.ok(RsData.of("S-1", "인기 공간 조회 성공", spaces));
+    }
+
+    // 지도 영역 내 공간 조회
+    @GetMapping("/map")
+    @Operation(summary = "지도 영역 공간 조회", description = "지도 화면의 위경도 범위 안에 있는 공간을 조회합니다.")
+    public ResponseEntity<RsData<List<SpaceListResponseDto>>> getSpacesInBounds(
+            @RequestParam double latMin,
+            @RequestParam double latMax,
+            @RequestParam double lngMin,
+            @RequestParam double lngMax) {
+        if (!isValidBounds(latMin, latMax, lngMin, lngMax)) {
+            return invalidCoordinates();
+        }
+        List<SpaceListResponseDto> spaces = spaceService.findSpacesInBounds(latMin, latMax, lngMin, lngMax);
+        return ResponseEntity.ok(RsData.of("S-1", "지도 영역 공간 조회 성공", spaces));
+    }
+
+    // 지도 클러스터 조회 (축소된 지도에서 개별 마커 대신 사용)
+    @GetMapping("/map/clusters")
+    @Operation(summary = "지도 클러스터 조회", description = "지도 범위와 카카오맵 레벨(1~14)을 받아 격자 단위로 묶은 클러스터(중심 좌표, 공간 수, 최저가)를 조회합니다.")
+    public ResponseEntity<RsData<List<SpaceClusterDto>>> getSpaceClusters(
+            @RequestParam double latMin,
+            @RequestParam double latMax,
+            @RequestParam double lngMin,
+            @RequestParam double lngMax,
+            @RequestParam int level) {
+        if (!isValidBounds(latMin, latMax, lngMin, lngMax)) {
+            return invalidCoordinates();
+        }
+        List<SpaceClusterDto> clusters = spaceService.getSpaceClusters(latMin, latMax, lngMin, lngMax, level);
+        return ResponseEntity.ok(RsData.of("S-1", "지도 클러스터 조회 성공", clusters));
+    }
+
+    // 반경 내 공간 조회
+    @GetMapping("/nearby")
+    @Operation(summary = "반경 내 공간 조회", description = "중심 좌표에서 지정한 반경(km) 안에 있는 공간을 조회합니다.")
+    public ResponseEntity<RsData<List<SpaceListResponseDto>>> getSpacesInRadius(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "1.0") double radiusKm) {
+        if (!isValidCoordinate(lat, lng) || !Double.isFinite(radiusKm) || radiusKm < 0) {
+            return invalidCoordinates();
+        }
+        List<SpaceListResponseDto> spaces = spaceService.findSpacesInRadius(lat, lng, radiusKm);
+        return ResponseEntity.ok(RsData.of("S-1", "반경 내 공간 조회 성공", spaces));
+    }
+
+    // 가까운 공간 조회 (거리순)
+    @GetMapping("/nearest")
+    @Operation(summary = "가까운 공간 조회", description = "중심 좌표에서 가까운 순으로 공간을 limit개까지 거리(km)와 함께 조회합니다. 주변에 공간이 적으면 maxRadiusKm(최대 50km)까지 범위를 넓혀 찾습니다.")
+    public ResponseEntity<RsData<List<SpaceListResponseDto>>> getNearestSpaces(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "20.0") double maxRadiusKm) {
+        if (!isValidCoordinate(lat, lng) || !Double.isFinite(maxRadiusKm)) {
+            return invalidCoordinates();
+        }
+        List<SpaceListResponseDto> spaces = spaceService.findNearestSpaces(lat, lng, limit, maxRadiusKm);
+        return ResponseEntity.ok(RsData.of("S-1", "가까운 공간 조회 성공", spaces));
+    }
+
+    // 유사 공간 추천
+    @GetMapping("/{id}/similar")
+    @Operation(summary = "유사 공간 추천", description = "유형, 가격, 수용 인원, 위치, 평점이 비슷한 공간을 비슷한 순으로 조회합니다. (최대 20개)")
+    public ResponseEntity<RsData<List<SpaceListResponseDto>>> getSimilarSpaces(
+            @PathVariable("id") Long id,
+            @RequestParam(defaultValue = "6") int limit) {
+        List<SpaceListResponseDto> spaces = spaceService.getSimilarSpaces(id, limit);
+        return ResponseEntity.ok(RsData.of("S-1", "유사 공간 조회 성공", spaces));
     }
 
     // 공간 이미지 추가
@@ -220,4 +448,21 @@ public class ApiV1SpaceController {
                 .body(RsData.of("F-1", "내 공간 목록 조회 중 오류가 발생했습니다: " + e.getMessage(), null));
         }
     }
+
+    // 위경도가 실제 범위(위도 -90~90, 경도 -180~180) 안의 유한한 값인지
+    // 범위를 벗어난 값은 좌표 인덱스의 격자 계산을 크게 부풀리므로 조회 전에 거절
+    private static boolean isValidCoordinate(double lat, double lng) {
+        return Double.isFinite(lat) && Double.isFinite(lng)
+                && lat >= -90.0 && lat <= 90.0 && lng >= -180.0 && lng <= 180.0;
+    }
+
+    private static boolean isValidBounds(double latMin, double latMax, double lngMin, double lngMax) {
+        return isValidCoordinate(latMin, lngMin) && isValidCoordinate(latMax, lngMax)
+                && latMin <= latMax && lngMin <= lngMax;
+    }
+
+    private static <T> ResponseEntity<RsData<T>> invalidCoordinates() {
+        return ResponseEntity.badRequest()
+                .body(RsData.of("F-1", "위경도 범위가 올바르지 않습니다. (위도 -90~90, 경도 -180~180)", null));
+    }
 }
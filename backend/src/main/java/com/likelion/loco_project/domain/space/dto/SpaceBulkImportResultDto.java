@@ -0,0 +1,26 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 공간 일괄 등록 결과 (행 단위 오류는 전체를 중단하지 않고 모아서 반환)
+@Getter
+@Builder
+public class SpaceBulkImportResultDto {
+    private long totalRows;             // 읽은 데이터 행 수 (헤더/빈 줄 제외)
+    private long successCount;          // 등록된 공간 수
+    private long failureCount;          // 실패한 행 수
+    private List<Long> createdSpaceIds; // 등록된 공간 ID (입력 순서)
+    private List<RowError> errors;      // 행별 오류 (최대 SpaceBulkImportService.MAX_REPORTED_ERRORS 건)
+    private boolean errorsTruncated;    // 오류가 너무 많아 일부만 담겼는지
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;      // 입력 파일의 줄 번호 (1부터)
+        private String message; // 오류 내용
+    }
+}
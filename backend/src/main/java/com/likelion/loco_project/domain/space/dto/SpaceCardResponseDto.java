@@ -0,0 +1,24 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import com.likelion.loco_project.domain.space.entity.SpaceType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// 공간 목록 카드 응답 DTO
+// JPQL 생성자 프로젝션으로 바로 생성되어 TEXT 컬럼(description)과 추가 이미지 테이블을 읽지 않음
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpaceCardResponseDto {
+    private Long id;
+    private String spaceName;
+    private SpaceType spaceType;
+    private Long price;
+    private String address;
+    private Integer maxCapacity;
+    private BigDecimal spaceRating;
+    private String imageUrl; // 대표 이미지 URL
+}
@@ -0,0 +1,11 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.entity.SpaceType;
+
+// 공간 유형/상태 집계 적재용 프로젝션 (id, 유형, 상태만 조회)
+public interface SpaceClassificationView {
+    Long getId();
+    SpaceType getSpaceType();
+    SpaceStatus getStatus();
+}
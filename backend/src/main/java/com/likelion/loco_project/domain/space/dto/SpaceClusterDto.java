@@ -0,0 +1,14 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 지도 클러스터 응답 DTO (축소된 지도에서 마커 대신 표시)
+@Getter
+@Builder
+public class SpaceClusterDto {
+    private double latitude;  // 클러스터에 속한 공간들의 중심 위도
+    private double longitude; // 클러스터에 속한 공간들의 중심 경도
+    private long count;       // 공간 수
+    private long minPrice;    // 최저 가격
+}
@@ -86,7 +86,6 @@ public class SpaceCreateRequestDto {
                 .isActive(true)
                 .imageUrl(mainImageUrl)
                 .additionalImageUrls(additionalUrls)
-                .spaceRating(BigDecimal.ZERO)
                 .status(SpaceStatus.PENDING)
                 .build();
     }
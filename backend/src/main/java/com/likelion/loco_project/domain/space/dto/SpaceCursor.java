@@ -0,0 +1,55 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+// 커서 기반 페이지네이션 위치 (정렬 기준, 방향, 마지막 정렬 값, 마지막 ID)
+// 클라이언트에는 Base64로 인코딩한 불투명(opaque) 문자열로만 전달
+@Getter
+@AllArgsConstructor
+public class SpaceCursor {
+    public static final String SORT_ID = "id";
+    public static final String SORT_PRICE = "price";
+
+    private String sortBy;
+    private boolean descending;
+    private long lastSortValue;
+    private long lastId;
+
+    // 첫 페이지 조회용 커서 (모든 값보다 앞/뒤에 위치)
+    public static SpaceCursor first(String sortBy, boolean descending) {
+        long edge = descending ? Long.MAX_VALUE : Long.MIN_VALUE;
+        return new SpaceCursor(normalizeSortBy(sortBy), descending, edge, edge);
+    }
+
+    public String encode() {
+        String raw = sortBy + ":" + (descending ? "desc" : "asc") + ":" + lastSortValue + ":" + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SpaceCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new SpaceCursor(normalizeSortBy(parts[0]), "desc".equals(parts[1]),
+                    Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) { // Base64/숫자 파싱 오류 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    private static String normalizeSortBy(String sortBy) {
+        String key = sortBy == null ? SORT_ID : sortBy.trim().toLowerCase(Locale.ROOT);
+        if (!SORT_ID.equals(key) && !SORT_PRICE.equals(key)) {
+            throw new IllegalArgumentException("커서 페이지네이션은 id, price 정렬만 지원합니다: " + sortBy);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,20 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 커서 기반 페이지 응답 (전체 개수 없이 다음 커서만 전달)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpaceCursorPageDto<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달, 마지막 페이지면 null
+}
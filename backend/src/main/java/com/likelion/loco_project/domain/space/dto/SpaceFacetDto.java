@@ -0,0 +1,29 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+// 검색 조건별 패싯 개수 (유형/가격대/인원대)
+// 각 패싯은 자기 자신의 조건만 빼고 나머지 조건을 적용한 개수 (예: 유형 개수는 유형 필터를 제외하고 계산, 다른 유형을 골랐을 때의 결과 수)
+@Getter
+@Builder
+public class SpaceFacetDto {
+    private long total;                    // 모든 조건에 맞는 공간 수
+    private Map<String, Long> spaceTypes;  // 유형별 개수 (모든 유형 포함, 없으면 0)
+    private List<Bucket> priceBuckets;     // 가격대별 개수
+    private List<Bucket> capacityBuckets;  // 수용 인원대별 개수 (공간의 최대 수용 인원 기준)
+    private boolean partial;               // 일부만 집계되었는지 (집계 시간 제한 초과, 또는 인덱스 적재 전이라 모두 0)
+
+    @Getter
+    @AllArgsConstructor
+    public static class Bucket {
+        private String label; // 표시용 문구 (예: "10000~29999")
+        private Long min;     // 하한 (포함)
+        private Long max;     // 상한 (포함, 없으면 null)
+        private long count;
+    }
+}
@@ -0,0 +1,14 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.entity.SpaceType;
+
+// 검색 패싯 인덱스 적재용 프로젝션 (필터/집계에 쓰는 컬럼만 조회)
+public interface SpaceFacetView {
+    Long getId();
+    SpaceType getSpaceType();
+    Long getPrice();
+    Integer getMaxCapacity();
+    String getAddress();
+    SpaceStatus getStatus();
+}
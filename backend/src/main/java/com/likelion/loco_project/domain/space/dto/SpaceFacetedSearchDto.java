@@ -0,0 +1,13 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+// 검색 결과 페이지 + 패싯 개수
+@Getter
+@AllArgsConstructor
+public class SpaceFacetedSearchDto {
+    private Page<SpaceResponseDto> results;
+    private SpaceFacetDto facets; // 패싯 인덱스 적재 전에는 개수가 모두 0이고 partial 이 true
+}
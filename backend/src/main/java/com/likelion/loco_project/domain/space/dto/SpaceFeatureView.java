@@ -0,0 +1,19 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.entity.SpaceType;
+
+import java.math.BigDecimal;
+
+// 유사 공간 추천 인덱스 적재용 프로젝션 (특징 벡터를 만드는 컬럼과 노출 여부만 조회)
+public interface SpaceFeatureView {
+    Long getId();
+    SpaceType getSpaceType();
+    Long getPrice();
+    Integer getMaxCapacity();
+    BigDecimal getLatitude();
+    BigDecimal getLongitude();
+    BigDecimal getSpaceRating();
+    SpaceStatus getStatus();
+    Boolean getIsActive();
+}
@@ -0,0 +1,11 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import java.math.BigDecimal;
+
+// 공간 좌표 인덱스 적재용 프로젝션 (id, 좌표, 가격만 조회)
+public interface SpaceGeoPointView {
+    Long getId();
+    BigDecimal getLatitude();
+    BigDecimal getLongitude();
+    Long getPrice();
+}
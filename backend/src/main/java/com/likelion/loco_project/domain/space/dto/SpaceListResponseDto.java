@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class SpaceListResponseDto {
@@ -30,6 +30,7 @@ public class SpaceListResponseDto {
     private BigDecimal spaceRating;
     private String imageUrl;  // 대표 이미지 URL 추가
     private List<String> additionalImageUrls;  // 추가 이미지 URL 목록 추가
+    private Double distanceKm;  // 가까운 공간 조회 시 중심 좌표로부터의 거리(km), 그 외 조회에서는 null
 
     public static SpaceListResponseDto from(Space space) {
         return SpaceListResponseDto.builder()
@@ -50,4 +51,8 @@ public class SpaceListResponseDto {
                 .additionalImageUrls(space.getAdditionalImageUrls())
                 .build();
     }
+
+    public SpaceListResponseDto withDistanceKm(double distanceKm) {
+        return this.toBuilder().distanceKm(distanceKm).build();
+    }
 }
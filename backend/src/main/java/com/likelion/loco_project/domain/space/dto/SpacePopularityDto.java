@@ -0,0 +1,25 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import com.likelion.loco_project.domain.space.entity.SpaceType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// 인기 공간 목록 항목 (랭킹 갱신 시 만들어 두고 요청마다 그대로 반환)
+@Getter
+@Builder(toBuilder = true)
+public class SpacePopularityDto {
+    private int rank;
+    private Long id;
+    private String spaceName;
+    private SpaceType spaceType;
+    private Long price;
+    private String address;
+    private String region;
+    private String imageUrl;
+    private BigDecimal spaceRating;
+    private Long reviewCount;
+    private Long favoriteCount;
+    private double score; // 인기 점수 (최근 예약 + 찜 + 평점)
+}
@@ -0,0 +1,22 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.entity.SpaceType;
+
+import java.math.BigDecimal;
+
+// 인기 공간 랭킹 적재용 프로젝션 (목록 카드 정보 + 찜/평점 집계)
+public interface SpaceRankingView {
+    Long getId();
+    String getSpaceName();
+    SpaceType getSpaceType();
+    Long getPrice();
+    String getAddress();
+    String getImageUrl();
+    BigDecimal getSpaceRating();
+    Long getRatingSum();
+    Long getReviewCount();
+    Long getFavoriteCount();
+    SpaceStatus getStatus();
+    Boolean getIsActive();
+}
@@ -0,0 +1,12 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import java.math.BigDecimal;
+
+// 평점 집계 보정용 프로젝션 (공간에 저장된 리뷰 집계 값)
+public interface SpaceRatingView {
+    Long getId();
+    Long getRatingSum();
+    Long getReviewCount();
+    long[] getRatingHistogram();
+    BigDecimal getSpaceRating();
+}
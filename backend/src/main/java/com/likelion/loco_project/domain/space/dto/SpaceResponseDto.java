@@ -1,16 +1,18 @@
 package com.likelion.loco_project.domain.space.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.likelion.loco_project.domain.space.entity.Space;
 import com.likelion.loco_project.domain.space.entity.SpaceType;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class SpaceResponseDto {
     private Long id;
@@ -27,9 +29,14 @@ public class SpaceResponseDto {
     private Integer maxCapacity;
     private Boolean isActive;
     private BigDecimal spaceRating;
+    private Long reviewCount;
+    private Long favoriteCount;
     private Boolean isFavoritedByMe;
     private String imageUrl;
     private List<String> additionalImageUrls;
+    private LocalDateTime modifiedDate;
+    @JsonIgnore
+    private String etag; // 캐시에 적재될 때 붙는 값, 조건부 조회(If-None-Match) 비교용
 
     // Space 엔티티를 DTO로 변환하는 정적 팩토리 메서드
     public static SpaceResponseDto fromEntity(Space space) {
@@ -48,9 +55,22 @@ public class SpaceResponseDto {
                 .maxCapacity(space.getMaxCapacity())
                 .isActive(space.getIsActive())
                 .spaceRating(space.getSpaceRating())
+                .reviewCount(space.getReviewCount() == null ? 0L : space.getReviewCount())
+                .favoriteCount(space.getFavoriteCount() == null ? 0L : space.getFavoriteCount())
                 .imageUrl(space.getImageUrl())
-                .additionalImageUrls(space.getAdditionalImageUrls())
+                // 캐시에 저장될 수 있으므로 엔티티 컬렉션을 그대로 참조하지 않고 복사
+                .additionalImageUrls(space.getAdditionalImageUrls() == null ? null : new ArrayList<>(space.getAdditionalImageUrls()))
                 //.isFavoritedByMe(isFavoritedByMe)
+                .modifiedDate(space.getModifiedDate())
                 .build();
     }
+
+    public SpaceResponseDto withEtag(String etag) {
+        return this.toBuilder().etag(etag).build();
+    }
+
+    // 찜 여부만 채운 복사본 (캐시에 저장된 DTO는 여러 사용자가 공유하므로 직접 수정하지 않음)
+    public SpaceResponseDto withFavoritedByMe(boolean favorited) {
+        return this.toBuilder().isFavoritedByMe(favorited).build();
+    }
 }
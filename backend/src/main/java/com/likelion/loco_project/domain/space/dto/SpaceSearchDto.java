@@ -3,7 +3,12 @@ package com.likelion.loco_project.domain.space.dto;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.text.Normalizer;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 // 검색 조건을 담을 DTO 클래스
 @Getter
@@ -15,8 +20,74 @@ public class SpaceSearchDto {
     private Integer capacity; // 수용 인원
     private List<String> spaceTypes; // 공간 유형 (회의실, 스튜디오 등)
     private List<String> facilities; // 편의시설 (와이파이, 프로젝터 등)
+    private LocalDateTime availableFrom; // 예약 가능 시작 시간 (availableTo와 함께 지정 시 해당 시간대가 비어 있는 공간만 검색)
+    private LocalDateTime availableTo; // 예약 가능 종료 시간
     private String sortBy = "id"; // 정렬 기준
     private String sortDirection = "DESC"; // 정렬 방향
     private int page = 0;
     private int size = 10;
-}
\ No newline at end of file
+
+    // 같은 의미의 검색 조건을 한 가지 형태로 맞춘 사본 (대소문자/공백/목록 순서/기본값 정규화)
+    // 캐시 키와 실제 조회를 모두 이 사본으로 만들어, 같은 키에 다른 조건의 결과가 저장되지 않도록 함
+    public SpaceSearchDto canonical() {
+        SpaceSearchDto copy = new SpaceSearchDto();
+        copy.location = location == null || location.isBlank() ? null : normalizeText(location);
+        copy.minPrice = minPrice;
+        copy.maxPrice = maxPrice;
+        copy.capacity = capacity;
+        copy.spaceTypes = normalizeList(spaceTypes, true);
+        copy.facilities = normalizeList(facilities, false);
+        copy.availableFrom = availableFrom;
+        copy.availableTo = availableTo;
+        copy.sortBy = sortBy == null || sortBy.isBlank() ? "id" : sortBy.trim();
+        copy.sortDirection = sortDirection != null && "ASC".equalsIgnoreCase(sortDirection.trim()) ? "ASC" : "DESC";
+        copy.page = page;
+        copy.size = size;
+        return copy;
+    }
+
+    // 검색 결과 캐시 키 생성 (정규화한 사본 기준)
+    public String toCacheKey() {
+        SpaceSearchDto c = canonical();
+        return "location=" + Objects.toString(c.location, "")
+                + "|minPrice=" + Objects.toString(c.minPrice, "")
+                + "|maxPrice=" + Objects.toString(c.maxPrice, "")
+                + "|capacity=" + Objects.toString(c.capacity, "")
+                + "|spaceTypes=" + (c.spaceTypes == null ? "" : String.join(",", c.spaceTypes))
+                + "|facilities=" + (c.facilities == null ? "" : String.join(",", c.facilities))
+                + "|availableFrom=" + Objects.toString(c.availableFrom, "")
+                + "|availableTo=" + Objects.toString(c.availableTo, "")
+                + "|sortBy=" + c.sortBy
+                + "|sortDirection=" + c.sortDirection
+                + "|page=" + c.page
+                + "|size=" + c.size;
+    }
+
+    // 예약 가능 시간 조건이 지정되었는지
+    public boolean hasAvailabilityWindow() {
+        return availableFrom != null && availableTo != null && availableFrom.isBefore(availableTo);
+    }
+
+    private static String normalizeText(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> normalizeList(List<String> values, boolean upperCase) {
+        if (values == null) {
+            return null;
+        }
+        List<String> normalized = values.stream()
+                .filter(value -> value != null && !value.isBlank())
+                .map(value -> upperCase ? value.trim().toUpperCase(Locale.ROOT) : normalizeText(value))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        return normalized.isEmpty() ? null : normalized;
+    }
+}
@@ -0,0 +1,14 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색어 자동완성 항목
+@Getter
+@AllArgsConstructor
+public class SpaceSuggestionDto {
+    private String text;  // 표시할 문구 (공간 이름 또는 주소 단어)
+    private String type;  // SPACE: 공간 이름, ADDRESS: 주소 단어 (시/구/동 등)
+    private Long spaceId; // type 이 SPACE 일 때 공간 ID
+    private int count;    // type 이 ADDRESS 일 때 해당 주소 단어를 가진 공간 수
+}
@@ -0,0 +1,10 @@
+package com.likelion.loco_project.domain.space.dto;
+
+// 검색 인덱스 적재용 프로젝션 (검색 대상 텍스트 컬럼만 조회)
+public interface SpaceTextView {
+    Long getId();
+    String getSpaceName();
+    String getAddress();
+    String getNeighborhoodInfo();
+    String getDescription();
+}
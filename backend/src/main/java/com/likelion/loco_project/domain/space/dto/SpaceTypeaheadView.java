@@ -0,0 +1,12 @@
+package com.likelion.loco_project.domain.space.dto;
+
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+
+// 자동완성 인덱스 적재용 프로젝션 (이름, 주소, 노출 여부 판단용 상태만 조회)
+public interface SpaceTypeaheadView {
+    Long getId();
+    String getSpaceName();
+    String getAddress();
+    SpaceStatus getStatus();
+    Boolean getIsActive();
+}
@@ -26,7 +26,6 @@ public class SpaceUpdateRequestDto {
     private BigDecimal longitude;
     private Integer maxCapacity;
     private Boolean isActive;
-    private BigDecimal spaceRating;
     private String imageUrl;
     private List<String> additionalImageUrls;
 
@@ -44,7 +43,6 @@ public class SpaceUpdateRequestDto {
         if (this.longitude != null) space.setLongitude(this.longitude);
         if (this.maxCapacity != null) space.setMaxCapacity(this.maxCapacity);
         if (this.isActive != null) space.setIsActive(this.isActive);
-        if (this.spaceRating != null) space.setSpaceRating(this.spaceRating);
         if (this.imageUrl != null) space.setImageUrl(this.imageUrl);
         if (this.additionalImageUrls != null) {
             space.getAdditionalImageUrls().clear();
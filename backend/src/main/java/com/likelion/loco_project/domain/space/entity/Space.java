@@ -2,17 +2,26 @@ package com.likelion.loco_project.domain.space.entity;
 
 import com.likelion.loco_project.domain.host.entity.Host;
 import com.likelion.loco_project.global.jpa.BaseEntity;
+import com.likelion.loco_project.global.jpa.LongArrayConverter;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "spaces")
+@Table(name = "spaces", indexes = {
+        // 검색 필터용 복합 인덱스 (상태 -> 유형 -> 가격 -> 인원 순으로 등치/범위 조건이 이어짐)
+        @Index(name = "idx_spaces_status_type_price_capacity", columnList = "status, space_type, price, max_capacity"),
+        // 유형 조건 없이 가격/인원만으로 검색할 때 사용
+        @Index(name = "idx_spaces_status_price_capacity", columnList = "status, price, max_capacity"),
+        // 가격순 커서 페이지네이션용 (InnoDB 보조 인덱스에는 PK가 포함되어 (price, id) 순서로 탐색됨)
+        @Index(name = "idx_spaces_price", columnList = "price")
+})
 @Getter
 @Setter
 @SuperBuilder
@@ -22,6 +31,8 @@ import java.util.List;
 @ToString(callSuper = true)
 public class Space extends BaseEntity {
 
+    public static final int MAX_RATING = 10; // 리뷰 평점 최댓값 (1~10점)
+
     @Column(name = "space_name", length = 100, nullable = false)
     private String spaceName; // 공간 이름
 
@@ -59,8 +70,25 @@ public class Space extends BaseEntity {
     @Column(name = "is_active", nullable = true)
     private Boolean isActive; // 활성화 여부
 
-    @Column(name = "space_rating", precision = 3, scale = 2)
-    private BigDecimal spaceRating; // 평점 (ex: 4.5)
+    @Column(name = "space_rating", precision = 4, scale = 2)
+    private BigDecimal spaceRating; // 평점 (ex: 4.5), 10점 만점이므로 10.00까지 저장
+
+    // 리뷰 평점 집계 (리뷰 작성/수정/삭제 시 같은 트랜잭션에서 갱신, 조회 시 리뷰 테이블을 집계하지 않음)
+    @Column(name = "rating_sum", nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long ratingSum = 0L; // 평점 합계
+
+    @Column(name = "review_count", nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long reviewCount = 0L; // 리뷰 수
+
+    @Convert(converter = LongArrayConverter.class)
+    @Column(name = "rating_histogram", length = 200)
+    private long[] ratingHistogram; // 평점별 리뷰 수 (index 0 = 1점)
+
+    @Column(name = "favorite_count", nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long favoriteCount = 0L; // 찜 수 (user_favorite_spaces 집계를 비정규화한 값)
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "host_id", nullable = false)
@@ -87,6 +115,53 @@ public class Space extends BaseEntity {
     @Column(nullable = true) // 이용 규정도 필수는 아닐 수 있습니다. 요구사항에 따라 변경하세요.
     private String spaceRules;
 
+    // 리뷰 평점 집계 반영 (addedRating: 새로 더할 평점, removedRating: 뺄 평점, 없으면 null)
+    // 리뷰 작성은 (r, null), 수정은 (새 평점, 이전 평점), 삭제는 (null, r)
+    public void applyReviewRating(Integer addedRating, Integer removedRating) {
+        long[] histogram = ratingHistogram == null || ratingHistogram.length != MAX_RATING
+                ? new long[MAX_RATING]
+                : ratingHistogram.clone();
+        long sum = ratingSum == null ? 0L : ratingSum;
+        long count = reviewCount == null ? 0L : reviewCount;
+
+        if (removedRating != null) {
+            histogram[removedRating - 1] = Math.max(0, histogram[removedRating - 1] - 1);
+            sum -= removedRating;
+            count--;
+        }
+        if (addedRating != null) {
+            histogram[addedRating - 1]++;
+            sum += addedRating;
+            count++;
+        }
+
+        this.ratingHistogram = histogram;
+        this.ratingSum = Math.max(0, sum);
+        this.reviewCount = Math.max(0, count);
+        this.spaceRating = averageRating(this.ratingSum, this.reviewCount);
+    }
+
+    // 평점 분포로 집계 전체를 다시 계산 (리뷰 테이블 기준 보정용, index 0 = 1점)
+    public void resetReviewRating(long[] histogram) {
+        long sum = 0L;
+        long count = 0L;
+        for (int i = 0; i < histogram.length; i++) {
+            sum += histogram[i] * (i + 1);
+            count += histogram[i];
+        }
+        this.ratingHistogram = histogram.clone();
+        this.ratingSum = sum;
+        this.reviewCount = count;
+        this.spaceRating = averageRating(sum, count);
+    }
+
+    // 평균 평점 (리뷰가 없으면 null)
+    public static BigDecimal averageRating(long ratingSum, long reviewCount) {
+        return reviewCount == 0
+                ? null
+                : BigDecimal.valueOf(ratingSum).divide(BigDecimal.valueOf(reviewCount), 2, RoundingMode.HALF_UP);
+    }
+
     // 이미지 URL 처리를 위한 헬퍼 메서드 추가
     public void setMainImage(String imageUrl) {
         this.imageUrl = imageUrl;
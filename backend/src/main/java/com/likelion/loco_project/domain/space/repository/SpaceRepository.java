@@ -1,19 +1,33 @@
 package com.likelion.loco_project.domain.space.repository;
 
 import com.likelion.loco_project.domain.host.entity.Host;
+import com.likelion.loco_project.domain.space.dto.SpaceCardResponseDto;
+import com.likelion.loco_project.domain.space.dto.SpaceClassificationView;
+import com.likelion.loco_project.domain.space.dto.SpaceFacetView;
+import com.likelion.loco_project.domain.space.dto.SpaceFeatureView;
+import com.likelion.loco_project.domain.space.dto.SpaceGeoPointView;
+import com.likelion.loco_project.domain.space.dto.SpaceRankingView;
+import com.likelion.loco_project.domain.space.dto.SpaceRatingView;
+import com.likelion.loco_project.domain.space.dto.SpaceTextView;
+import com.likelion.loco_project.domain.space.dto.SpaceTypeaheadView;
 import com.likelion.loco_project.domain.space.entity.Space;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 @Repository
 public interface SpaceRepository extends JpaRepository<Space, Long>, JpaSpecificationExecutor<Space> {
@@ -41,6 +55,7 @@ public interface SpaceRepository extends JpaRepository<Space, Long>, JpaSpecific
     WHERE s.latitude BETWEEN :latMin AND :latMax
       AND s.longitude BETWEEN :lngMin AND :lngMax
       AND s.isActive = true
+      AND s.status = com.likelion.loco_project.domain.space.entity.SpaceStatus.APPROVED
 """)
     List<Space> findNearbySpaces(
             @Param("latMin") BigDecimal latMin,
@@ -49,16 +64,131 @@ public interface SpaceRepository extends JpaRepository<Space, Long>, JpaSpecific
             @Param("lngMax") BigDecimal lngMax
     );
 
+    // 공간 좌표 인덱스 적재용 (활성화되고 승인된 공간의 id, 위도, 경도, 가격만 조회)
+    @Query("SELECT s.id AS id, s.latitude AS latitude, s.longitude AS longitude, s.price AS price FROM Space s WHERE s.isActive = true AND s.status = com.likelion.loco_project.domain.space.entity.SpaceStatus.APPROVED")
+    List<SpaceGeoPointView> findAllActiveGeoPoints();
+
+    // 검색 인덱스 적재용 (승인된 공간의 검색 대상 텍스트 컬럼만 조회)
+    @Query("SELECT s.id AS id, s.spaceName AS spaceName, s.address AS address, s.neighborhoodInfo AS neighborhoodInfo, s.description AS description FROM Space s WHERE s.status = com.likelion.loco_project.domain.space.entity.SpaceStatus.APPROVED")
+    List<SpaceTextView> findAllTextViews();
+
+    // 자동완성 인덱스 적재용
+    @Query("SELECT s.id AS id, s.spaceName AS spaceName, s.address AS address, s.status AS status, s.isActive AS isActive FROM Space s")
+    List<SpaceTypeaheadView> findAllTypeaheadViews();
+
     // 승인대기 공간 5건 (최신순)
     List<Space> findTop5ByStatusOrderByIdDesc(com.likelion.loco_project.domain.space.entity.SpaceStatus status);
 
-    @Query("SELECT s.spaceType, COUNT(s) FROM Space s GROUP BY s.spaceType")
-    Map<String, Long> countSpacesByType();
+    // 유형/상태별 공간 수 집계용 (SpaceStatsCounter 적재/보정)
+    @Query("SELECT s.id AS id, s.spaceType AS spaceType, s.status AS status FROM Space s")
+    List<SpaceClassificationView> findAllClassifications();
+
+    // 검색 패싯 인덱스 적재용
+    @Query("SELECT s.id AS id, s.spaceType AS spaceType, s.price AS price, s.maxCapacity AS maxCapacity, s.address AS address, s.status AS status FROM Space s")
+    List<SpaceFacetView> findAllFacetViews();
+
+    // 유사 공간 추천 인덱스 적재용
+    @Query("SELECT s.id AS id, s.spaceType AS spaceType, s.price AS price, s.maxCapacity AS maxCapacity, s.latitude AS latitude, s.longitude AS longitude, s.spaceRating AS spaceRating, s.status AS status, s.isActive AS isActive FROM Space s")
+    List<SpaceFeatureView> findAllFeatureViews();
 
     @EntityGraph(attributePaths = "additionalImageUrls")
     @Override
     Page<Space> findAll(Pageable pageable);
 
+    // 커서(keyset) 페이지네이션: OFFSET/COUNT 없이 마지막 (정렬 값, id) 다음부터 ID만 조회
+    // Pageable은 LIMIT 용도로만 사용 (List 반환이라 count 쿼리가 실행되지 않음)
+    @Query("SELECT s.id FROM Space s WHERE s.id < :lastId ORDER BY s.id DESC")
+    List<Long> findIdsByIdBefore(@Param("lastId") Long lastId, Pageable limit);
+
+    @Query("SELECT s.id FROM Space s WHERE s.id > :lastId ORDER BY s.id ASC")
+    List<Long> findIdsByIdAfter(@Param("lastId") Long lastId, Pageable limit);
+
+    @Query("""
+    SELECT s.id FROM Space s
+    WHERE s.price < :lastPrice OR (s.price = :lastPrice AND s.id < :lastId)
+    ORDER BY s.price DESC, s.id DESC
+""")
+    List<Long> findIdsByPriceBefore(@Param("lastPrice") Long lastPrice, @Param("lastId") Long lastId, Pageable limit);
+
+    @Query("""
+    SELECT s.id FROM Space s
+    WHERE s.price > :lastPrice OR (s.price = :lastPrice AND s.id > :lastId)
+    ORDER BY s.price ASC, s.id ASC
+""")
+    List<Long> findIdsByPriceAfter(@Param("lastPrice") Long lastPrice, @Param("lastId") Long lastId, Pageable limit);
+
+    // 커서로 찾은 ID들의 공간을 추가 이미지까지 한 번에 조회 (페이징이 없으므로 fetch join 가능)
+    @EntityGraph(attributePaths = "additionalImageUrls")
+    @Query("SELECT s FROM Space s WHERE s.id IN :ids")
+    List<Space> findAllWithImagesByIdIn(@Param("ids") List<Long> ids);
+
+    // 목록 카드용 프로젝션 조회 (description TEXT 컬럼과 추가 이미지 테이블을 읽지 않음)
+    @Query(value = """
+    SELECT new com.likelion.loco_project.domain.space.dto.SpaceCardResponseDto(
+        s.id, s.spaceName, s.spaceType, s.price, s.address, s.maxCapacity, s.spaceRating, s.imageUrl)
+    FROM Space s
+""", countQuery = "SELECT COUNT(s) FROM Space s")
+    Page<SpaceCardResponseDto> findAllCards(Pageable pageable);
+
     @Query("SELECT s FROM Space s WHERE s.host.id = :hostId")
     Page<Space> findByHostId(@Param("hostId") Long hostId, Pageable pageable);
-}
\ No newline at end of file
+
+    // 평점 집계 갱신용 행 잠금 조회 (같은 공간의 리뷰가 동시에 작성되어도 합계/분포가 어긋나지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Space s WHERE s.id = :id")
+    Optional<Space> findByIdForUpdate(@Param("id") Long id);
+
+    // 찜 추가: User.favoriteSpaces 컬렉션을 로딩하지 않고 조인 테이블에 바로 INSERT (이미 찜한 경우 0 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_favorite_spaces (user_id, space_id) VALUES (:userId, :spaceId)", nativeQuery = true)
+    int insertFavorite(@Param("userId") Long userId, @Param("spaceId") Long spaceId);
+
+    // 찜 제거: 조인 테이블에서 바로 DELETE (찜하지 않은 경우 0 반환)
+    @Modifying
+    @Query(value = "DELETE FROM user_favorite_spaces WHERE user_id = :userId AND space_id = :spaceId", nativeQuery = true)
+    int deleteFavorite(@Param("userId") Long userId, @Param("spaceId") Long spaceId);
+
+    // 주어진 공간 ID 중 사용자가 찜한 공간 ID만 한 번에 조회 (목록 페이지의 isFavoritedByMe 채우기용)
+    @Query(value = "SELECT space_id FROM user_favorite_spaces WHERE user_id = :userId AND space_id IN (:spaceIds)", nativeQuery = true)
+    List<Long> findFavoritedSpaceIds(@Param("userId") Long userId, @Param("spaceIds") Collection<Long> spaceIds);
+
+    // 찜 수 증감 (엔티티를 읽지 않고 DB에서 원자적으로 갱신, 0 밑으로 내려가지 않음)
+    // 벌크 UPDATE 는 Auditing 이 적용되지 않으므로 수정일시도 함께 갱신 (인기 랭킹 증분 갱신이 수정일시 기준)
+    @Modifying
+    @Query("UPDATE Space s SET s.favoriteCount = GREATEST(COALESCE(s.favoriteCount, 0) + :delta, 0), s.modifiedDate = :now WHERE s.id = :spaceId")
+    int addFavoriteCount(@Param("spaceId") Long spaceId, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    // 찜 수 보정: 조인 테이블 기준으로 다시 세어 값이 다른 공간만 갱신 (갱신된 공간 수 반환)
+    // favorite_count 컬럼이 생기기 전에 쌓인 찜을 반영하기 위해 기동 시 SpaceAggregateReconciler 에서 실행
+    @Modifying
+    @Query(value = """
+    UPDATE spaces
+    SET favorite_count = (SELECT COUNT(*) FROM user_favorite_spaces f WHERE f.space_id = spaces.id)
+    WHERE favorite_count IS NULL
+       OR favorite_count <> (SELECT COUNT(*) FROM user_favorite_spaces f WHERE f.space_id = spaces.id)
+    """, nativeQuery = true)
+    int reconcileFavoriteCounts();
+
+    // 평점 집계 보정용 (저장된 합계/리뷰 수/분포/평균만 조회)
+    @Query("SELECT s.id AS id, s.ratingSum AS ratingSum, s.reviewCount AS reviewCount, s.ratingHistogram AS ratingHistogram, s.spaceRating AS spaceRating FROM Space s")
+    List<SpaceRatingView> findAllRatingViews();
+
+    // 인기 랭킹 전체 적재
+    @Query("""
+    SELECT s.id AS id, s.spaceName AS spaceName, s.spaceType AS spaceType, s.price AS price, s.address AS address,
+           s.imageUrl AS imageUrl, s.spaceRating AS spaceRating, s.ratingSum AS ratingSum, s.reviewCount AS reviewCount,
+           s.favoriteCount AS favoriteCount, s.status AS status, s.isActive AS isActive
+    FROM Space s
+    """)
+    List<SpaceRankingView> findAllRankingViews();
+
+    // 인기 랭킹 증분 갱신: since 이후 등록/수정된 공간만 조회
+    @Query("""
+    SELECT s.id AS id, s.spaceName AS spaceName, s.spaceType AS spaceType, s.price AS price, s.address AS address,
+           s.imageUrl AS imageUrl, s.spaceRating AS spaceRating, s.ratingSum AS ratingSum, s.reviewCount AS reviewCount,
+           s.favoriteCount AS favoriteCount, s.status AS status, s.isActive AS isActive
+    FROM Space s
+    WHERE s.modifiedDate >= :since OR s.createdDate >= :since
+    """)
+    List<SpaceRankingView> findRankingViewsChangedSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,65 @@
+package com.likelion.loco_project.domain.space.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+// 메모리 인덱스 공통 골격 (자동완성, 유사 공간 추천)
+// 조회는 volatile 스냅샷을 잠금 없이 읽고, 변경은 잠금 안에서 기존 스냅샷을 건드리지 않고 새 스냅샷을 만들어 교체
+// 전체 재구성 중에 들어온 변경은 기록해 두었다가 새로 만든 스냅샷에 다시 적용한 뒤 교체 (재구성 동안의 변경 유실 방지)
+final class SnapshotIndex<S> {
+
+    private volatile S snapshot;
+    private volatile boolean loaded = false;
+    private final List<UnaryOperator<S>> pendingOps = new ArrayList<>();
+    private boolean rebuilding = false;
+    private final Object rebuildMonitor = new Object();
+
+    SnapshotIndex(S initial) {
+        this.snapshot = initial;
+    }
+
+    S get() {
+        return snapshot;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    // op 는 받은 스냅샷을 수정하지 않고 새 스냅샷을 돌려줘야 함 (조회 중인 스레드가 그대로 보고 있음)
+    synchronized void apply(UnaryOperator<S> op) {
+        snapshot = op.apply(snapshot);
+        if (rebuilding) {
+            pendingOps.add(op);
+        }
+    }
+
+    // builder 로 새 스냅샷을 만들고 (DB 조회 포함, 변경 잠금 밖에서 실행) 그 사이의 변경을 다시 적용해 교체
+    S rebuild(Supplier<S> builder) {
+        synchronized (rebuildMonitor) {
+            synchronized (this) {
+                rebuilding = true;
+                pendingOps.clear();
+            }
+            S next = null;
+            try {
+                next = builder.get();
+            } finally {
+                synchronized (this) {
+                    if (next != null) {
+                        for (UnaryOperator<S> op : pendingOps) {
+                            next = op.apply(next);
+                        }
+                        snapshot = next;
+                        loaded = true;
+                    }
+                    pendingOps.clear();
+                    rebuilding = false;
+                }
+            }
+            return next;
+        }
+    }
+}
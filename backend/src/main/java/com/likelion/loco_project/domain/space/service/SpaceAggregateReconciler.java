@@ -0,0 +1,103 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.review.dto.ReviewRatingCountView;
+import com.likelion.loco_project.domain.review.repository.ReviewRepository;
+import com.likelion.loco_project.domain.space.dto.SpaceRatingView;
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 공간 집계 컬럼 보정 (찜 수, 리뷰 평점 합계/수/분포)
+// 집계 컬럼이 추가되기 전에 쌓인 데이터는 증감만으로는 반영되지 않으므로, 기동 시 원본 테이블 기준으로 한 번에 다시 맞춤
+// 인덱스/랭킹이 ApplicationReadyEvent 에서 집계 값을 적재하기 전에 끝나도록 ApplicationRunner 로 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceAggregateReconciler implements ApplicationRunner {
+
+    private final SpaceRepository spaceRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${space-aggregates.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        Integer favoriteFixed = transactionTemplate.execute(status -> spaceRepository.reconcileFavoriteCounts());
+        int ratingFixed = reconcileRatings();
+        log.info("공간 집계 보정 완료. 찜 수 보정: {}건, 평점 보정: {}건, 소요 시간: {}ms",
+                favoriteFixed, ratingFixed, System.currentTimeMillis() - start);
+    }
+
+    // 리뷰 테이블을 공간별/평점별로 한 번 집계해 저장된 값과 비교하고, 다른 공간만 행 잠금 후 다시 계산
+    // (잠금 안에서 해당 공간의 리뷰를 다시 세므로 보정 중에 작성된 리뷰도 빠지지 않음)
+    private int reconcileRatings() {
+        Map<Long, long[]> histograms = toHistograms(reviewRepository.countRatingsGroupBySpace());
+
+        int fixed = 0;
+        for (SpaceRatingView view : spaceRepository.findAllRatingViews()) {
+            long[] histogram = histograms.getOrDefault(view.getId(), new long[Space.MAX_RATING]);
+            if (matches(view, histogram)) {
+                continue;
+            }
+            Long spaceId = view.getId();
+            transactionTemplate.executeWithoutResult(status -> spaceRepository.findByIdForUpdate(spaceId)
+                    .ifPresent(space -> space.resetReviewRating(
+                            toHistograms(reviewRepository.countRatingsBySpaceId(spaceId))
+                                    .getOrDefault(spaceId, new long[Space.MAX_RATING]))));
+            fixed++;
+        }
+        return fixed;
+    }
+
+    private static Map<Long, long[]> toHistograms(List<ReviewRatingCountView> counts) {
+        Map<Long, long[]> histograms = new HashMap<>();
+        for (ReviewRatingCountView count : counts) {
+            int rating = count.getRating();
+            if (rating < 1 || rating > Space.MAX_RATING) {
+                continue; // 리뷰 작성 시 허용하는 1~MAX_RATING 범위 밖의 평점은 집계하지 않음
+            }
+            histograms.computeIfAbsent(count.getSpaceId(), id -> new long[Space.MAX_RATING])[rating - 1] += count.getReviewCount();
+        }
+        return histograms;
+    }
+
+    private static boolean matches(SpaceRatingView view, long[] histogram) {
+        long sum = 0L;
+        long count = 0L;
+        for (int i = 0; i < histogram.length; i++) {
+            sum += histogram[i] * (i + 1);
+            count += histogram[i];
+        }
+        long[] stored = view.getRatingHistogram() == null ? new long[Space.MAX_RATING] : view.getRatingHistogram();
+        BigDecimal average = Space.averageRating(sum, count);
+        BigDecimal storedAverage = view.getSpaceRating();
+        boolean averageMatches = average == null
+                ? storedAverage == null
+                : storedAverage != null && average.compareTo(storedAverage) == 0;
+        return view.getRatingSum() != null && view.getRatingSum() == sum
+                && view.getReviewCount() != null && view.getReviewCount() == count
+                && Arrays.equals(stored, histogram)
+                && averageMatches;
+    }
+}
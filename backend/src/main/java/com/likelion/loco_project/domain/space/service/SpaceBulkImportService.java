@@ -0,0 +1,427 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.loco_project.domain.host.service.HostIdResolver;
+import com.likelion.loco_project.domain.space.dto.SpaceBulkImportResultDto;
+import com.likelion.loco_project.domain.space.dto.SpaceCreateRequestDto;
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.entity.SpaceType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+// 공간 일괄 등록 (NDJSON / CSV 스트리밍)
+// 한 줄씩 읽어 검증하고, 유효한 행을 BATCH_SIZE 단위로 모아 JDBC 배치 INSERT 로 저장
+// 잘못된 행은 줄 번호와 함께 오류로 기록하고 나머지 행은 계속 처리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpaceBulkImportService {
+
+    public static final int BATCH_SIZE = 500;
+    public static final int MAX_REPORTED_ERRORS = 1000;
+    private static final String IMAGE_URL_SEPARATOR = "|"; // CSV imageUrls 컬럼의 URL 구분자
+
+    // spaces.id 는 IDENTITY 이므로 Hibernate 배치 대신 JDBC 배치로 직접 INSERT 하고 생성된 키를 돌려받음
+    // (MySQL 은 rewriteBatchedStatements=true 일 때 한 번의 multi-row INSERT 로 전송)
+    private static final String INSERT_SPACE_SQL = """
+            INSERT INTO spaces (created_date, modified_date, space_name, description, upload_date, space_type, price,
+                                address, detail_address, neighborhood_info, latitude, longitude, max_capacity, is_active,
+                                space_rating, favorite_count, rating_sum, review_count, host_id, status, image_url,
+                                refund_policy, space_rules)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NULL, 0, 0, 0, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_IMAGE_SQL = "INSERT INTO space_additional_images (space_id, image_url) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final HostIdResolver hostIdResolver;
+    private final SpaceGeoIndex spaceGeoIndex;
+    private final SpaceSearchIndex spaceSearchIndex;
+    private final SpaceStatsCounter spaceStatsCounter;
+    private final SpaceCatalogVersion spaceCatalogVersion;
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private record Row(long line, SpaceCreateRequestDto dto) {
+    }
+
+    // 진행 상황 누적
+    private static class ImportState {
+        long totalRows;
+        long successCount;
+        long failureCount;
+        final List<Long> createdSpaceIds = new ArrayList<>();
+        final List<SpaceBulkImportResultDto.RowError> errors = new ArrayList<>();
+        final List<Row> pending = new ArrayList<>(BATCH_SIZE);
+
+        void fail(long line, String message) {
+            failureCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new SpaceBulkImportResultDto.RowError(line, message));
+            }
+        }
+    }
+
+    public SpaceBulkImportResultDto importSpaces(Long userId, Format format, InputStream input) {
+        Long hostId = hostIdResolver.findHostId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("호스트를 찾을 수 없습니다. User ID: " + userId));
+
+        ImportState state = new ImportState();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            if (format == Format.NDJSON) {
+                readNdjson(reader, hostId, state);
+            } else {
+                readCsv(reader, hostId, state);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("입력을 읽는 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+        flush(hostId, state);
+
+        log.info("공간 일괄 등록 완료. Host ID: {}, 전체: {}, 성공: {}, 실패: {}",
+                hostId, state.totalRows, state.successCount, state.failureCount);
+        return SpaceBulkImportResultDto.builder()
+                .totalRows(state.totalRows)
+                .successCount(state.successCount)
+                .failureCount(state.failureCount)
+                .createdSpaceIds(state.createdSpaceIds)
+                .errors(state.errors)
+                .errorsTruncated(state.failureCount > state.errors.size())
+                .build();
+    }
+
+    private void readNdjson(BufferedReader reader, Long hostId, ImportState state) throws IOException {
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            state.totalRows++;
+            SpaceCreateRequestDto dto;
+            try {
+                dto = objectMapper.readValue(line, SpaceCreateRequestDto.class);
+            } catch (JsonProcessingException e) {
+                state.fail(lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+                continue;
+            }
+            accept(new Row(lineNumber, dto), hostId, state);
+        }
+    }
+
+    // 첫 줄은 헤더 (SpaceCreateRequestDto 필드명: type,name,description,capacity,address,detailAddress,
+    // neighborhoodInfo,latitude,longitude,price,refundPolicy,spaceRules,imageUrls), imageUrls 는 '|' 로 구분
+    private void readCsv(BufferedReader reader, Long hostId, ImportState state) throws IOException {
+        long[] lineNumber = {0};
+        List<String> header = readCsvRecord(reader, lineNumber);
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().replace("\uFEFF", ""), i); // 엑셀에서 저장한 CSV의 BOM 제거
+        }
+
+        List<String> record;
+        long recordLine = lineNumber[0] + 1;
+        while ((record = readCsvRecord(reader, lineNumber)) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                recordLine = lineNumber[0] + 1;
+                continue;
+            }
+            state.totalRows++;
+            try {
+                accept(new Row(recordLine, toDto(columns, record)), hostId, state);
+            } catch (IllegalArgumentException e) {
+                state.fail(recordLine, e.getMessage());
+            }
+            recordLine = lineNumber[0] + 1;
+        }
+    }
+
+    private SpaceCreateRequestDto toDto(Map<String, Integer> columns, List<String> record) {
+        String imageUrls = csvValue(columns, record, "imageUrls");
+        return SpaceCreateRequestDto.builder()
+                .type(parseType(csvValue(columns, record, "type")))
+                .name(csvValue(columns, record, "name"))
+                .description(csvValue(columns, record, "description"))
+                .capacity(parseNumber(csvValue(columns, record, "capacity"), "capacity", Integer::valueOf))
+                .address(csvValue(columns, record, "address"))
+                .detailAddress(csvValue(columns, record, "detailAddress"))
+                .neighborhoodInfo(csvValue(columns, record, "neighborhoodInfo"))
+                .latitude(parseNumber(csvValue(columns, record, "latitude"), "latitude", BigDecimal::new))
+                .longitude(parseNumber(csvValue(columns, record, "longitude"), "longitude", BigDecimal::new))
+                .price(parseNumber(csvValue(columns, record, "price"), "price", Long::valueOf))
+                .refundPolicy(csvValue(columns, record, "refundPolicy"))
+                .spaceRules(csvValue(columns, record, "spaceRules"))
+                .imageUrls(imageUrls == null ? null : Arrays.stream(imageUrls.split("\\" + IMAGE_URL_SEPARATOR))
+                        .map(String::trim)
+                        .filter(url -> !url.isEmpty())
+                        .toList())
+                .build();
+    }
+
+    private static String csvValue(Map<String, Integer> columns, List<String> record, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static SpaceType parseType(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return SpaceType.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("존재하지 않는 공간 유형입니다: " + value);
+        }
+    }
+
+    private static <T> T parseNumber(String value, String field, Function<String, T> parser) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    // CSV 레코드 하나 읽기 (따옴표 안의 콤마/줄바꿈, "" 이스케이프 지원), 입력 끝이면 null
+    private static List<String> readCsvRecord(BufferedReader reader, long[] lineNumber) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber[0]++;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            // 따옴표가 닫히지 않았으면 다음 줄까지 같은 필드
+            line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            lineNumber[0]++;
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private void accept(Row row, Long hostId, ImportState state) {
+        String error = validate(row.dto());
+        if (error != null) {
+            state.fail(row.line(), error);
+            return;
+        }
+        state.pending.add(row);
+        if (state.pending.size() >= BATCH_SIZE) {
+            flush(hostId, state);
+        }
+    }
+
+    // 단건 등록(POST /api/v1/spaces)과 같은 필수값 + 컬럼 길이/범위 검사
+    private static String validate(SpaceCreateRequestDto dto) {
+        if (dto.getType() == null) return "공간 유형(type)은 필수입니다.";
+        if (isBlank(dto.getName())) return "공간 이름(name)은 필수입니다.";
+        if (dto.getName().length() > 100) return "공간 이름(name)은 100자 이하여야 합니다.";
+        if (isBlank(dto.getAddress())) return "주소(address)는 필수입니다.";
+        if (dto.getAddress().length() > 300) return "주소(address)는 300자 이하여야 합니다.";
+        if (dto.getDetailAddress() != null && dto.getDetailAddress().length() > 300) return "상세 주소(detailAddress)는 300자 이하여야 합니다.";
+        if (dto.getNeighborhoodInfo() != null && dto.getNeighborhoodInfo().length() > 300) return "주변 정보(neighborhoodInfo)는 300자 이하여야 합니다.";
+        if (dto.getLatitude() == null || dto.getLongitude() == null) return "위도/경도(latitude, longitude)는 필수입니다.";
+        if (dto.getLatitude().abs().compareTo(BigDecimal.valueOf(90)) > 0) return "위도(latitude)는 -90 ~ 90 사이여야 합니다.";
+        if (dto.getLongitude().abs().compareTo(BigDecimal.valueOf(180)) > 0) return "경도(longitude)는 -180 ~ 180 사이여야 합니다.";
+        if (dto.getPrice() == null || dto.getPrice() < 0) return "가격(price)은 0 이상이어야 합니다.";
+        if (dto.getCapacity() != null && dto.getCapacity() <= 0) return "최대 인원(capacity)은 1 이상이어야 합니다.";
+        if (dto.getImageUrls() != null) {
+            for (String url : dto.getImageUrls()) {
+                if (isBlank(url)) return "이미지 URL이 비어 있습니다.";
+                if (url.length() > 512) return "이미지 URL은 512자 이하여야 합니다.";
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // 모인 행을 배치 INSERT 하고 다음 배치로 진행
+    private void flush(Long hostId, ImportState state) {
+        if (state.pending.isEmpty()) {
+            return;
+        }
+        List<Row> batch = new ArrayList<>(state.pending);
+        state.pending.clear();
+        insertBatch(hostId, batch, state);
+    }
+
+    // 한 트랜잭션에서 배치 INSERT, 실패하면 반으로 나눠 각각 다시 시도하고 한 행만 남았을 때 그 행을 실패로 기록
+    // (DB 제약 위반 행 하나 때문에 같은 배치의 정상 행까지 실패 처리되지 않도록 함, 잘못된 행 k개당 추가 트랜잭션은 약 2·log2(BATCH_SIZE)개)
+    private void insertBatch(Long hostId, List<Row> batch, ImportState state) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids;
+        try {
+            ids = transactionTemplate.execute(status -> {
+                List<Long> generated = jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> insertSpaces(con, hostId, batch, now));
+                insertImages(batch, generated);
+                return generated;
+            });
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.warn("공간 일괄 등록 행 실패. Host ID: {}, 줄: {}, 에러: {}", hostId, batch.get(0).line(), e.getMessage());
+                state.fail(batch.get(0).line(), "저장 중 오류가 발생했습니다: " + e.getMessage());
+                return;
+            }
+            log.debug("공간 일괄 등록 배치 실패, 나눠서 다시 시도. Host ID: {}, 행 수: {}", hostId, batch.size());
+            int mid = batch.size() / 2;
+            insertBatch(hostId, batch.subList(0, mid), state);
+            insertBatch(hostId, batch.subList(mid, batch.size()), state);
+            return;
+        }
+
+        state.successCount += ids.size();
+        state.createdSpaceIds.addAll(ids);
+        onSpacesImported(hostId, batch, ids, now);
+    }
+
+    private List<Long> insertSpaces(Connection con, Long hostId, List<Row> batch, LocalDateTime now) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        try (PreparedStatement ps = con.prepareStatement(INSERT_SPACE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (Row row : batch) {
+                SpaceCreateRequestDto dto = row.dto();
+                int i = 1;
+                ps.setTimestamp(i++, timestamp);
+                ps.setTimestamp(i++, timestamp);
+                ps.setString(i++, dto.getName());
+                ps.setString(i++, dto.getDescription());
+                ps.setTimestamp(i++, timestamp);
+                ps.setString(i++, dto.getType().name());
+                ps.setLong(i++, dto.getPrice());
+                ps.setString(i++, dto.getAddress());
+                ps.setString(i++, dto.getDetailAddress());
+                ps.setString(i++, dto.getNeighborhoodInfo());
+                ps.setBigDecimal(i++, dto.getLatitude());
+                ps.setBigDecimal(i++, dto.getLongitude());
+                ps.setObject(i++, dto.getCapacity(), Types.INTEGER);
+                ps.setBoolean(i++, true);
+                ps.setLong(i++, hostId);
+                ps.setString(i++, SpaceStatus.PENDING.name());
+                ps.setString(i++, mainImage(dto));
+                ps.setString(i++, dto.getRefundPolicy());
+                ps.setString(i, dto.getSpaceRules());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+
+            List<Long> ids = new ArrayList<>(batch.size());
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                while (keys.next()) {
+                    ids.add(keys.getLong(1));
+                }
+            }
+            if (ids.size() != batch.size()) {
+                throw new SQLException("생성된 공간 ID 수가 행 수와 다릅니다. 행: " + batch.size() + ", ID: " + ids.size());
+            }
+            return ids;
+        }
+    }
+
+    private void insertImages(List<Row> batch, List<Long> ids) {
+        List<Object[]> images = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            for (String url : additionalImages(batch.get(i).dto())) {
+                images.add(new Object[]{ids.get(i), url});
+            }
+        }
+        if (!images.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_IMAGE_SQL, images);
+        }
+    }
+
+    // 커밋된 배치를 메모리 인덱스/집계에 반영하고 검색 캐시를 무효화
+    private void onSpacesImported(Long hostId, List<Row> batch, List<Long> ids, LocalDateTime now) {
+        for (int i = 0; i < batch.size(); i++) {
+            SpaceCreateRequestDto dto = batch.get(i).dto();
+            Space space = Space.builder()
+                    .id(ids.get(i))
+                    .spaceName(dto.getName())
+                    .description(dto.getDescription())
+                    .uploadDate(now)
+                    .spaceType(dto.getType())
+                    .price(dto.getPrice())
+                    .address(dto.getAddress())
+                    .neighborhoodInfo(dto.getNeighborhoodInfo())
+                    .latitude(dto.getLatitude())
+                    .longitude(dto.getLongitude())
+                    .isActive(true)
+                    .status(SpaceStatus.PENDING)
+                    .build();
+            spaceGeoIndex.update(space);
+            spaceSearchIndex.update(space);
+            spaceStatsCounter.update(space);
+        }
+        spaceCatalogVersion.bump();
+    }
+
+    private static String mainImage(SpaceCreateRequestDto dto) {
+        return dto.getImageUrls() == null || dto.getImageUrls().isEmpty() ? null : dto.getImageUrls().get(0);
+    }
+
+    private static List<String> additionalImages(SpaceCreateRequestDto dto) {
+        List<String> urls = dto.getImageUrls();
+        return urls == null || urls.size() <= 1 ? List.of() : urls.subList(1, urls.size());
+    }
+}
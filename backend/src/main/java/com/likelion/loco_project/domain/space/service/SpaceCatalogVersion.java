@@ -0,0 +1,34 @@
+package com.likelion.loco_project.domain.space.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 공간 카탈로그 전체 버전
+// 공간이 등록/수정/삭제/승인/반려될 때마다 올라가며, 검색 결과 캐시 키에 포함되어 옛 결과가 다시 쓰이지 않게 함
+// 목록 응답의 ETag 로도 사용 (재시작 후 같은 번호가 다시 나오지 않도록 기동 시각을 붙임)
+@Component
+public class SpaceCatalogVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong stamp = new AtomicLong(); // 상세 DTO 를 새로 만들 때마다 증가
+
+    public long current() {
+        return version.get();
+    }
+
+    public long bump() {
+        return version.incrementAndGet();
+    }
+
+    // 목록 응답 ETag 값 (카탈로그가 바뀌면 달라짐)
+    public String tag() {
+        return epoch + "-" + version.get();
+    }
+
+    // 캐시에 새로 적재되는 상세 DTO 마다 다른 값 (같은 값이면 같은 내용)
+    public String nextStamp() {
+        return epoch + "-" + stamp.incrementAndGet();
+    }
+}
@@ -0,0 +1,40 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.loco_project.domain.space.dto.SpaceResponseDto;
+import com.likelion.loco_project.global.cache.LocalCache;
+import com.likelion.loco_project.global.rsData.RsData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 공간 상세 응답 본문(JSON, UTF-8)을 직렬화된 바이트 배열로 캐시
+// 많이 조회되는 공간은 요청마다 Jackson 으로 같은 DTO 를 다시 직렬화하지 않고 바이트를 그대로 응답에 씀
+// 키는 상세 DTO 의 ETag 값(캐시에 새로 적재될 때마다 바뀜) + 찜 여부이므로, 공간이 바뀌면 옛 본문은 다시 쓰이지 않고 LRU/TTL 로 정리됨
+@Component
+@RequiredArgsConstructor
+public class SpaceDetailBodyCache {
+
+    public static final String RESULT_CODE = "S-200";
+    public static final String MESSAGE = "공간 조회 성공";
+
+    private final LocalCache<String, byte[]> spaceDetailBodyCache;
+    private final ObjectMapper objectMapper;
+
+    // favoritedByMe 가 null 이면 비로그인 사용자용 본문
+    public byte[] getBody(SpaceResponseDto dto, Boolean favoritedByMe) {
+        SpaceResponseDto body = favoritedByMe == null ? dto : dto.withFavoritedByMe(favoritedByMe);
+        if (dto.getEtag() == null) {
+            return render(body);
+        }
+        return spaceDetailBodyCache.get(dto.getEtag() + ":" + favoritedByMe, key -> render(body));
+    }
+
+    private byte[] render(SpaceResponseDto dto) {
+        try {
+            return objectMapper.writeValueAsBytes(RsData.of(RESULT_CODE, MESSAGE, dto));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("공간 상세 응답을 직렬화하지 못했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.space.dto.SpaceFacetDto;
+import com.likelion.loco_project.domain.space.dto.SpaceFacetView;
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.entity.SpaceType;
+import com.likelion.loco_project.domain.space.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 검색 패싯(유형/가격대/인원대별 개수) 집계용 인덱스
+// 승인된 공간의 필터 컬럼만 메모리에 두고, 후보를 한 번만 훑으면서 모든 패싯 개수와 조건에 맞는 공간 목록을 함께 계산 (패싯마다 GROUP BY 하지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceFacetIndex {
+
+    // 가격대/인원대 경계 (각 구간은 [경계값, 다음 경계값) )
+    private static final long[] PRICE_BOUNDS = {10_000, 30_000, 50_000, 100_000};
+    private static final long[] CAPACITY_BOUNDS = {5, 11, 21, 51};
+    private static final int DEADLINE_CHECK_INTERVAL = 1024; // 몇 건마다 시간 제한을 확인할지
+
+    private final SpaceRepository spaceRepository;
+
+    @Value("${space-facets.budget-ms:50}")
+    private long budgetMs;
+
+    private final Map<Long, Row> rows = new ConcurrentHashMap<>(); // 공간 ID -> 필터 컬럼 (승인된 공간만)
+    private volatile boolean loaded = false;
+
+    // price/capacity 가 없으면 -1
+    private record Row(long id, SpaceType spaceType, long price, long capacity, String address) {
+    }
+
+    // 모든 조건에 맞는 공간 (검색 결과 페이지를 메모리에서 정렬해 자르기 위한 정렬 값 포함, price 가 없으면 -1)
+    public record Match(long id, long price) {
+    }
+
+    // 한 번의 순회 결과 (패싯 개수 + 모든 조건에 맞는 공간, 순서 없음)
+    public record Result(SpaceFacetDto facets, List<Match> matches) {
+    }
+
+    // 패싯 계산 조건 (null 이면 해당 조건 없음)
+    public record Query(
+            Collection<Long> candidateIds,  // 검색어 인덱스가 찾은 후보 (null 이면 전체)
+            String addressKeyword,          // 검색어 인덱스를 쓸 수 없을 때의 주소 포함 검색어
+            Set<Long> excludedIds,          // 예약 가능 시간 조건으로 제외할 공간
+            Set<SpaceType> spaceTypes,
+            Long minPrice,
+            Long maxPrice,
+            Integer capacity) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        for (SpaceFacetView view : spaceRepository.findAllFacetViews()) {
+            put(view.getId(), view.getStatus(), view.getSpaceType(), view.getPrice(), view.getMaxCapacity(), view.getAddress());
+        }
+        loaded = true;
+        log.info("검색 패싯 인덱스 적재 완료. 공간 수: {}, 소요 시간: {}ms", rows.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // 공간 등록/수정/승인/반려 시 호출 (승인되지 않은 공간은 검색 대상이 아니므로 제거)
+    public void update(Space space) {
+        if (space.getId() == null) {
+            return;
+        }
+        put(space.getId(), space.getStatus(), space.getSpaceType(), space.getPrice(), space.getMaxCapacity(), space.getAddress());
+    }
+
+    public void remove(long id) {
+        rows.remove(id);
+    }
+
+    private void put(Long id, SpaceStatus status, SpaceType spaceType, Long price, Integer capacity, String address) {
+        if (status != SpaceStatus.APPROVED) {
+            rows.remove(id);
+            return;
+        }
+        rows.put(id, new Row(id, spaceType,
+                price == null ? -1 : price,
+                capacity == null ? -1 : capacity,
+                address == null ? "" : address.toLowerCase(Locale.ROOT)));
+    }
+
+    // 인덱스 적재 전에 돌려줄 빈 패싯 (모든 개수 0, 일부만 집계된 것으로 표시)
+    public static SpaceFacetDto emptyFacets() {
+        return toFacets(new long[SpaceType.values().length], new long[PRICE_BOUNDS.length + 1],
+                new long[CAPACITY_BOUNDS.length + 1], 0, true);
+    }
+
+    // 조건에 맞는 공간과 패싯 개수를 한 번의 순회로 계산
+    // 각 공간마다 유형/가격/인원 조건을 따로 판정해, 자기 조건만 빠진 패싯에도 함께 더함
+    public Result compute(Query query) {
+        long deadline = System.nanoTime() + budgetMs * 1_000_000L;
+        long[] typeCounts = new long[SpaceType.values().length];
+        long[] priceCounts = new long[PRICE_BOUNDS.length + 1];
+        long[] capacityCounts = new long[CAPACITY_BOUNDS.length + 1];
+        List<Match> matches = new ArrayList<>();
+        boolean partial = false;
+        String keyword = query.addressKeyword() == null ? null : query.addressKeyword().toLowerCase(Locale.ROOT);
+
+        Iterator<Row> iterator = query.candidateIds() == null
+                ? rows.values().iterator()
+                : query.candidateIds().stream().map(rows::get).filter(Objects::nonNull).iterator();
+        int scanned = 0;
+        while (iterator.hasNext()) {
+            if (++scanned % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                partial = true; // 시간 제한을 넘으면 여기까지 집계한 값을 반환
+                break;
+            }
+            Row row = iterator.next();
+            if (keyword != null && !row.address().contains(keyword)) {
+                continue;
+            }
+            if (query.excludedIds() != null && query.excludedIds().contains(row.id())) {
+                continue;
+            }
+
+            boolean typeOk = query.spaceTypes() == null || query.spaceTypes().isEmpty()
+                    || query.spaceTypes().contains(row.spaceType());
+            boolean priceOk = (query.minPrice() == null || (row.price() >= 0 && row.price() >= query.minPrice()))
+                    && (query.maxPrice() == null || (row.price() >= 0 && row.price() <= query.maxPrice()));
+            boolean capacityOk = query.capacity() == null || row.capacity() >= query.capacity();
+
+            if (priceOk && capacityOk && row.spaceType() != null) {
+                typeCounts[row.spaceType().ordinal()]++;
+            }
+            if (typeOk && capacityOk && row.price() >= 0) {
+                priceCounts[bucketIndex(PRICE_BOUNDS, row.price())]++;
+            }
+            if (typeOk && priceOk && row.capacity() >= 0) {
+                capacityCounts[bucketIndex(CAPACITY_BOUNDS, row.capacity())]++;
+            }
+            if (typeOk && priceOk && capacityOk) {
+                matches.add(new Match(row.id(), row.price()));
+            }
+        }
+
+        return new Result(toFacets(typeCounts, priceCounts, capacityCounts, matches.size(), partial), matches);
+    }
+
+    private static SpaceFacetDto toFacets(long[] typeCounts, long[] priceCounts, long[] capacityCounts, long total, boolean partial) {
+        Map<String, Long> spaceTypes = new LinkedHashMap<>();
+        for (SpaceType type : SpaceType.values()) {
+            spaceTypes.put(type.name(), typeCounts[type.ordinal()]);
+        }
+        return SpaceFacetDto.builder()
+                .total(total)
+                .spaceTypes(spaceTypes)
+                .priceBuckets(toBuckets(PRICE_BOUNDS, priceCounts, 0))
+                .capacityBuckets(toBuckets(CAPACITY_BOUNDS, capacityCounts, 1))
+                .partial(partial)
+                .build();
+    }
+
+    // 값이 들어갈 구간 번호 (경계 배열이 작아 선형 탐색)
+    private static int bucketIndex(long[] bounds, long value) {
+        int i = 0;
+        while (i < bounds.length && value >= bounds[i]) {
+            i++;
+        }
+        return i;
+    }
+
+    private static List<SpaceFacetDto.Bucket> toBuckets(long[] bounds, long[] counts, long lowest) {
+        List<SpaceFacetDto.Bucket> buckets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            long min = i == 0 ? lowest : bounds[i - 1];
+            Long max = i < bounds.length ? bounds[i] - 1 : null;
+            String label = min + "~" + (max == null ? "" : max);
+            buckets.add(new SpaceFacetDto.Bucket(label, min, max, counts[i]));
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,368 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.space.dto.SpaceClusterDto;
+import com.likelion.loco_project.domain.space.dto.SpaceGeoPointView;
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 활성화되고 승인된 공간의 좌표를 메모리 격자(grid)에 올려두고 지도 영역/반경 조회를 DB 없이 처리하는 인덱스
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceGeoIndex {
+
+    private static final double CELL_SIZE = 0.01;        // 격자 한 칸 크기 (위경도 0.01도 ≒ 1.1km)
+    private static final long MAX_SCAN_CELLS = 10_000;   // 조회 범위의 격자 수가 이보다 많으면 전체 좌표를 직접 순회
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    public static final double KM_PER_DEGREE = 111.32;  // 위경도 1도의 거리(km), 적도/위도 방향 근사값
+    private static final double KM_PER_DEGREE_LAT = Math.toRadians(1) * EARTH_RADIUS_KM; // 하버사인과 같은 지구 반지름 기준
+
+    private final SpaceRepository spaceRepository;
+
+    private final Map<Long, GeoPoint> points = new ConcurrentHashMap<>();  // 공간 ID -> 좌표
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();  // 격자 키 -> 공간 ID 목록
+    private final Map<Long, CellSummary> summaries = new ConcurrentHashMap<>(); // 격자 키 -> 격자 집계 (클러스터링용)
+    private volatile boolean loaded = false;
+
+    private record GeoPoint(long id, double lat, double lng, long price, long cellKey) {
+    }
+
+    // 최근접 조회 결과 (공간 ID, 중심 좌표로부터의 거리 km)
+    public record Nearest(long id, double distanceKm) {
+        static final Comparator<Nearest> FARTHEST_FIRST = Comparator
+                .comparingDouble(Nearest::distanceKm)
+                .thenComparingLong(Nearest::id)
+                .reversed();
+    }
+
+    // 격자 한 칸의 집계 값 (공간 수, 위경도 합계, 최저가), 변경 시 새 객체로 교체
+    private record CellSummary(int count, double sumLat, double sumLng, long minPrice) {
+    }
+
+    // 애플리케이션 시작 시 활성화되고 승인된 공간 좌표를 한 번에 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        List<SpaceGeoPointView> rows = spaceRepository.findAllActiveGeoPoints();
+        for (SpaceGeoPointView row : rows) {
+            if (row.getLatitude() == null || row.getLongitude() == null) {
+                continue;
+            }
+            put(row.getId(), row.getLatitude().doubleValue(), row.getLongitude().doubleValue(),
+                    row.getPrice() == null ? 0L : row.getPrice());
+        }
+        loaded = true;
+        log.info("공간 좌표 인덱스 적재 완료. 공간 수: {}, 소요 시간: {}ms", points.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    // 공간 등록/수정/승인/반려 시 호출, 비활성화/미승인이거나 좌표가 없으면 인덱스에서 제거 (지도/주변 조회에 노출되지 않도록)
+    public void update(Space space) {
+        if (space.getId() == null) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(space.getIsActive()) || space.getStatus() != SpaceStatus.APPROVED
+                || space.getLatitude() == null || space.getLongitude() == null) {
+            remove(space.getId());
+            return;
+        }
+        put(space.getId(), space.getLatitude().doubleValue(), space.getLongitude().doubleValue(),
+                space.getPrice() == null ? 0L : space.getPrice());
+    }
+
+    public synchronized void put(long id, double lat, double lng, long price) {
+        remove(id);
+        long key = cellKey(cellIndex(lat), cellIndex(lng));
+        points.put(id, new GeoPoint(id, lat, lng, price, key));
+        cells.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+
+        CellSummary old = summaries.get(key);
+        summaries.put(key, old == null
+                ? new CellSummary(1, lat, lng, price)
+                : new CellSummary(old.count() + 1, old.sumLat() + lat, old.sumLng() + lng, Math.min(old.minPrice(), price)));
+    }
+
+    public synchronized void remove(long id) {
+        GeoPoint old = points.remove(id);
+        if (old == null) {
+            return;
+        }
+        Set<Long> ids = cells.get(old.cellKey());
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                cells.remove(old.cellKey());
+            }
+        }
+        refreshSummary(old.cellKey());
+    }
+
+    // 격자 집계 재계산 (삭제 시 최저가는 증분으로 되돌릴 수 없어 해당 격자만 다시 계산)
+    private void refreshSummary(long key) {
+        Set<Long> ids = cells.get(key);
+        if (ids == null || ids.isEmpty()) {
+            summaries.remove(key);
+            return;
+        }
+        int count = 0;
+        double sumLat = 0;
+        double sumLng = 0;
+        long minPrice = Long.MAX_VALUE;
+        for (Long id : ids) {
+            GeoPoint p = points.get(id);
+            if (p == null) {
+                continue;
+            }
+            count++;
+            sumLat += p.lat();
+            sumLng += p.lng();
+            minPrice = Math.min(minPrice, p.price());
+        }
+        summaries.put(key, new CellSummary(count, sumLat, sumLng, minPrice));
+    }
+
+    // 지도 범위 안의 공간을 격자 단위 클러스터로 묶어 반환 (중심 좌표, 공간 수, 최저가)
+    // 공간 하나하나가 아니라 미리 집계된 격자만 합치므로, 범위 안 공간 수와 관계없이 비용이 격자 수에 비례
+    // cellsPerCluster: 클러스터 한 변에 들어가는 기본 격자 수 (지도 레벨이 클수록 큼)
+    public List<SpaceClusterDto> cluster(double latMin, double latMax, double lngMin, double lngMax, int cellsPerCluster) {
+        int rowMin = cellIndex(clampLat(latMin));
+        int rowMax = cellIndex(clampLat(latMax));
+        int colMin = cellIndex(clampLng(lngMin));
+        int colMax = cellIndex(clampLng(lngMax));
+        long boxCells = cellCount(rowMin, rowMax, colMin, colMax);
+
+        Map<Long, double[]> clusters = new HashMap<>(); // 클러스터 키 -> {공간 수, 위도 합, 경도 합, 최저가}
+        if (boxCells > summaries.size()) {
+            // 범위가 넓으면 비어 있지 않은 격자만 훑음
+            summaries.forEach((key, summary) -> {
+                int row = (int) (key >> 32);
+                int col = (int) key.longValue();
+                if (row >= rowMin && row <= rowMax && col >= colMin && col <= colMax) {
+                    addToCluster(clusters, row, col, cellsPerCluster, summary);
+                }
+            });
+        } else {
+            for (int row = rowMin; row <= rowMax; row++) {
+                for (int col = colMin; col <= colMax; col++) {
+                    CellSummary summary = summaries.get(cellKey(row, col));
+                    if (summary != null) {
+                        addToCluster(clusters, row, col, cellsPerCluster, summary);
+                    }
+                }
+            }
+        }
+
+        List<SpaceClusterDto> result = new ArrayList<>(clusters.size());
+        for (double[] acc : clusters.values()) {
+            long count = (long) acc[0];
+            if (count == 0) {
+                continue;
+            }
+            result.add(SpaceClusterDto.builder()
+                    .latitude(acc[1] / count)
+                    .longitude(acc[2] / count)
+                    .count(count)
+                    .minPrice((long) acc[3])
+                    .build());
+        }
+        return result;
+    }
+
+    private static void addToCluster(Map<Long, double[]> clusters, int row, int col, int cellsPerCluster, CellSummary summary) {
+        long clusterKey = cellKey(Math.floorDiv(row, cellsPerCluster), Math.floorDiv(col, cellsPerCluster));
+        double[] acc = clusters.computeIfAbsent(clusterKey, k -> new double[]{0, 0, 0, Double.MAX_VALUE});
+        acc[0] += summary.count();
+        acc[1] += summary.sumLat();
+        acc[2] += summary.sumLng();
+        acc[3] = Math.min(acc[3], summary.minPrice());
+    }
+
+    // 위경도 범위(bounding box) 안의 공간 ID 조회
+    public List<Long> findInBox(double latMin, double latMax, double lngMin, double lngMax) {
+        List<Long> result = new ArrayList<>();
+        int rowMin = cellIndex(clampLat(latMin));
+        int rowMax = cellIndex(clampLat(latMax));
+        int colMin = cellIndex(clampLng(lngMin));
+        int colMax = cellIndex(clampLng(lngMax));
+
+        if (cellCount(rowMin, rowMax, colMin, colMax) > MAX_SCAN_CELLS) {
+            // 아주 넓은 범위는 빈 격자를 도는 것보다 전체 좌표를 한 번 훑는 편이 빠름
+            for (GeoPoint p : points.values()) {
+                if (inBox(p, latMin, latMax, lngMin, lngMax)) {
+                    result.add(p.id());
+                }
+            }
+            return result;
+        }
+
+        for (int row = rowMin; row <= rowMax; row++) {
+            for (int col = colMin; col <= colMax; col++) {
+                Set<Long> ids = cells.get(cellKey(row, col));
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    GeoPoint p = points.get(id);
+                    if (p != null && inBox(p, latMin, latMax, lngMin, lngMax)) {
+                        result.add(id);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // 중심 좌표에서 반경(km) 안의 공간 ID 조회
+    public List<Long> findInRadius(double lat, double lng, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE;
+        double dLng = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+
+        List<Long> result = new ArrayList<>();
+        for (Long id : findInBox(lat - dLat, lat + dLat, lng - dLng, lng + dLng)) {
+            GeoPoint p = points.get(id);
+            if (p != null && distanceKm(lat, lng, p.lat(), p.lng()) <= radiusKm) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    // 중심 좌표에서 가까운 순으로 최대 limit개 (maxRadiusKm 밖은 제외)
+    // 중심 격자부터 한 겹(ring)씩 넓혀 가며 크기 limit 의 최대 힙에 후보를 넣고,
+    // 힙이 가득 찼고 가장 먼 후보가 아직 보지 않은 격자까지의 최소 거리보다 가까우면 중단 -> 범위 전체를 가져와 정렬하지 않음
+    public List<Nearest> findNearest(double lat, double lng, int limit, double maxRadiusKm) {
+        if (limit <= 0 || points.isEmpty()) {
+            return List.of();
+        }
+        PriorityQueue<Nearest> heap = new PriorityQueue<>(limit + 1, Nearest.FARTHEST_FIRST);
+        int row0 = cellIndex(lat);
+        int col0 = cellIndex(lng);
+        long scannedCells = 0;
+
+        for (int ring = 0; ; ring++) {
+            scannedCells += ring == 0 ? 1 : 8L * ring;
+            if (scannedCells > points.size()) {
+                // 공간이 드문 지역이라 빈 격자를 도는 비용이 전체 좌표를 한 번 훑는 것보다 커지면 전체 순회로 전환
+                heap.clear();
+                for (GeoPoint p : points.values()) {
+                    offer(heap, limit, p.id(), distanceKm(lat, lng, p.lat(), p.lng()), maxRadiusKm);
+                }
+                break;
+            }
+            if (ring == 0) {
+                offerCell(heap, limit, row0, col0, lat, lng, maxRadiusKm);
+            } else {
+                for (int col = col0 - ring; col <= col0 + ring; col++) {
+                    offerCell(heap, limit, row0 - ring, col, lat, lng, maxRadiusKm);
+                    offerCell(heap, limit, row0 + ring, col, lat, lng, maxRadiusKm);
+                }
+                for (int row = row0 - ring + 1; row <= row0 + ring - 1; row++) {
+                    offerCell(heap, limit, row, col0 - ring, lat, lng, maxRadiusKm);
+                    offerCell(heap, limit, row, col0 + ring, lat, lng, maxRadiusKm);
+                }
+            }
+
+            double unseenKm = minDistanceOutsideRingKm(lat, ring);
+            if (unseenKm > maxRadiusKm || (heap.size() == limit && heap.peek().distanceKm() <= unseenKm)) {
+                break;
+            }
+        }
+
+        List<Nearest> result = new ArrayList<>(heap);
+        result.sort(Nearest.FARTHEST_FIRST.reversed());
+        return result;
+    }
+
+    private void offerCell(PriorityQueue<Nearest> heap, int limit, int row, int col, double lat, double lng, double maxRadiusKm) {
+        Set<Long> ids = cells.get(cellKey(row, col));
+        if (ids == null) {
+            return;
+        }
+        for (Long id : ids) {
+            GeoPoint p = points.get(id);
+            if (p != null) {
+                offer(heap, limit, id, distanceKm(lat, lng, p.lat(), p.lng()), maxRadiusKm);
+            }
+        }
+    }
+
+    // 힙이 가득 차면 가장 먼 후보보다 가까울 때만 교체 (힙 크기는 항상 limit 이하)
+    private static void offer(PriorityQueue<Nearest> heap, int limit, long id, double distanceKm, double maxRadiusKm) {
+        if (distanceKm > maxRadiusKm) {
+            return;
+        }
+        if (heap.size() < limit) {
+            heap.add(new Nearest(id, distanceKm));
+        } else if (distanceKm < heap.peek().distanceKm()) {
+            heap.poll();
+            heap.add(new Nearest(id, distanceKm));
+        }
+    }
+
+    // 중심 격자에서 ring 겹까지 훑은 뒤, 그 바깥 격자에 있는 좌표까지의 최소 거리(km)
+    // 중심이 격자 가장자리에 있을 수 있으므로 ring 칸 만큼만 보장되고, 경도 방향은 고위도 쪽 cos 값으로 보수적으로 계산
+    private static double minDistanceOutsideRingKm(double lat, int ring) {
+        double farLat = Math.min(89.0, Math.abs(lat) + (ring + 1) * CELL_SIZE);
+        return ring * CELL_SIZE * KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(farLat)) * 0.99;
+    }
+
+    // 두 좌표 사이의 거리(km), 하버사인 공식
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static boolean inBox(GeoPoint p, double latMin, double latMax, double lngMin, double lngMax) {
+        return p.lat() >= latMin && p.lat() <= latMax && p.lng() >= lngMin && p.lng() <= lngMax;
+    }
+
+    // 위경도를 실제 범위로 잘라 격자 번호가 int 범위를 넘지 않도록 함 (격자 루프가 끝나지 않는 것 방지)
+    private static double clampLat(double lat) {
+        return Math.max(-90.0, Math.min(90.0, lat));
+    }
+
+    private static double clampLng(double lng) {
+        return Math.max(-180.0, Math.min(180.0, lng));
+    }
+
+    // 범위 안의 격자 수 (각 변의 길이를 long 으로 바꾼 뒤 곱함, 범위가 뒤집히면 0)
+    private static long cellCount(int rowMin, int rowMax, int colMin, int colMax) {
+        long rows = Math.max(0L, (long) rowMax - rowMin + 1);
+        long cols = Math.max(0L, (long) colMax - colMin + 1);
+        return rows * cols;
+    }
+
+    private static int cellIndex(double degree) {
+        return (int) Math.floor(degree / CELL_SIZE);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,248 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.reservation.dto.ReservationActivityView;
+import com.likelion.loco_project.domain.reservation.entity.Reservation;
+import com.likelion.loco_project.domain.reservation.repository.ReservationRepository;
+import com.likelion.loco_project.domain.space.dto.SpacePopularityDto;
+import com.likelion.loco_project.domain.space.dto.SpaceRankingView;
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.entity.SpaceType;
+import com.likelion.loco_project.domain.space.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 인기 공간 랭킹
+// 최근 예약(시간 감쇠), 찜 수, 평점 집계로 공간별 점수를 매기고 지역 x 공간 유형별 상위 K개 목록을 메모리에 유지
+// 주기 작업은 마지막 갱신 이후 새 예약/변경된 공간만 읽어 반영하고(증분), 하루 한 번 전체를 다시 적재해 누락을 보정
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpacePopularityRanking {
+
+    public static final int TOP_K = 50;
+    public static final String ALL = "ALL"; // 지역/유형 조건 없음
+
+    private static final Duration RESERVATION_WINDOW = Duration.ofDays(30); // 이보다 오래된 예약은 점수에 반영하지 않음
+    private static final double HALF_LIFE_HOURS = 24 * 7;                   // 예약 점수 반감기 (7일)
+    private static final double RESERVATION_WEIGHT = 1.0;
+    private static final double FAVORITE_WEIGHT = 0.5;
+    private static final double RATING_WEIGHT = 1.0;
+    private static final double RATING_PRIOR_MEAN = 7.0;  // 리뷰가 적은 공간의 평점을 끌어당기는 기준 평점 (10점 만점)
+    private static final double RATING_PRIOR_COUNT = 5.0; // 기준 평점의 가중치 (리뷰 수 환산)
+    private static final Duration CHANGE_OVERLAP = Duration.ofMinutes(1); // 커밋 지연을 감안해 수정일시 조회 구간을 겹치게 둠
+
+    private final SpaceRepository spaceRepository;
+    private final ReservationRepository reservationRepository;
+
+    // 공간 ID -> 랭킹 후보 (갱신 작업 안에서만 접근)
+    private final Map<Long, Candidate> candidates = new HashMap<>();
+    private long lastReservationId = 0;
+    private LocalDateTime lastSpaceSync;
+    private LocalDateTime lastDecayAt;
+
+    // "지역|유형" -> 상위 K개 목록, 갱신 때마다 통째로 교체하므로 읽기는 잠금 없이 수행
+    private volatile Map<String, List<SpacePopularityDto>> rankings = Map.of();
+    private volatile boolean loaded = false;
+
+    private static class Candidate {
+        SpaceRankingView view;
+        String region;
+        double reservationHeat; // 시간 감쇠가 적용된 최근 예약 수
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // 지역/유형별 인기 공간 (region, spaceType 이 null 이면 전체)
+    public List<SpacePopularityDto> getTop(String region, SpaceType spaceType, int limit) {
+        String regionKey = region == null || region.isBlank() ? ALL : normalizeRegion(region);
+        String typeKey = spaceType == null ? ALL : spaceType.name();
+        List<SpacePopularityDto> list = rankings.getOrDefault(regionKey + "|" + typeKey, List.of());
+        return list.subList(0, Math.min(Math.max(limit, 0), list.size()));
+    }
+
+    // 하루 한 번 전체 적재 (증분 갱신이 놓친 예약 취소/ID 역전, 삭제 등을 보정)
+    @Scheduled(cron = "0 30 4 * * *")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        candidates.clear();
+        lastReservationId = 0;
+
+        for (SpaceRankingView view : spaceRepository.findAllRankingViews()) {
+            applySpace(view);
+        }
+        applyReservations(now);
+        lastSpaceSync = now;
+        lastDecayAt = now;
+        publish();
+        loaded = true;
+        log.info("인기 공간 랭킹 전체 적재 완료. 후보 수: {}, 소요 시간: {}ms", candidates.size(), System.currentTimeMillis() - start);
+    }
+
+    // 5분마다 증분 갱신: 기존 예약 점수 감쇠 -> 새 예약 반영 -> 변경된 공간 반영 -> 상위 K 재계산
+    @Scheduled(fixedDelayString = "${ranking.refresh-interval-ms:300000}",
+            initialDelayString = "${ranking.refresh-interval-ms:300000}")
+    public synchronized void refresh() {
+        if (!loaded) {
+            rebuild();
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        double hours = Duration.between(lastDecayAt, now).toMillis() / 3_600_000.0;
+        double factor = Math.pow(0.5, hours / HALF_LIFE_HOURS);
+        for (Candidate candidate : candidates.values()) {
+            candidate.reservationHeat *= factor;
+        }
+        lastDecayAt = now;
+
+        applyReservations(now);
+        for (SpaceRankingView view : spaceRepository.findRankingViewsChangedSince(lastSpaceSync.minus(CHANGE_OVERLAP))) {
+            applySpace(view);
+        }
+        lastSpaceSync = now;
+        publish();
+    }
+
+    // 공간 삭제 시 호출 (삭제는 수정일시 조회로 알 수 없으므로 바로 제외)
+    public synchronized void remove(long spaceId) {
+        if (candidates.remove(spaceId) != null) {
+            publish();
+        }
+    }
+
+    private void applySpace(SpaceRankingView view) {
+        // 승인되고 활성화된 공간만 랭킹 대상
+        if (view.getStatus() != SpaceStatus.APPROVED || !Boolean.TRUE.equals(view.getIsActive())) {
+            candidates.remove(view.getId());
+            return;
+        }
+        Candidate candidate = candidates.computeIfAbsent(view.getId(), id -> new Candidate());
+        candidate.view = view;
+        candidate.region = normalizeRegion(view.getAddress());
+    }
+
+    private void applyReservations(LocalDateTime now) {
+        List<ReservationActivityView> activities = reservationRepository.findActivitiesAfter(
+                lastReservationId, now.minus(RESERVATION_WINDOW), Reservation.ReservationStatus.CANCELLED);
+        for (ReservationActivityView activity : activities) {
+            lastReservationId = Math.max(lastReservationId, activity.getId());
+            Candidate candidate = candidates.get(activity.getSpaceId());
+            if (candidate == null || activity.getReservationDate() == null) {
+                continue;
+            }
+            double ageHours = Math.max(0, Duration.between(activity.getReservationDate(), now).toMillis() / 3_600_000.0);
+            candidate.reservationHeat += Math.pow(0.5, ageHours / HALF_LIFE_HOURS);
+        }
+    }
+
+    // 점수 = 최근 예약(감쇠) + log(1 + 찜 수) + 베이즈 평균 평점 x log(1 + 리뷰 수)
+    private static double score(Candidate candidate) {
+        SpaceRankingView view = candidate.view;
+        long favorites = view.getFavoriteCount() == null ? 0 : view.getFavoriteCount();
+        long reviews = view.getReviewCount() == null ? 0 : view.getReviewCount();
+        long ratingSum = view.getRatingSum() == null ? 0 : view.getRatingSum();
+        double bayesianRating = (RATING_PRIOR_MEAN * RATING_PRIOR_COUNT + ratingSum) / (RATING_PRIOR_COUNT + reviews);
+        return RESERVATION_WEIGHT * candidate.reservationHeat
+                + FAVORITE_WEIGHT * Math.log1p(favorites)
+                + RATING_WEIGHT * (bayesianRating / Space.MAX_RATING) * Math.log1p(reviews);
+    }
+
+    // 모든 후보를 한 번 훑으며 (지역, 유형), (지역, 전체), (전체, 유형), (전체, 전체) 네 목록의 상위 K를 힙으로 유지
+    private void publish() {
+        Map<String, PriorityQueue<ScoredCandidate>> heaps = new HashMap<>();
+        for (Map.Entry<Long, Candidate> entry : candidates.entrySet()) {
+            Candidate candidate = entry.getValue();
+            ScoredCandidate scored = new ScoredCandidate(entry.getKey(), score(candidate), candidate);
+            String type = candidate.view.getSpaceType() == null ? null : candidate.view.getSpaceType().name();
+            offer(heaps, ALL + "|" + ALL, scored);
+            if (type != null) {
+                offer(heaps, ALL + "|" + type, scored);
+            }
+            if (candidate.region != null) {
+                offer(heaps, candidate.region + "|" + ALL, scored);
+                if (type != null) {
+                    offer(heaps, candidate.region + "|" + type, scored);
+                }
+            }
+        }
+
+        Map<String, List<SpacePopularityDto>> next = new HashMap<>(heaps.size() * 2);
+        heaps.forEach((key, heap) -> {
+            List<ScoredCandidate> sorted = new ArrayList<>(heap);
+            sorted.sort(ScoredCandidate.ORDER.reversed());
+            List<SpacePopularityDto> list = new ArrayList<>(sorted.size());
+            for (int i = 0; i < sorted.size(); i++) {
+                list.add(toDto(i + 1, sorted.get(i)));
+            }
+            next.put(key, Collections.unmodifiableList(list));
+        });
+        rankings = next;
+    }
+
+    private record ScoredCandidate(long id, double score, Candidate candidate) {
+        // 점수가 같으면 ID가 큰(최근 등록) 공간이 앞
+        static final Comparator<ScoredCandidate> ORDER = Comparator
+                .comparingDouble(ScoredCandidate::score)
+                .thenComparingLong(ScoredCandidate::id);
+    }
+
+    private static void offer(Map<String, PriorityQueue<ScoredCandidate>> heaps, String key, ScoredCandidate scored) {
+        PriorityQueue<ScoredCandidate> heap = heaps.computeIfAbsent(key, k -> new PriorityQueue<>(ScoredCandidate.ORDER));
+        if (heap.size() < TOP_K) {
+            heap.add(scored);
+        } else if (ScoredCandidate.ORDER.compare(scored, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(scored);
+        }
+    }
+
+    private static SpacePopularityDto toDto(int rank, ScoredCandidate scored) {
+        SpaceRankingView view = scored.candidate().view;
+        return SpacePopularityDto.builder()
+                .rank(rank)
+                .id(view.getId())
+                .spaceName(view.getSpaceName())
+                .spaceType(view.getSpaceType())
+                .price(view.getPrice())
+                .address(view.getAddress())
+                .region(scored.candidate().region)
+                .imageUrl(view.getImageUrl())
+                .spaceRating(view.getSpaceRating() == null ? BigDecimal.ZERO : view.getSpaceRating())
+                .reviewCount(view.getReviewCount() == null ? 0L : view.getReviewCount())
+                .favoriteCount(view.getFavoriteCount() == null ? 0L : view.getFavoriteCount())
+                .score(scored.score())
+                .build();
+    }
+
+    // 주소의 첫 단어(시/도)를 지역으로 사용, "서울특별시"/"서울시"/"서울" 이 같은 지역이 되도록 접미사 제거
+    public static String normalizeRegion(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        String first = address.trim().split("\\s+")[0];
+        for (String suffix : List.of("특별자치시", "특별자치도", "특별시", "광역시", "도", "시")) {
+            if (first.length() > suffix.length() && first.endsWith(suffix)) {
+                return first.substring(0, first.length() - suffix.length());
+            }
+        }
+        return first;
+    }
+}
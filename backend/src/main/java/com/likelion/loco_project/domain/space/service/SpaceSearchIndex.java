@@ -0,0 +1,207 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.space.dto.SpaceTextView;
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 공간 이름/주소/주변 정보/설명을 2-gram 단위로 색인하는 역색인(inverted index)
+// 한국어는 띄어쓰기만으로 단어를 나누기 어려워 글자 2개씩 잘라서 색인 ("강남역" -> "강남", "남역")
+// 검색 대상인 승인된 공간만 색인 (후보 ID 에 검색되지 않을 공간이 섞여 결과가 빠지지 않도록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceSearchIndex {
+
+    public static final int MAX_CANDIDATES = 500; // 관련도순 검색에서 순위를 매기는 최대 후보 수
+
+    // 필드별 가중치 (이름 > 주소 > 주변 정보 > 설명)
+    private static final int WEIGHT_NAME = 4;
+    private static final int WEIGHT_ADDRESS = 3;
+    private static final int WEIGHT_NEIGHBORHOOD = 2;
+    private static final int WEIGHT_DESCRIPTION = 1;
+
+    private final SpaceRepository spaceRepository;
+
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>(); // 토큰 -> (공간 ID -> 가중 빈도)
+    private final Map<Long, Map<String, Integer>> documents = new ConcurrentHashMap<>(); // 공간 ID -> 토큰별 가중 빈도 (수정/삭제 시 사용)
+    private volatile boolean loaded = false;
+
+    // 애플리케이션 시작 시 전체 공간의 텍스트를 색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        for (SpaceTextView row : spaceRepository.findAllTextViews()) {
+            put(row.getId(), row.getSpaceName(), row.getAddress(), row.getNeighborhoodInfo(), row.getDescription());
+        }
+        loaded = true;
+        log.info("공간 검색 인덱스 적재 완료. 공간 수: {}, 토큰 수: {}, 소요 시간: {}ms",
+                documents.size(), postings.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // 공간 등록/수정/승인/반려 시 호출 (승인되지 않은 공간은 색인에서 제거)
+    public void update(Space space) {
+        if (space.getId() == null) {
+            return;
+        }
+        if (space.getStatus() != SpaceStatus.APPROVED) {
+            remove(space.getId());
+            return;
+        }
+        put(space.getId(), space.getSpaceName(), space.getAddress(), space.getNeighborhoodInfo(), space.getDescription());
+    }
+
+    public synchronized void put(long id, String spaceName, String address, String neighborhoodInfo, String description) {
+        remove(id);
+
+        Map<String, Integer> termWeights = new HashMap<>();
+        addTerms(termWeights, spaceName, WEIGHT_NAME);
+        addTerms(termWeights, address, WEIGHT_ADDRESS);
+        addTerms(termWeights, neighborhoodInfo, WEIGHT_NEIGHBORHOOD);
+        addTerms(termWeights, description, WEIGHT_DESCRIPTION);
+
+        termWeights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(id, weight));
+        documents.put(id, termWeights);
+    }
+
+    public synchronized void remove(long id) {
+        Map<String, Integer> old = documents.remove(id);
+        if (old == null) {
+            return;
+        }
+        for (String term : old.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    // 검색어로 색인 검색이 가능한지 (2글자 이상 단어가 하나라도 있어야 함)
+    public static boolean isSearchable(String query) {
+        return !tokenize(query).isEmpty();
+    }
+
+    // 검색어의 모든 토큰을 포함하는 공간 ID 전체 (순서 없음, 관련도순이 아닌 정렬/개수 계산용)
+    public List<Long> findAll(String query) {
+        List<Map<Long, Integer>> lists = postingLists(query);
+        if (lists.isEmpty()) {
+            return List.of();
+        }
+        List<Long> result = new ArrayList<>();
+        candidates:
+        for (Long id : lists.get(0).keySet()) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).containsKey(id)) {
+                    continue candidates;
+                }
+            }
+            result.add(id);
+        }
+        return result;
+    }
+
+    // 검색어의 모든 토큰을 포함하는 공간 ID를 점수 높은 순으로 최대 limit개 반환
+    public List<Long> search(String query, int limit) {
+        List<Map<Long, Integer>> lists = postingLists(query);
+        if (lists.isEmpty()) {
+            return List.of();
+        }
+
+        int documentCount = Math.max(documents.size(), 1);
+        double[] idf = new double[lists.size()];
+        for (int i = 0; i < lists.size(); i++) {
+            idf[i] = Math.log(1.0 + (double) documentCount / lists.get(i).size());
+        }
+
+        // 점수 상위 limit개만 유지하는 최소 힙
+        PriorityQueue<ScoredId> heap = new PriorityQueue<>(Comparator.comparingDouble(ScoredId::score).thenComparingLong(ScoredId::id));
+        candidates:
+        for (Map.Entry<Long, Integer> entry : lists.get(0).entrySet()) {
+            long id = entry.getKey();
+            double score = entry.getValue() * idf[0];
+            for (int i = 1; i < lists.size(); i++) {
+                Integer weight = lists.get(i).get(id);
+                if (weight == null) {
+                    continue candidates;
+                }
+                score += weight * idf[i];
+            }
+            heap.offer(new ScoredId(id, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Long> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll().id());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private record ScoredId(long id, double score) {
+    }
+
+    // 검색어 토큰별 posting 목록 (짧은 순), 토큰이 없거나 하나라도 색인에 없으면 빈 목록
+    private List<Map<Long, Integer>> postingLists(String query) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        List<Map<Long, Integer>> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                return List.of(); // 하나라도 없는 토큰이 있으면 결과 없음
+            }
+            lists.add(posting);
+        }
+        // 가장 짧은 posting 목록을 기준으로 교집합을 구해야 비교 횟수가 적음
+        lists.sort(Comparator.comparingInt(posting -> posting.size()));
+        return lists;
+    }
+
+    private static void addTerms(Map<String, Integer> termWeights, String text, int weight) {
+        for (String term : tokenize(text)) {
+            termWeights.merge(term, weight, Integer::sum);
+        }
+    }
+
+    // 텍스트를 소문자/NFC 정규화 후 문자·숫자 단어로 나누고, 각 단어를 2-gram으로 분해
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+                continue;
+            }
+            for (int j = 0; j + 2 <= word.length(); j++) {
+                tokens.add(word.substring(j, j + 2));
+            }
+            word.setLength(0);
+        }
+        return tokens;
+    }
+}
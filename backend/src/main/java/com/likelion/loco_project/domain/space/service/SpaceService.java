@@ -2,16 +2,22 @@ package com.likelion.loco_project.domain.space.service;
 
 import com.likelion.loco_project.domain.host.entity.Host;
 import com.likelion.loco_project.domain.host.repository.HostRepository;
+import com.likelion.loco_project.domain.host.service.HostIdResolver;
+import com.likelion.loco_project.domain.reservation.service.SpaceAvailabilityIndex;
 import com.likelion.loco_project.domain.space.dto.*;
 import com.likelion.loco_project.domain.space.entity.Space;
 import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.entity.SpaceType;
 import com.likelion.loco_project.domain.space.repository.SpaceRepository;
-import com.likelion.loco_project.domain.user.entity.User;
 import com.likelion.loco_project.domain.user.repository.UserRepository;
+import com.likelion.loco_project.global.cache.LocalCache;
+import com.likelion.loco_project.global.util.GlobalUtil;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -19,7 +25,19 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,7 +47,23 @@ public class SpaceService {
     private final SpaceRepository spaceRepository;
     private final HostRepository hostRepository;
     private final Logger logger = LoggerFactory.getLogger(SpaceService.class);
+    private static final String SORT_BY_RELEVANCE = "relevance"; // 검색어 관련도순 정렬
+    private static final int MAX_NEAREST_LIMIT = 100;             // 가까운 공간 조회 최대 개수
+    private static final double MAX_NEAREST_RADIUS_KM = 50.0;     // 가까운 공간 조회 최대 반경(km)
+    private static final int MAX_IN_CANDIDATES = 1_000;           // 검색어 후보 ID 를 SQL IN 목록으로 넘기는 최대 개수
     private final UserRepository userRepository;
+    private final SpaceGeoIndex spaceGeoIndex;
+    private final SpaceSearchIndex spaceSearchIndex;
+    private final LocalCache<Long, SpaceResponseDto> spaceDetailCache;
+    private final LocalCache<String, Page<SpaceResponseDto>> spaceSearchCache;
+    private final SpaceCatalogVersion spaceCatalogVersion;
+    private final SpaceAvailabilityIndex spaceAvailabilityIndex;
+    private final SpaceStatsCounter spaceStatsCounter;
+    private final HostIdResolver hostIdResolver;
+    private final SpacePopularityRanking spacePopularityRanking;
+    private final SpaceTypeaheadIndex spaceTypeaheadIndex;
+    private final SpaceFacetIndex spaceFacetIndex;
+    private final SpaceSimilarityIndex spaceSimilarityIndex;
 
     // 공간 등록
     @Transactional
@@ -38,15 +72,12 @@ public class SpaceService {
             logger.info("공간 등록 시작. Host ID: {}", hostId);
             logger.debug("받은 DTO 데이터: {}", dto);
 
-            // 인증된 사용자의 ID (hostId로 넘어옴)를 사용하여 User 엔티티를 찾습니다.
-            User user = userRepository.findById(hostId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + hostId));
+            // 인증된 사용자의 ID (hostId로 넘어옴)와 연결된 호스트 ID를 캐시에서 찾고, 연관관계에는 참조만 사용합니다.
+            Long resolvedHostId = hostIdResolver.findHostId(hostId)
+                    .orElseThrow(() -> new IllegalArgumentException("호스트를 찾을 수 없습니다. User ID: " + hostId));
+            Host host = hostRepository.getReferenceById(resolvedHostId);
 
-            // 해당 User 엔티티와 연결된 Host 엔티티를 찾습니다.
-            Host host = hostRepository.findByUser(user)
-                     .orElseThrow(() -> new IllegalArgumentException("호스트를 찾을 수 없습니다. User ID: " + hostId));
-
-            logger.debug("호스트 찾음: {}", host.getId());
+            logger.debug("호스트 찾음: {}", resolvedHostId);
 
             // 이미지 URL 유효성 검사 수정
             if (dto.getImageUrls() != null && !dto.getImageUrls().isEmpty()) {
@@ -61,6 +92,7 @@ public class SpaceService {
             // DB 저장
             Space savedSpace = spaceRepository.save(space);
             logger.info("공간 등록 성공. Space ID: {}", savedSpace.getId());  // getId 메서드 호출 수정
+            onSpaceChanged(savedSpace);
 
             return SpaceResponseDto.fromEntity(savedSpace);
         } catch (Exception e) {
@@ -85,11 +117,18 @@ public class SpaceService {
         }
     }
 
-    // 공간 단일 조회
+    // 공간 단일 조회 (상세 캐시를 먼저 확인하고, 없으면 DB에서 읽어 캐시에 저장)
     public SpaceResponseDto getSpace(Long id) {
-        Space space = spaceRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공간입니다."));
-        return SpaceResponseDto.fromEntity(space);
+        return spaceDetailCache.get(id, key -> {
+            Space space = spaceRepository.findById(key)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공간입니다."));
+            return SpaceResponseDto.fromEntity(space).withEtag(spaceCatalogVersion.nextStamp());
+        });
+    }
+
+    // 공간 목록 응답의 ETag 값 (공간이 하나라도 바뀌면 달라짐)
+    public String getCatalogTag() {
+        return spaceCatalogVersion.tag();
     }
 
     // 모든 공간 목록 조회
@@ -106,6 +145,68 @@ public class SpaceService {
         return spaceRepository.findAll(pageable)
                 .map(SpaceListResponseDto::from);   // 여기서 additionalImageUrls까지 읽어서 DTO에 담음
     }
+    // 모든 공간 목록 카드 조회 (페이징 처리, 카드에 필요한 컬럼만 조회)
+    @Transactional(readOnly = true)
+    public Page<SpaceCardResponseDto> getAllSpaceCards(Pageable pageable) {
+        return spaceRepository.findAllCards(pageable);
+    }
+
+    // 모든 공간 목록 조회 (커서 기반 페이지네이션)
+    // 마지막으로 받은 (정렬 값, id) 다음부터 조회하므로 몇 번째 페이지든 비용이 같음
+    @Transactional(readOnly = true)
+    public SpaceCursorPageDto<SpaceListResponseDto> getAllSpacesWithCursor(String cursor, String sortBy, boolean descending, int size) {
+        SpaceCursor position = cursor == null || cursor.isBlank()
+                ? SpaceCursor.first(sortBy, descending)
+                : SpaceCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부를 알기 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Long> ids;
+        if (SpaceCursor.SORT_PRICE.equals(position.getSortBy())) {
+            ids = position.isDescending()
+                    ? spaceRepository.findIdsByPriceBefore(position.getLastSortValue(), position.getLastId(), limit)
+                    : spaceRepository.findIdsByPriceAfter(position.getLastSortValue(), position.getLastId(), limit);
+        } else {
+            ids = position.isDescending()
+                    ? spaceRepository.findIdsByIdBefore(position.getLastId(), limit)
+                    : spaceRepository.findIdsByIdAfter(position.getLastId(), limit);
+        }
+
+        boolean hasNext = ids.size() > size;
+        if (hasNext) {
+            ids = ids.subList(0, size);
+        }
+        if (ids.isEmpty()) {
+            return SpaceCursorPageDto.<SpaceListResponseDto>builder()
+                    .content(List.of())
+                    .size(0)
+                    .hasNext(false)
+                    .build();
+        }
+
+        // IN 조회는 순서를 보장하지 않으므로 keyset 조회 순서대로 다시 정렬
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            order.put(ids.get(i), i);
+        }
+        List<Space> spaces = spaceRepository.findAllWithImagesByIdIn(ids);
+        spaces.sort(Comparator.comparing(space -> order.get(space.getId())));
+
+        String nextCursor = null;
+        if (hasNext) {
+            Space last = spaces.get(spaces.size() - 1);
+            long lastSortValue = SpaceCursor.SORT_PRICE.equals(position.getSortBy()) ? last.getPrice() : last.getId();
+            nextCursor = new SpaceCursor(position.getSortBy(), position.isDescending(), lastSortValue, last.getId()).encode();
+        }
+
+        return SpaceCursorPageDto.<SpaceListResponseDto>builder()
+                .content(spaces.stream().map(SpaceListResponseDto::from).collect(Collectors.toList()))
+                .size(spaces.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
 //    public Page<Space> getAllSpacesWithPagination(Pageable pageable) {
 //        return spaceRepository.findAll(pageable);
 //    }
@@ -116,6 +217,7 @@ public class SpaceService {
         Space space = spaceRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공간입니다."));
         dto.applyTo(space);  // DTO -> 기존 엔티티에 반영
+        onSpaceChanged(space);
         return SpaceResponseDto.fromEntity(space);
     }
 
@@ -125,29 +227,353 @@ public class SpaceService {
             throw new IllegalArgumentException("존재하지 않는 공간입니다.");
         }
         spaceRepository.deleteById(id);
+        onSpaceDeleted(id);
+    }
+
+    // 공간이 등록/수정되었을 때 메모리 인덱스와 캐시를 갱신
+    private void onSpaceChanged(Space space) {
+        Long id = space.getId();
+        spaceDetailCache.invalidate(id);
+        spaceCatalogVersion.bump();
+        GlobalUtil.afterCommit(() -> {
+            spaceGeoIndex.update(space);
+            spaceSearchIndex.update(space);
+            spaceStatsCounter.update(space);
+            spaceTypeaheadIndex.update(space);
+            spaceFacetIndex.update(space);
+            spaceSimilarityIndex.update(space);
+            spaceDetailCache.invalidate(id);
+            spaceCatalogVersion.bump();
+        });
+    }
+
+    // 공간이 삭제되었을 때 메모리 인덱스와 캐시에서 제거
+    private void onSpaceDeleted(Long id) {
+        spaceDetailCache.invalidate(id);
+        spaceCatalogVersion.bump();
+        GlobalUtil.afterCommit(() -> {
+            spaceGeoIndex.remove(id);
+            spaceSearchIndex.remove(id);
+            spaceStatsCounter.remove(id);
+            spacePopularityRanking.remove(id);
+            spaceTypeaheadIndex.remove(id);
+            spaceFacetIndex.remove(id);
+            spaceSimilarityIndex.remove(id);
+            spaceDetailCache.invalidate(id);
+            spaceCatalogVersion.bump();
+        });
+    }
+
+    // 지도 영역(위경도 범위) 안의 공간 조회
+    // 좌표 인덱스가 적재된 뒤에는 인덱스로 ID를 찾고, 적재 전에는 기존 JPQL 범위 조회를 사용
+    @Transactional(readOnly = true)
+    public List<SpaceListResponseDto> findSpacesInBounds(double latMin, double latMax, double lngMin, double lngMax) {
+        if (!spaceGeoIndex.isLoaded()) {
+            return spaceRepository.findNearbySpaces(
+                            BigDecimal.valueOf(latMin), BigDecimal.valueOf(latMax),
+                            BigDecimal.valueOf(lngMin), BigDecimal.valueOf(lngMax))
+                    .stream()
+                    .map(SpaceListResponseDto::from)
+                    .collect(Collectors.toList());
+        }
+        return findSpaceListByIds(spaceGeoIndex.findInBox(latMin, latMax, lngMin, lngMax));
+    }
+
+    // 중심 좌표 기준 반경(km) 안의 공간 조회
+    @Transactional(readOnly = true)
+    public List<SpaceListResponseDto> findSpacesInRadius(double lat, double lng, double radiusKm) {
+        if (!spaceGeoIndex.isLoaded()) {
+            return findSpacesAroundFromDb(lat, lng, radiusKm).stream()
+                    .filter(space -> SpaceGeoIndex.distanceKm(lat, lng,
+                            space.getLatitude().doubleValue(), space.getLongitude().doubleValue()) <= radiusKm)
+                    .map(SpaceListResponseDto::from)
+                    .collect(Collectors.toList());
+        }
+        return findSpaceListByIds(spaceGeoIndex.findInRadius(lat, lng, radiusKm));
+    }
+
+    // 중심 좌표에서 가까운 공간 limit개 (거리 오름차순, 거리 포함)
+    // 반경을 미리 정하지 않고 가까운 순으로 필요한 만큼만 찾으므로, 공간이 드문 지역에서도 결과가 비지 않음 (maxRadiusKm 까지)
+    @Transactional(readOnly = true)
+    public List<SpaceListResponseDto> findNearestSpaces(double lat, double lng, int limit, double maxRadiusKm) {
+        int clampedLimit = Math.max(1, Math.min(limit, MAX_NEAREST_LIMIT));
+        double radiusKm = Math.max(0.1, Math.min(maxRadiusKm, MAX_NEAREST_RADIUS_KM));
+
+        if (!spaceGeoIndex.isLoaded()) {
+            // 인덱스 적재 전에는 반경을 감싸는 범위를 DB에서 가져와 정렬
+            return findSpacesAroundFromDb(lat, lng, radiusKm).stream()
+                    .map(space -> SpaceListResponseDto.from(space).withDistanceKm(SpaceGeoIndex.distanceKm(lat, lng,
+                            space.getLatitude().doubleValue(), space.getLongitude().doubleValue())))
+                    .filter(dto -> dto.getDistanceKm() <= radiusKm)
+                    .sorted(Comparator.comparingDouble(SpaceListResponseDto::getDistanceKm))
+                    .limit(clampedLimit)
+                    .collect(Collectors.toList());
+        }
+
+        List<SpaceGeoIndex.Nearest> nearest = spaceGeoIndex.findNearest(lat, lng, clampedLimit, radiusKm);
+        if (nearest.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Space> spaces = spaceRepository.findAllById(nearest.stream().map(SpaceGeoIndex.Nearest::id).toList())
+                .stream()
+                .collect(Collectors.toMap(Space::getId, space -> space));
+        // findAllById 는 순서를 보장하지 않으므로 인덱스가 정한 거리 순서대로 다시 맞춤
+        return nearest.stream()
+                .filter(n -> spaces.containsKey(n.id()))
+                .map(n -> SpaceListResponseDto.from(spaces.get(n.id())).withDistanceKm(n.distanceKm()))
+                .collect(Collectors.toList());
+    }
+
+    // 좌표 인덱스 적재 전: 반경을 감싸는 위경도 범위의 승인된 공간을 DB 에서 조회 (반경 필터는 호출하는 쪽에서)
+    private List<Space> findSpacesAroundFromDb(double lat, double lng, double radiusKm) {
+        double dLat = radiusKm / SpaceGeoIndex.KM_PER_DEGREE;
+        double dLng = radiusKm / (SpaceGeoIndex.KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+        return spaceRepository.findNearbySpaces(
+                BigDecimal.valueOf(lat - dLat), BigDecimal.valueOf(lat + dLat),
+                BigDecimal.valueOf(lng - dLng), BigDecimal.valueOf(lng + dLng));
+    }
+
+    // 유사 공간 추천 (특징 벡터 인덱스에서 이웃 ID를 고른 뒤 PK 조회 한 번으로 가져옴)
+    @Transactional(readOnly = true)
+    public List<SpaceListResponseDto> getSimilarSpaces(Long spaceId, int limit) {
+        if (!spaceSimilarityIndex.isLoaded()) {
+            return List.of();
+        }
+        int clampedLimit = Math.max(1, Math.min(limit, SpaceSimilarityIndex.MAX_NEIGHBOURS));
+        List<Long> ids = spaceSimilarityIndex.findSimilar(spaceId, clampedLimit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Space> spaces = spaceRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Space::getId, space -> space));
+        return ids.stream()
+                .filter(spaces::containsKey)
+                .map(id -> SpaceListResponseDto.from(spaces.get(id)))
+                .collect(Collectors.toList());
+    }
+
+    // 지역/유형별 인기 공간 (랭킹 작업이 미리 계산해 둔 목록을 그대로 반환)
+    public List<SpacePopularityDto> getPopularSpaces(String region, SpaceType spaceType, int limit) {
+        int clampedLimit = Math.max(1, Math.min(limit, SpacePopularityRanking.TOP_K));
+        return spacePopularityRanking.getTop(region, spaceType, clampedLimit);
+    }
+
+    // 검색어 자동완성 (메모리 트라이에서만 조회, 인덱스 적재 전에는 빈 결과)
+    public List<SpaceSuggestionDto> suggestSpaces(String query, int limit) {
+        if (!spaceTypeaheadIndex.isLoaded() || query == null || query.isBlank()) {
+            return List.of();
+        }
+        return spaceTypeaheadIndex.suggest(query, limit);
+    }
+
+    // 지도 레벨에 맞춰 범위 안의 공간을 클러스터로 묶어 조회
+    // level은 카카오맵 레벨(1~14, 클수록 축소)이며, 레벨 5 이하는 기본 격자(0.01도) 하나가 클러스터 하나
+    public List<SpaceClusterDto> getSpaceClusters(double latMin, double latMax, double lngMin, double lngMax, int level) {
+        if (!spaceGeoIndex.isLoaded()) {
+            return List.of(); // 시작 직후 인덱스 적재 전에는 빈 결과 (클라이언트는 다음 지도 이동 때 다시 요청)
+        }
+        int clampedLevel = Math.max(1, Math.min(level, 14));
+        int cellsPerCluster = 1 << Math.max(0, clampedLevel - 5);
+        return spaceGeoIndex.cluster(latMin, latMax, lngMin, lngMax, cellsPerCluster);
+    }
+
+    // 인덱스가 찾은 ID 목록을 PK 조회로 한 번에 가져옴
+    private List<SpaceListResponseDto> findSpaceListByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return spaceRepository.findAllById(ids).stream()
+                .map(SpaceListResponseDto::from)
+                .collect(Collectors.toList());
+    }
+
+    // 공간 검색 기능 (같은 카탈로그 버전에서 같은 조건의 검색은 캐시된 결과를 반환)
+    // 예약 가능 시간 조건이 있으면 예약 인덱스 버전도 키에 포함 (예약/취소 시 해당 검색 결과만 무효화)
+    // 조건은 정규화한 사본 하나로 캐시 키와 조회를 모두 만듦 (예: sortDirection=asc 와 ASC 가 같은 키/같은 정렬)
+    public Page<SpaceResponseDto> searchSpaces(SpaceSearchDto request) {
+        SpaceSearchDto searchDto = request.canonical();
+        String cacheKey = "v" + spaceCatalogVersion.current()
+                + (searchDto.hasAvailabilityWindow() ? "|a" + spaceAvailabilityIndex.version() : "")
+                + "|" + searchDto.toCacheKey();
+        return spaceSearchCache.get(cacheKey, key -> searchSpacesFromDb(searchDto));
+    }
+
+    // 검색 결과 페이지와 유형/가격대/인원대별 개수를 함께 반환
+    // 패싯 인덱스를 한 번 훑어 개수와 조건에 맞는 공간 목록을 같이 얻고, 그 목록을 정렬해 자른 페이지만 PK로 조회
+    // 메모리에 없는 컬럼으로 정렬하거나 시간 제한으로 일부만 집계된 경우, 인덱스 적재 전에는 페이지만 DB 검색으로 가져옴
+    public SpaceFacetedSearchDto searchSpacesWithFacets(SpaceSearchDto request) {
+        SpaceSearchDto searchDto = request.canonical();
+        if (!spaceFacetIndex.isLoaded()) {
+            return new SpaceFacetedSearchDto(searchSpaces(searchDto), SpaceFacetIndex.emptyFacets());
+        }
+
+        // 검색과 같은 후보/제외 조건 (관련도순이면 점수 상위 MAX_CANDIDATES 개의 순위도 함께 구함)
+        boolean byRelevance = SORT_BY_RELEVANCE.equals(searchDto.getSortBy());
+        Collection<Long> candidateIds = null;
+        List<Long> rankedIds = null;
+        String addressKeyword = null;
+        if (searchDto.getLocation() != null && !searchDto.getLocation().isBlank()) {
+            if (spaceSearchIndex.isLoaded() && SpaceSearchIndex.isSearchable(searchDto.getLocation())) {
+                candidateIds = spaceSearchIndex.findAll(searchDto.getLocation());
+                if (byRelevance) {
+                    rankedIds = spaceSearchIndex.search(searchDto.getLocation(), SpaceSearchIndex.MAX_CANDIDATES);
+                }
+            } else {
+                addressKeyword = searchDto.getLocation();
+            }
+        }
+        Set<Long> busyIds = searchDto.hasAvailabilityWindow()
+                ? spaceAvailabilityIndex.findBusySpaceIdsOrQuery(searchDto.getAvailableFrom(), searchDto.getAvailableTo())
+                : null;
+
+        SpaceFacetIndex.Result result = spaceFacetIndex.compute(facetQuery(searchDto, candidateIds, addressKeyword, busyIds));
+
+        Comparator<SpaceFacetIndex.Match> order = facetMatchOrder(searchDto, byRelevance, rankedIds);
+        Page<SpaceResponseDto> page = order == null || result.facets().isPartial()
+                ? searchSpaces(searchDto)
+                : pageOfMatches(result.matches(), order, PageRequest.of(searchDto.getPage(), searchDto.getSize()));
+        return new SpaceFacetedSearchDto(page, result.facets());
     }
 
-    // 공간 검색 기능
-    public Page<SpaceResponseDto> searchSpaces(SpaceSearchDto searchDto) {
+    // 검색 조건을 패싯 인덱스 순회 조건으로 변환 (candidateIds: 검색어 색인 후보, addressKeyword: 색인을 쓸 수 없을 때의 주소 검색어)
+    private SpaceFacetIndex.Query facetQuery(SpaceSearchDto searchDto, Collection<Long> candidateIds,
+                                             String addressKeyword, Set<Long> busyIds) {
+        return new SpaceFacetIndex.Query(
+                candidateIds,
+                addressKeyword,
+                busyIds,
+                searchDto.getSpaceTypes() == null ? null : new HashSet<>(parseSpaceTypes(searchDto.getSpaceTypes())),
+                searchDto.getMinPrice() == null ? null : searchDto.getMinPrice().longValue(),
+                searchDto.getMaxPrice() == null ? null : searchDto.getMaxPrice().longValue(),
+                searchDto.getCapacity());
+    }
+
+    // 패싯 순회 결과를 메모리에서 정렬할 순서 (DB 검색과 같은 정렬, 메모리에 없는 정렬 기준이면 null)
+    // 관련도순은 점수 상위 후보를 순위대로 먼저 두고 나머지는 최신순, 검색어 점수가 없으면 DB 검색처럼 id 기준
+    private static Comparator<SpaceFacetIndex.Match> facetMatchOrder(SpaceSearchDto searchDto, boolean byRelevance, List<Long> rankedIds) {
+        boolean ascending = "ASC".equals(searchDto.getSortDirection());
+        Comparator<SpaceFacetIndex.Match> byId = Comparator.comparingLong(SpaceFacetIndex.Match::id);
+        if (byRelevance && rankedIds != null) {
+            Map<Long, Integer> rank = new HashMap<>();
+            for (int i = 0; i < rankedIds.size(); i++) {
+                rank.put(rankedIds.get(i), i);
+            }
+            return Comparator.<SpaceFacetIndex.Match>comparingInt(m -> rank.getOrDefault(m.id(), Integer.MAX_VALUE))
+                    .thenComparing(byId.reversed());
+        }
+        if (byRelevance || "id".equals(searchDto.getSortBy())) {
+            return ascending ? byId : byId.reversed();
+        }
+        if ("price".equals(searchDto.getSortBy())) {
+            Comparator<SpaceFacetIndex.Match> byPrice = Comparator.comparingLong(SpaceFacetIndex.Match::price).thenComparing(byId);
+            return ascending ? byPrice : byPrice.reversed();
+        }
+        return null;
+    }
+
+    private Page<SpaceResponseDto> pageOfMatches(List<SpaceFacetIndex.Match> matches, Comparator<SpaceFacetIndex.Match> order, Pageable pageable) {
+        List<SpaceFacetIndex.Match> sorted = new ArrayList<>(matches);
+        sorted.sort(order);
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        List<Long> pageIds = sorted.subList(from, to).stream().map(SpaceFacetIndex.Match::id).toList();
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, sorted.size());
+        }
+
+        Map<Long, Space> spaces = spaceRepository.findAllWithImagesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Space::getId, space -> space));
+        List<SpaceResponseDto> content = pageIds.stream()
+                .map(spaces::get)
+                .filter(Objects::nonNull) // 순회 후 삭제된 공간
+                .map(SpaceResponseDto::fromEntity)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, sorted.size());
+    }
+
+    private Page<SpaceResponseDto> searchSpacesFromDb(SpaceSearchDto searchDto) {
         // Specification 생성
         Specification<Space> spec = Specification.where(null);
 
-        if (searchDto.getLocation() != null) {
-            spec = spec.and((root, query, cb) ->
-                    cb.like(root.get("address"), "%" + searchDto.getLocation() + "%"));
+        // 승인된 공간만 검색 (복합 인덱스의 선두 컬럼)
+        spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), SpaceStatus.APPROVED));
+
+        // 검색어는 메모리 검색 인덱스로 후보 ID를 찾고, 인덱스를 쓸 수 없는 경우에만 LIKE 검색
+        // 관련도순일 때만 점수 상위 MAX_CANDIDATES 개로 자르고, 그 밖의 정렬은 일치하는 공간 전체를 후보로 사용
+        boolean byRelevance = SORT_BY_RELEVANCE.equals(searchDto.getSortBy());
+        List<Long> rankedIds = null;
+        if (searchDto.getLocation() != null && !searchDto.getLocation().isBlank()) {
+            if (spaceSearchIndex.isLoaded() && SpaceSearchIndex.isSearchable(searchDto.getLocation())) {
+                rankedIds = byRelevance
+                        ? spaceSearchIndex.search(searchDto.getLocation(), SpaceSearchIndex.MAX_CANDIDATES)
+                        : spaceSearchIndex.findAll(searchDto.getLocation());
+                if (rankedIds.isEmpty()) {
+                    return Page.empty(PageRequest.of(searchDto.getPage(), searchDto.getSize()));
+                }
+                if (!byRelevance) {
+                    // 흔한 검색어는 후보가 수천 개라 IN 목록으로 넘기지 않고, id/가격순이면 패싯 인덱스에서 나머지 조건까지
+                    // 걸러 정렬한 뒤 해당 페이지만 PK로 조회 (검색+패싯 API 와 같은 방식)
+                    Page<SpaceResponseDto> page = searchCandidatesInMemory(searchDto, rankedIds);
+                    if (page != null) {
+                        return page;
+                    }
+                }
+                if (byRelevance || rankedIds.size() <= MAX_IN_CANDIDATES) {
+                    List<Long> candidateIds = rankedIds;
+                    spec = spec.and((root, query, cb) -> root.get("id").in(candidateIds));
+                } else {
+                    // 메모리에 없는 정렬 기준인데 후보가 많으면 검색어 조건을 SQL 에 그대로 둠
+                    // (단어마다 이름/주소/주변 정보/설명 중 하나에 포함)
+                    spec = spec.and(containsAllWords(searchDto.getLocation()));
+                }
+            } else {
+                spec = spec.and((root, query, cb) ->
+                        cb.like(root.get("address"), "%" + searchDto.getLocation() + "%"));
+            }
+        }
+
+        if (searchDto.getSpaceTypes() != null && !searchDto.getSpaceTypes().isEmpty()) {
+            List<SpaceType> spaceTypes = parseSpaceTypes(searchDto.getSpaceTypes());
+            spec = spec.and((root, query, cb) -> root.get("spaceType").in(spaceTypes));
         }
 
         if (searchDto.getMinPrice() != null) {
+            long minPrice = searchDto.getMinPrice();
+            spec = spec.and((root, query, cb) ->
+                    cb.greaterThanOrEqualTo(root.get("price"), minPrice));
+        }
+
+        if (searchDto.getMaxPrice() != null) {
+            long maxPrice = searchDto.getMaxPrice();
+            spec = spec.and((root, query, cb) ->
+                    cb.lessThanOrEqualTo(root.get("price"), maxPrice));
+        }
+
+        if (searchDto.getCapacity() != null) {
             spec = spec.and((root, query, cb) ->
-                    cb.greaterThanOrEqualTo(root.get("pricePerHour"), searchDto.getMinPrice()));
+                    cb.greaterThanOrEqualTo(root.get("maxCapacity"), searchDto.getCapacity()));
+        }
+
+        // 편의시설(facilities)은 Space 엔티티에 저장되는 컬럼이 없어 아직 필터링하지 않음
+
+        // 예약 가능 시간: 공간별 예약 비트맵에서 해당 시간대에 예약이 있는 공간을 찾아 제외 (비트맵 적재 전에는 DB 조회)
+        if (searchDto.hasAvailabilityWindow()) {
+            Set<Long> busyIds = spaceAvailabilityIndex.findBusySpaceIdsOrQuery(
+                    searchDto.getAvailableFrom(), searchDto.getAvailableTo());
+            if (!busyIds.isEmpty()) {
+                spec = spec.and((root, query, cb) -> cb.not(root.get("id").in(busyIds)));
+            }
         }
 
-        // 나머지 검색 조건들에 대한 Specification 추가...
+        // 관련도순 정렬: 인덱스 점수 순서대로 정렬 후 메모리에서 페이지를 자름 (후보 수는 MAX_CANDIDATES로 제한)
+        if (rankedIds != null && byRelevance) {
+            return searchByRelevance(spec, rankedIds, PageRequest.of(searchDto.getPage(), searchDto.getSize()));
+        }
 
-        // 정렬 조건 설정
+        // 정렬 조건 설정 (관련도 점수를 쓸 수 없는 경우(검색어 없음/한 글자/인덱스 적재 전)에는 최신순)
         Sort sort = Sort.by(
                 searchDto.getSortDirection().equals("ASC") ? Sort.Direction.ASC : Sort.Direction.DESC,
-                searchDto.getSortBy()
+                byRelevance ? "id" : searchDto.getSortBy()
         );
 
         // 페이지네이션 설정
@@ -162,6 +588,64 @@ public class SpaceService {
                 .map(SpaceResponseDto::fromEntity); // 이미 구현되어있는 fromEntity 메서드 사용하여 DTO로 변환
     }
 
+    // 관련도순이 아닌 검색어 검색을 패싯 인덱스에서 처리 (id/가격순만, 인덱스 적재 전이거나 시간 제한에 걸리면 null)
+    private Page<SpaceResponseDto> searchCandidatesInMemory(SpaceSearchDto searchDto, List<Long> candidateIds) {
+        Comparator<SpaceFacetIndex.Match> order = facetMatchOrder(searchDto, false, null);
+        if (order == null || !spaceFacetIndex.isLoaded()) {
+            return null;
+        }
+        Set<Long> busyIds = searchDto.hasAvailabilityWindow()
+                ? spaceAvailabilityIndex.findBusySpaceIdsOrQuery(searchDto.getAvailableFrom(), searchDto.getAvailableTo())
+                : null;
+        SpaceFacetIndex.Result result = spaceFacetIndex.compute(facetQuery(searchDto, candidateIds, null, busyIds));
+        if (result.facets().isPartial()) {
+            return null;
+        }
+        return pageOfMatches(result.matches(), order, PageRequest.of(searchDto.getPage(), searchDto.getSize()));
+    }
+
+    // 검색어의 단어마다 이름/주소/주변 정보/설명 중 하나에 포함되는 공간
+    private static Specification<Space> containsAllWords(String keyword) {
+        return (root, query, cb) -> cb.and(Arrays.stream(keyword.trim().split("\\s+"))
+                .map(word -> "%" + word + "%")
+                .map(pattern -> cb.or(
+                        cb.like(root.get("spaceName"), pattern),
+                        cb.like(root.get("address"), pattern),
+                        cb.like(root.get("neighborhoodInfo"), pattern),
+                        cb.like(root.get("description"), pattern)))
+                .toArray(Predicate[]::new));
+    }
+
+    // 문자열 공간 유형 목록을 SpaceType으로 변환 (대소문자 무시)
+    private List<SpaceType> parseSpaceTypes(List<String> spaceTypes) {
+        try {
+            return spaceTypes.stream()
+                    .filter(type -> type != null && !type.isBlank())
+                    .map(type -> SpaceType.valueOf(type.trim().toUpperCase(Locale.ROOT)))
+                    .distinct()
+                    .collect(Collectors.toList());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("존재하지 않는 공간 유형입니다: " + spaceTypes);
+        }
+    }
+
+    private Page<SpaceResponseDto> searchByRelevance(Specification<Space> spec, List<Long> rankedIds, Pageable pageable) {
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < rankedIds.size(); i++) {
+            rank.put(rankedIds.get(i), i);
+        }
+
+        List<Space> matched = spaceRepository.findAll(spec);
+        matched.sort((a, b) -> Integer.compare(rank.get(a.getId()), rank.get(b.getId())));
+
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        List<SpaceResponseDto> content = matched.subList(from, to).stream()
+                .map(SpaceResponseDto::fromEntity)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, matched.size());
+    }
+
     // # 관리자 기능 부분
     
     // 공간 승인
@@ -175,6 +659,7 @@ public class SpaceService {
         }
 
         space.setStatus(SpaceStatus.APPROVED);
+        onSpaceChanged(space);
     }
 
     // 공간 반려
@@ -189,6 +674,7 @@ public class SpaceService {
 
         space.setStatus(SpaceStatus.REJECTED);
         space.setRejectionReason(rejectionReason); // 반려 사유 저장
+        onSpaceChanged(space);
     }
 
     @Transactional
@@ -212,48 +698,80 @@ public class SpaceService {
         }
 
         Space savedSpace = spaceRepository.save(space);
+        onSpaceChanged(savedSpace);
         return SpaceResponseDto.fromEntity(savedSpace);
     }
 
+    // 리뷰 작성/수정/삭제 시 평점 집계 반영 (호출하는 쪽 트랜잭션 안에서 공간 행을 잠그고 갱신)
+    @Transactional
+    public void applyReviewRating(Long spaceId, Integer addedRating, Integer removedRating) {
+        Space space = spaceRepository.findByIdForUpdate(spaceId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공간입니다."));
+        space.applyReviewRating(addedRating, removedRating);
+        onSpaceChanged(space);
+    }
+
     //찜 추가
+    // 조인 테이블에 직접 INSERT 하므로 사용자의 찜 목록 전체를 로딩하거나 다시 쓰지 않음
+    @Transactional
     public void favoriteSpace(Long userId, Long spaceId) {
-        User user = userRepository.findById(userId).orElseThrow();
-        Space space = spaceRepository.findById(spaceId).orElseThrow();
-        user.getFavoriteSpaces().add(space);
-        userRepository.save(user);
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + userId);
+        }
+        if (!spaceRepository.existsById(spaceId)) {
+            throw new IllegalArgumentException("존재하지 않는 공간입니다.");
+        }
+        if (spaceRepository.insertFavorite(userId, spaceId) > 0) {
+            spaceRepository.addFavoriteCount(spaceId, 1, LocalDateTime.now());
+            onFavoriteCountChanged(spaceId);
+        }
     }
 
     // 찜 제거
+    @Transactional
     public void unfavoriteSpace(Long userId, Long spaceId) {
-        User user = userRepository.findById(userId).orElseThrow();
-        Space space = spaceRepository.findById(spaceId).orElseThrow();
-        user.getFavoriteSpaces().remove(space);
-        userRepository.save(user);
+        if (spaceRepository.deleteFavorite(userId, spaceId) > 0) {
+            spaceRepository.addFavoriteCount(spaceId, -1, LocalDateTime.now());
+            onFavoriteCountChanged(spaceId);
+        }
+    }
+
+    // 찜 수가 바뀌면 해당 공간의 상세 캐시만 무효화 (새로 만든 상세 DTO 는 새 ETag 를 가짐)
+    // 찜 수는 검색 조건/정렬 기준이 아니므로 카탈로그 버전은 올리지 않음, 캐시된 검색 결과와 목록의 찜 수는
+    // 캐시 TTL 이나 다른 변경으로 버전이 오를 때 따라잡음 (찜할 때마다 전체 검색 캐시와 목록 ETag 를 버리지 않도록)
+    private void onFavoriteCountChanged(Long spaceId) {
+        GlobalUtil.afterCommit(() -> spaceDetailCache.invalidate(spaceId));
     }
 
+    // 로그인한 사용자의 찜 여부 채우기 (한 페이지의 공간 ID를 모아 쿼리 한 번으로 조회)
     @Transactional(readOnly = true)
-    public Page<SpaceResponseDto> getSpacesByHostId(Long hostId, Pageable pageable) {
-        
-        try {
-            // hostId가 실제로는 userId일 수 있으므로 두 가지 방법을 시도
-            Page<Space> spaces;
-            
-            // 1. 먼저 hostId로 직접 조회 시도
-            spaces = spaceRepository.findByHostId(hostId, pageable);
-            
-            // 2. 만약 결과가 없다면, hostId를 userId로 간주하고 Host를 찾아서 조회
-            if (spaces.getTotalElements() == 0) {
-                Host host = hostRepository.findByUserId(hostId)
-                        .orElseThrow(() -> new IllegalArgumentException("호스트를 찾을 수 없습니다. User ID: " + hostId));
-                spaces = spaceRepository.findByHostId(host.getId(), pageable);
-            }
-            
-            return spaces.map(SpaceResponseDto::fromEntity);
-        } catch (Exception e) {
-            System.err.println("SpaceService 에러: " + e.getMessage());
-            e.printStackTrace();
-            throw e;
+    public List<SpaceResponseDto> fillFavoritedByMe(Long userId, List<SpaceResponseDto> spaces) {
+        if (userId == null || spaces.isEmpty()) {
+            return spaces;
         }
+        List<Long> spaceIds = spaces.stream().map(SpaceResponseDto::getId).collect(Collectors.toList());
+        Set<Long> favorited = new HashSet<>(spaceRepository.findFavoritedSpaceIds(userId, spaceIds));
+        return spaces.stream()
+                .map(dto -> dto.withFavoritedByMe(favorited.contains(dto.getId())))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<SpaceResponseDto> fillFavoritedByMe(Long userId, Page<SpaceResponseDto> page) {
+        if (userId == null || page.isEmpty()) {
+            return page;
+        }
+        return new PageImpl<>(fillFavoritedByMe(userId, page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    // 로그인한 호스트의 공간 목록 (hostId 파라미터에는 인증된 사용자 ID가 넘어옴)
+    // 사용자 ID -> 호스트 ID는 캐시에서 변환하고, 페이지 조회는 한 번만 수행
+    @Transactional(readOnly = true)
+    public Page<SpaceResponseDto> getSpacesByHostId(Long hostId, Pageable pageable) {
+        Long resolvedHostId = hostIdResolver.findHostId(hostId)
+                .orElseThrow(() -> new IllegalArgumentException("호스트를 찾을 수 없습니다. User ID: " + hostId));
+        return spaceRepository.findByHostId(resolvedHostId, pageable)
+                .map(SpaceResponseDto::fromEntity);
     }
 
 }
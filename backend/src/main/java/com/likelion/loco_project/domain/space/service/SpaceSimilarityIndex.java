@@ -0,0 +1,278 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.space.dto.SpaceFeatureView;
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.entity.SpaceType;
+import com.likelion.loco_project.domain.space.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+// 유사 공간 추천용 특징 벡터 인덱스 (k-최근접 이웃)
+// 공간마다 유형/가격/수용 인원/위치/평점을 float 벡터로 미리 만들어 하나의 배열에 연속으로 저장하고,
+// 상세 조회 시 전체 벡터를 한 번 훑어 가장 가까운 N개를 고름 (공간 수만 개 기준 1ms 미만, DB 조회 없음)
+// 조회는 잠금 없이 현재 저장소 스냅샷을 읽고, 변경은 저장소를 복사해 고친 뒤 교체 (공간 수만 개 기준 수백 KB 복사, 공간/평점 변경 때만 발생)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceSimilarityIndex {
+
+    public static final int MAX_NEIGHBOURS = 20;
+
+    private static final SpaceType[] TYPES = SpaceType.values();
+    // 벡터 구성: [유형 one-hot..., 가격, 수용 인원, 위도, 경도, 평점]
+    private static final int PRICE = TYPES.length;
+    private static final int CAPACITY = PRICE + 1;
+    private static final int LAT = PRICE + 2;
+    private static final int LNG = PRICE + 3;
+    private static final int RATING = PRICE + 4;
+    private static final int DIMENSIONS = PRICE + 5;
+
+    // 차원별 가중치: 유형이 다르면 제곱거리 2 * 1.5^2 = 4.5, 가격/인원은 2배 차이마다 1, 위치는 5km 마다 1, 평점은 10점 만점 차이가 2
+    private static final float TYPE_WEIGHT = 1.5f;
+    private static final double KM_PER_UNIT = 5.0;
+    private static final double RATING_SCALE = 2.0 / 10.0;
+    // 경도 1도의 거리는 고정된 기준 위도(국내 중앙 부근)로 계산
+    // 좌표마다 자기 위도의 cos 를 곱하면 경도 값(약 127)이 커서 위도가 조금만 달라도 경도 축 값이 크게 벌어짐 (0.1도 차이에 약 15km)
+    private static final double REFERENCE_LATITUDE = 36.0;
+    private static final double KM_PER_DEGREE_LNG = SpaceGeoIndex.KM_PER_DEGREE * Math.cos(Math.toRadians(REFERENCE_LATITUDE));
+
+    private final SpaceRepository spaceRepository;
+
+    private final SnapshotIndex<Store> index = new SnapshotIndex<>(new Store(0));
+
+    // 벡터 저장소: slot 번째 공간의 벡터는 vectors[slot * DIMENSIONS ...] 에 연속으로 위치
+    // put/remove 는 아직 공개되지 않은 저장소(재구성 중이거나 copy 로 만든 복사본)에만 호출
+    private static final class Store {
+        long[] ids;
+        float[] vectors;
+        int size;
+        final Map<Long, Integer> slots;
+
+        Store(int capacity) {
+            ids = new long[Math.max(capacity, 16)];
+            vectors = new float[ids.length * DIMENSIONS];
+            slots = new HashMap<>();
+        }
+
+        private Store(Store source) {
+            ids = source.ids.clone();
+            vectors = source.vectors.clone();
+            size = source.size;
+            slots = new HashMap<>(source.slots);
+        }
+
+        Store copy() {
+            return new Store(this);
+        }
+
+        void put(long id, float[] vector) {
+            Integer slot = slots.get(id);
+            if (slot == null) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                    vectors = Arrays.copyOf(vectors, ids.length * DIMENSIONS);
+                }
+                slot = size++;
+                ids[slot] = id;
+                slots.put(id, slot);
+            }
+            System.arraycopy(vector, 0, vectors, slot * DIMENSIONS, DIMENSIONS);
+        }
+
+        // 마지막 슬롯을 빈 자리로 옮겨 배열을 빈틈없이 유지
+        void remove(long id) {
+            Integer slot = slots.remove(id);
+            if (slot == null) {
+                return;
+            }
+            int last = --size;
+            if (slot != last) {
+                ids[slot] = ids[last];
+                System.arraycopy(vectors, last * DIMENSIONS, vectors, slot * DIMENSIONS, DIMENSIONS);
+                slots.put(ids[slot], slot);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    public boolean isLoaded() {
+        return index.isLoaded();
+    }
+
+    // 주기적으로 전체 벡터를 다시 계산해 통째로 교체 (증분 갱신에서 누락된 변경 보정)
+    @Scheduled(fixedDelayString = "${space-similarity.rebuild-interval-ms:3600000}", initialDelayString = "${space-similarity.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Store next = index.rebuild(() -> {
+            List<SpaceFeatureView> rows = spaceRepository.findAllFeatureViews();
+            Store st = new Store(rows.size());
+            for (SpaceFeatureView row : rows) {
+                if (isVisible(row.getStatus(), row.getIsActive())) {
+                    st.put(row.getId(), toVector(row.getSpaceType(), row.getPrice(), row.getMaxCapacity(),
+                            row.getLatitude(), row.getLongitude(), row.getSpaceRating()));
+                }
+            }
+            return st;
+        });
+        log.info("유사 공간 인덱스 적재 완료. 공간 수: {}, 소요 시간: {}ms", next.size, System.currentTimeMillis() - start);
+    }
+
+    // 공간 등록/수정/승인/반려, 평점 변경 시 호출 (승인되고 활성화된 공간만 추천 대상)
+    public void update(Space space) {
+        if (space.getId() == null) {
+            return;
+        }
+        long id = space.getId();
+        if (!isVisible(space.getStatus(), space.getIsActive())) {
+            remove(id);
+            return;
+        }
+        float[] vector = toVector(space.getSpaceType(), space.getPrice(), space.getMaxCapacity(),
+                space.getLatitude(), space.getLongitude(), space.getSpaceRating());
+        index.apply(st -> {
+            Store next = st.copy();
+            next.put(id, vector);
+            return next;
+        });
+    }
+
+    public void remove(long id) {
+        index.apply(st -> {
+            if (!st.slots.containsKey(id)) {
+                return st;
+            }
+            Store next = st.copy();
+            next.remove(id);
+            return next;
+        });
+    }
+
+    // 해당 공간과 특징 벡터가 가까운 공간 ID (가까운 순, 자기 자신 제외), 잠금 없이 현재 스냅샷에서 조회
+    public List<Long> findSimilar(long spaceId, int limit) {
+        Store st = index.get();
+        Integer origin = st.slots.get(spaceId);
+        if (origin == null || limit <= 0) {
+            return List.of();
+        }
+        float[] vectors = st.vectors;
+        int base = origin * DIMENSIONS;
+
+        // 크기 limit 의 최대 힙 (가장 먼 후보가 맨 위), 슬롯 번호와 거리를 기본형 배열로 관리
+        int[] heapSlots = new int[limit];
+        float[] heapDistances = new float[limit];
+        int heapSize = 0;
+
+        for (int slot = 0; slot < st.size; slot++) {
+            if (slot == origin) {
+                continue;
+            }
+            float worst = heapSize == limit ? heapDistances[0] : Float.MAX_VALUE;
+            int offset = slot * DIMENSIONS;
+            float distance = 0;
+            for (int k = 0; k < DIMENSIONS && distance < worst; k++) {
+                float diff = vectors[offset + k] - vectors[base + k];
+                distance += diff * diff;
+            }
+            if (distance >= worst) {
+                continue;
+            }
+            if (heapSize < limit) {
+                heapSlots[heapSize] = slot;
+                heapDistances[heapSize] = distance;
+                siftUp(heapSlots, heapDistances, heapSize++);
+            } else {
+                heapSlots[0] = slot;
+                heapDistances[0] = distance;
+                siftDown(heapSlots, heapDistances, heapSize);
+            }
+        }
+
+        // 힙에서 가장 먼 것부터 꺼내 뒤에서부터 채움 -> 가까운 순
+        Long[] result = new Long[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            result[i] = st.ids[heapSlots[0]];
+            heapSlots[0] = heapSlots[i];
+            heapDistances[0] = heapDistances[i];
+            siftDown(heapSlots, heapDistances, i);
+        }
+        return Arrays.asList(result);
+    }
+
+    private static void siftUp(int[] slots, float[] distances, int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (distances[parent] >= distances[index]) {
+                return;
+            }
+            swap(slots, distances, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] slots, float[] distances, int size) {
+        int index = 0;
+        while (true) {
+            int left = index * 2 + 1;
+            int right = left + 1;
+            int largest = index;
+            if (left < size && distances[left] > distances[largest]) {
+                largest = left;
+            }
+            if (right < size && distances[right] > distances[largest]) {
+                largest = right;
+            }
+            if (largest == index) {
+                return;
+            }
+            swap(slots, distances, index, largest);
+            index = largest;
+        }
+    }
+
+    private static void swap(int[] slots, float[] distances, int a, int b) {
+        int slot = slots[a];
+        slots[a] = slots[b];
+        slots[b] = slot;
+        float distance = distances[a];
+        distances[a] = distances[b];
+        distances[b] = distance;
+    }
+
+    private static boolean isVisible(SpaceStatus status, Boolean isActive) {
+        return status == SpaceStatus.APPROVED && Boolean.TRUE.equals(isActive);
+    }
+
+    // 가중치를 미리 곱해 둔 특징 벡터 (조회 시에는 단순 제곱거리만 계산)
+    // 가격/인원은 로그 척도로 비교 (1만원과 2만원의 차이 = 10만원과 20만원의 차이)
+    static float[] toVector(SpaceType spaceType, Long price, Integer capacity,
+                            BigDecimal latitude, BigDecimal longitude, BigDecimal rating) {
+        float[] vector = new float[DIMENSIONS];
+        if (spaceType != null) {
+            vector[spaceType.ordinal()] = TYPE_WEIGHT;
+        }
+        vector[PRICE] = (float) log2(1 + Math.max(0, price == null ? 0 : price));
+        vector[CAPACITY] = (float) log2(1 + Math.max(0, capacity == null ? 0 : capacity));
+        if (latitude != null && longitude != null) {
+            vector[LAT] = (float) (latitude.doubleValue() * SpaceGeoIndex.KM_PER_DEGREE / KM_PER_UNIT);
+            vector[LNG] = (float) (longitude.doubleValue() * KM_PER_DEGREE_LNG / KM_PER_UNIT);
+        }
+        vector[RATING] = (float) ((rating == null ? 0 : rating.doubleValue()) * RATING_SCALE);
+        return vector;
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+}
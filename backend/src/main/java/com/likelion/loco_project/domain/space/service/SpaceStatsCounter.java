@@ -0,0 +1,141 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.space.dto.SpaceClassificationView;
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.entity.SpaceType;
+import com.likelion.loco_project.domain.space.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 공간 유형(SpaceType) x 상태(SpaceStatus)별 공간 수를 메모리에 유지하는 카운터
+// 관리자 대시보드가 매번 전체 공간을 GROUP BY 하지 않고 미리 집계된 값을 바로 읽도록 함
+// 공간 등록/수정/승인/반려/삭제 시 증분 갱신하고, 누락된 변경은 주기적으로 DB와 대조해 바로잡음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceStatsCounter {
+
+    private final SpaceRepository spaceRepository;
+
+    // 공간 ID -> 현재 분류 (변경 시 이전 분류의 카운트를 내리기 위해 보관)
+    private Map<Long, Bucket> classifications = new HashMap<>();
+    // 분류 -> 공간 수
+    private Map<Bucket, Long> counts = new HashMap<>();
+    // 증분 갱신 횟수 (DB 대조 중 들어온 변경이 있으면 이번 대조 결과는 버림)
+    private long modifications = 0;
+    private volatile boolean loaded = false;
+
+    // 유형/상태가 없는(null) 공간도 별도 분류로 집계
+    private record Bucket(SpaceType spaceType, SpaceStatus status) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // 공간 등록/수정/승인/반려 시 호출
+    public synchronized void update(Space space) {
+        if (space.getId() == null) {
+            return;
+        }
+        Bucket bucket = new Bucket(space.getSpaceType(), space.getStatus());
+        Bucket old = classifications.put(space.getId(), bucket);
+        if (bucket.equals(old)) {
+            return;
+        }
+        if (old != null) {
+            decrement(counts, old);
+        }
+        counts.merge(bucket, 1L, Long::sum);
+        modifications++;
+    }
+
+    // 공간 삭제 시 호출
+    public synchronized void remove(long id) {
+        Bucket old = classifications.remove(id);
+        if (old != null) {
+            decrement(counts, old);
+            modifications++;
+        }
+    }
+
+    // 유형별 공간 수 (모든 상태 포함, 공간이 없는 유형은 0)
+    public synchronized Map<String, Long> countByType() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (SpaceType type : SpaceType.values()) {
+            result.put(type.name(), 0L);
+        }
+        counts.forEach((bucket, count) -> {
+            if (bucket.spaceType() != null) {
+                result.merge(bucket.spaceType().name(), count, Long::sum);
+            }
+        });
+        return result;
+    }
+
+    // 상태별 공간 수 (공간이 없는 상태는 0)
+    public synchronized Map<String, Long> countByStatus() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (SpaceStatus status : SpaceStatus.values()) {
+            result.put(status.name(), 0L);
+        }
+        counts.forEach((bucket, count) -> {
+            if (bucket.status() != null) {
+                result.merge(bucket.status().name(), count, Long::sum);
+            }
+        });
+        return result;
+    }
+
+    // 10분마다 DB 기준으로 다시 집계해 증분 갱신 누락(트랜잭션 밖 변경, 직접 수정한 데이터 등)을 보정
+    @Scheduled(fixedDelayString = "${space-stats.reconcile-interval-ms:600000}",
+            initialDelayString = "${space-stats.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        long startModifications;
+        synchronized (this) {
+            startModifications = modifications;
+        }
+
+        // DB 조회는 락 밖에서 수행 (조회 중에도 대시보드 읽기/증분 갱신이 막히지 않도록)
+        List<SpaceClassificationView> rows = spaceRepository.findAllClassifications();
+        Map<Long, Bucket> freshClassifications = new HashMap<>(rows.size() * 2);
+        Map<Bucket, Long> freshCounts = new HashMap<>();
+        for (SpaceClassificationView row : rows) {
+            Bucket bucket = new Bucket(row.getSpaceType(), row.getStatus());
+            freshClassifications.put(row.getId(), bucket);
+            freshCounts.merge(bucket, 1L, Long::sum);
+        }
+
+        synchronized (this) {
+            if (modifications != startModifications) {
+                log.debug("공간 유형/상태 집계 대조 중 변경이 발생해 다음 주기로 미룸");
+                if (loaded) {
+                    return;
+                }
+            }
+            if (loaded && !freshCounts.equals(counts)) {
+                log.warn("공간 유형/상태 집계 불일치 보정. 메모리: {}, DB: {}", counts, freshCounts);
+            }
+            classifications = freshClassifications;
+            counts = freshCounts;
+            loaded = true;
+        }
+    }
+
+    private static void decrement(Map<Bucket, Long> counts, Bucket bucket) {
+        counts.computeIfPresent(bucket, (key, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -0,0 +1,400 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.space.dto.SpaceSuggestionDto;
+import com.likelion.loco_project.domain.space.dto.SpaceTypeaheadView;
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+
+// 검색어 자동완성 인덱스 (공간 이름 / 주소 단어)
+// 압축 트라이(radix trie)에 글자를 자모 단위로 풀어 넣어 입력 중인 글자도 접두어로 맞춤 ("강나" -> "강남역 스터디룸")
+// 초성만 입력한 경우("ㄱㄴ")는 초성 트라이에서 찾음
+// 노드마다 하위 트리의 상위 결과를 캐시해 두고, 공간 변경 시 바뀐 경로의 노드만 복사해 새 루트로 교체 -> 키 입력마다 DB를 조회하지 않고 잠금도 잡지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceTypeaheadIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+    public static final String TYPE_SPACE = "SPACE";
+    public static final String TYPE_ADDRESS = "ADDRESS";
+
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    // 중성/종성은 자판 입력 순서대로 분해 (ㅘ -> ㅗㅏ, ㄳ -> ㄱㅅ), "고" 까지만 입력해도 "과"로 시작하는 단어가 맞도록
+    private static final String[] JUNGSEONG = {"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ",
+            "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONGSEONG = {"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ",
+            "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    // 검색어에 겹자모가 그대로 들어온 경우 분해
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"), Map.entry('ㅘ', "ㅗㅏ"),
+            Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"),
+            Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"));
+
+    private final SpaceRepository spaceRepository;
+
+    private final SnapshotIndex<State> index = new SnapshotIndex<>(State.empty());
+
+    // 자동완성 항목 (같은 공간 이름이라도 공간 ID가 다르면 다른 항목)
+    private record Suggestion(String type, String text, Long spaceId) {
+    }
+
+    // weight: 주소 단어는 해당 단어를 가진 공간 수, 공간 이름은 1
+    private record Weighted(Suggestion suggestion, int weight) {
+        static final Comparator<Weighted> ORDER = Comparator
+                .comparingInt(Weighted::weight).reversed()
+                .thenComparingInt((Weighted w) -> w.suggestion().text().length())
+                .thenComparing(w -> w.suggestion().text())
+                .thenComparing(w -> w.suggestion().spaceId(), Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    // 트라이에 넣은 문구와 항목 (공간 수정/삭제 시 같은 값으로 빼기 위해 보관)
+    private record Term(String text, Suggestion suggestion) {
+    }
+
+    // 트라이는 경로 복사로만 바뀌므로 공개된 뒤에는 수정되지 않음
+    // terms 는 변경하는 쪽(SnapshotIndex 잠금 안)에서만 쓰므로 스냅샷마다 복사하지 않고 이어서 사용
+    private record State(Trie jamo, Trie choseong, Map<Long, List<Term>> terms) {
+        static State empty() {
+            return new State(Trie.EMPTY, Trie.EMPTY, new HashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    public boolean isLoaded() {
+        return index.isLoaded();
+    }
+
+    // 하루 한 번 전체 재구성 (누락된 변경 보정), 완성된 트라이로 한 번에 교체
+    @Scheduled(cron = "0 0 5 * * *")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        State next = index.rebuild(() -> {
+            State st = State.empty();
+            for (SpaceTypeaheadView row : spaceRepository.findAllTypeaheadViews()) {
+                if (isVisible(row.getStatus(), row.getIsActive())) {
+                    st = put(st, row.getId(), row.getSpaceName(), row.getAddress());
+                }
+            }
+            return st;
+        });
+        log.info("자동완성 인덱스 적재 완료. 공간 수: {}, 소요 시간: {}ms", next.terms().size(), System.currentTimeMillis() - start);
+    }
+
+    // 공간 등록/수정/승인/반려 시 호출 (승인되고 활성화된 공간만 노출)
+    public void update(Space space) {
+        if (space.getId() == null) {
+            return;
+        }
+        long id = space.getId();
+        if (!isVisible(space.getStatus(), space.getIsActive())) {
+            remove(id);
+            return;
+        }
+        String name = space.getSpaceName();
+        String address = space.getAddress();
+        index.apply(st -> put(st, id, name, address));
+    }
+
+    public void remove(long id) {
+        index.apply(st -> removeFrom(st, id));
+    }
+
+    // 접두어로 시작하는 공간 이름/주소 단어 (공간 수가 많은 주소 단어, 짧은 이름 순), 잠금 없이 현재 스냅샷에서 조회
+    public List<SpaceSuggestionDto> suggest(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        State state = index.get();
+        List<Weighted> top = isChoseongQuery(normalized)
+                ? state.choseong().top(normalized)
+                : state.jamo().top(keystrokes(normalized));
+        return top.stream()
+                .limit(Math.max(0, Math.min(limit, MAX_SUGGESTIONS)))
+                .map(w -> new SpaceSuggestionDto(
+                        w.suggestion().text(),
+                        w.suggestion().type(),
+                        w.suggestion().spaceId(),
+                        TYPE_ADDRESS.equals(w.suggestion().type()) ? w.weight() : 1))
+                .toList();
+    }
+
+    private static boolean isVisible(SpaceStatus status, Boolean isActive) {
+        return status == SpaceStatus.APPROVED && Boolean.TRUE.equals(isActive);
+    }
+
+    private static State put(State st, long id, String spaceName, String address) {
+        State next = removeFrom(st, id);
+
+        List<Term> terms = new ArrayList<>();
+        String name = normalize(spaceName);
+        if (!name.isEmpty()) {
+            Suggestion suggestion = new Suggestion(TYPE_SPACE, spaceName.trim(), id);
+            terms.add(new Term(name, suggestion));
+            // 이름 중간 단어로도 찾을 수 있도록 ("스터디" -> "강남 스터디룸")
+            for (String token : new LinkedHashSet<>(Arrays.asList(name.split(" ")))) {
+                if (!token.equals(name)) {
+                    terms.add(new Term(token, suggestion));
+                }
+            }
+        }
+        for (String token : new LinkedHashSet<>(Arrays.asList(normalize(address).split(" ")))) {
+            // 번지/층수 같은 숫자 토큰과 한 글자 토큰은 제외
+            if (token.length() >= 2 && token.chars().noneMatch(Character::isDigit)) {
+                terms.add(new Term(token, new Suggestion(TYPE_ADDRESS, token, null)));
+            }
+        }
+
+        Trie jamo = next.jamo();
+        Trie choseong = next.choseong();
+        for (Term term : terms) {
+            jamo = jamo.add(keystrokes(term.text()), term.suggestion(), 1);
+            choseong = choseong.add(choseongKey(term.text()), term.suggestion(), 1);
+        }
+        next.terms().put(id, terms);
+        return new State(jamo, choseong, next.terms());
+    }
+
+    private static State removeFrom(State st, long id) {
+        List<Term> terms = st.terms().remove(id);
+        if (terms == null) {
+            return st;
+        }
+        Trie jamo = st.jamo();
+        Trie choseong = st.choseong();
+        for (Term term : terms) {
+            jamo = jamo.add(keystrokes(term.text()), term.suggestion(), -1);
+            choseong = choseong.add(choseongKey(term.text()), term.suggestion(), -1);
+        }
+        return new State(jamo, choseong, st.terms());
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    // 완성형 한글을 자판 입력 순서의 자모로 분해 ("강남" -> "ㄱㅏㅇㄴㅏㅁ"), 한글이 아닌 글자는 그대로
+    static String keystrokes(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                int index = c - HANGUL_BASE;
+                sb.append(CHOSEONG.charAt(index / 588));
+                sb.append(JUNGSEONG[(index % 588) / 28]);
+                sb.append(JONGSEONG[index % 28]);
+            } else {
+                sb.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 완성형 한글을 초성으로 바꿈 ("강남역" -> "ㄱㄴㅇ"), 한글이 아닌 글자는 그대로
+    static String choseongKey(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(c >= HANGUL_BASE && c <= HANGUL_LAST ? CHOSEONG.charAt((c - HANGUL_BASE) / 588) : c);
+        }
+        return sb.toString();
+    }
+
+    // 공백을 제외한 모든 글자가 자음이면 초성 검색
+    private static boolean isChoseongQuery(String query) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (CHOSEONG.indexOf(c) < 0) {
+                return false;
+            }
+            hasConsonant = true;
+        }
+        return hasConsonant;
+    }
+
+    // 압축 트라이: 자식이 하나뿐인 경로를 한 간선(label)으로 합쳐 노드 수를 줄임
+    // 변경은 바뀐 경로의 노드만 복사한 새 트라이를 돌려주고 나머지 하위 트리는 공유 (기존 트라이는 그대로 -> 잠금 없이 조회 가능)
+    private static final class Trie {
+
+        static final Trie EMPTY = new Trie(new Node("", Map.of(), null));
+
+        private final Node root;
+
+        private Trie(Node root) {
+            this.root = root;
+        }
+
+        private static final class Node {
+            final String label;                   // 부모에서 이 노드로 오는 간선의 문자열
+            final Map<Character, Node> children;  // 만든 뒤에는 수정하지 않음
+            final Map<Suggestion, Integer> entries; // 이 노드에서 끝나는 키의 항목 (없으면 null)
+            // 하위 트리 상위 MAX_SUGGESTIONS개 캐시 (null 이면 다시 계산)
+            // 조회 스레드끼리 동시에 채워도 같은 값의 불변 리스트라 안전하고, 내용이 바뀌는 경로는 새 노드로 교체되므로 지울 일이 없음
+            List<Weighted> top;
+
+            Node(String label, Map<Character, Node> children, Map<Suggestion, Integer> entries) {
+                this.label = label;
+                this.children = children;
+                this.entries = entries;
+            }
+
+            // 같은 위치의 새 노드 (항목과 자식이 모두 없으면 null -> 부모에서 잘라냄)
+            Node with(Map<Character, Node> newChildren, Map<Suggestion, Integer> newEntries) {
+                boolean noEntries = newEntries == null || newEntries.isEmpty();
+                if (noEntries && newChildren.isEmpty()) {
+                    return null;
+                }
+                return new Node(label, newChildren, noEntries ? null : newEntries);
+            }
+
+            // 간선이 갈라질 때 아래쪽 노드의 label 만 바꾼 복사본 (하위 트리 내용은 같으므로 캐시도 유지)
+            Node relabel(String newLabel) {
+                Node node = new Node(newLabel, children, entries);
+                node.top = top;
+                return node;
+            }
+        }
+
+        // delta 가 양수면 항목 추가(가중치 증가), 음수면 감소 후 0 이하면 제거
+        Trie add(String key, Suggestion suggestion, int delta) {
+            Node updated = add(root, key, 0, suggestion, delta);
+            if (updated == root) {
+                return this;
+            }
+            return updated == null ? EMPTY : new Trie(updated);
+        }
+
+        // node 아래에 key[offset..] 를 반영한 노드 (바뀌지 않으면 node 그대로, 비면 null)
+        private static Node add(Node node, String key, int offset, Suggestion suggestion, int delta) {
+            if (offset == key.length()) {
+                if (delta < 0 && (node.entries == null || !node.entries.containsKey(suggestion))) {
+                    return node;
+                }
+                Map<Suggestion, Integer> entries = node.entries == null ? new HashMap<>(2) : new HashMap<>(node.entries);
+                if (entries.merge(suggestion, delta, Integer::sum) <= 0) {
+                    entries.remove(suggestion);
+                }
+                return node.with(node.children, entries);
+            }
+
+            char c = key.charAt(offset);
+            Node child = node.children.get(c);
+            Node updated;
+            if (child == null) {
+                if (delta < 0) {
+                    return node;
+                }
+                updated = new Node(key.substring(offset), Map.of(), Map.of(suggestion, delta));
+            } else {
+                int common = commonPrefixLength(child.label, key, offset);
+                if (common < child.label.length()) {
+                    if (delta < 0) {
+                        return node;
+                    }
+                    // 간선 중간에서 갈라지면 공통 부분으로 중간 노드를 만듦
+                    Node rest = child.relabel(child.label.substring(common));
+                    Node mid = new Node(child.label.substring(0, common), Map.of(rest.label.charAt(0), rest), null);
+                    updated = add(mid, key, offset + common, suggestion, delta);
+                } else {
+                    updated = add(child, key, offset + common, suggestion, delta);
+                    if (updated == child) {
+                        return node;
+                    }
+                }
+            }
+
+            Map<Character, Node> children = new HashMap<>(node.children);
+            if (updated == null) {
+                children.remove(c); // 항목과 자식이 모두 없어진 노드는 잘라냄
+            } else {
+                children.put(c, updated);
+            }
+            return node.with(children, node.entries);
+        }
+
+        List<Weighted> top(String prefix) {
+            Node node = find(prefix);
+            return node == null ? List.of() : top(node);
+        }
+
+        private Node find(String prefix) {
+            Node node = root;
+            int i = 0;
+            while (i < prefix.length()) {
+                Node child = node.children.get(prefix.charAt(i));
+                if (child == null) {
+                    return null;
+                }
+                int remaining = prefix.length() - i;
+                if (remaining <= child.label.length()) {
+                    // 접두어가 간선 중간에서 끝나면 그 아래 노드 전체가 후보
+                    return child.label.startsWith(prefix.substring(i)) ? child : null;
+                }
+                if (!prefix.startsWith(child.label, i)) {
+                    return null;
+                }
+                i += child.label.length();
+                node = child;
+            }
+            return node;
+        }
+
+        // 자식들의 상위 목록만 합쳐 계산 (하위 트리 전체를 훑지 않음), 결과는 노드에 캐시
+        private List<Weighted> top(Node node) {
+            if (node.top == null) {
+                Map<Suggestion, Integer> best = new HashMap<>();
+                if (node.entries != null) {
+                    node.entries.forEach((suggestion, weight) -> best.merge(suggestion, weight, Math::max));
+                }
+                for (Node child : node.children.values()) {
+                    for (Weighted w : top(child)) {
+                        best.merge(w.suggestion(), w.weight(), Math::max);
+                    }
+                }
+                node.top = best.entrySet().stream()
+                        .map(e -> new Weighted(e.getKey(), e.getValue()))
+                        .sorted(Weighted.ORDER)
+                        .limit(MAX_SUGGESTIONS)
+                        .toList();
+            }
+            return node.top;
+        }
+
+        private static int commonPrefixLength(String label, String key, int offset) {
+            int n = Math.min(label.length(), key.length() - offset);
+            int j = 0;
+            while (j < n && label.charAt(j) == key.charAt(offset + j)) {
+                j++;
+            }
+            return j;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.likelion.loco_project.global.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 로컬 캐시 통계 (관리자 대시보드에서 조회)
+@Getter
+@Builder
+public class CacheStatsDto {
+    private String name;
+    private int size;
+    private int maxSize;
+    private long hits;
+    private long misses;
+    private long evictions; // 크기 초과 + TTL 만료로 제거된 항목 수
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,154 @@
+package com.likelion.loco_project.global.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// 크기 제한(LRU)과 TTL 만료를 지원하는 로컬 메모리 캐시
+// 조회/적중/미적중/축출 횟수를 기록해 CacheStatsDto로 확인 가능
+// 같은 키의 동시 미적중은 읽기 한 번으로 합치고(coalescing), 무효화는 해당 키의 진행 중인 읽기만 저장하지 않게 함
+public class LocalCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    // 키별로 진행 중인 읽기, 무효화되면 목록에서 빠지므로 그 읽기가 가져온 (옛) 값은 저장하지 않음
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private record CacheEntry<V>(V value, long expireAt) {
+    }
+
+    // accessOrder = true 로 두면 가장 오래 사용되지 않은 항목이 맨 앞에 위치 (LRU)
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+    public LocalCache(String name, int maxSize, Duration ttl) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > LocalCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // 캐시에 있으면 반환, 없거나 만료되었으면 loader로 읽어와 저장 후 반환 (read-through)
+    // 같은 키를 이미 읽는 중이면 loader 를 다시 실행하지 않고 그 결과를 기다림
+    // loader가 null을 반환하거나 예외를 던지면 캐시에 저장하지 않음
+    public V get(K key, Function<K, V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, load);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            V loaded = loader.apply(key);
+            if (loaded != null) {
+                synchronized (entries) {
+                    if (inFlight.get(key) == load) { // 읽는 도중 이 키가 무효화되지 않았을 때만 저장
+                        entries.put(key, new CacheEntry<>(loaded, System.nanoTime() + ttlNanos));
+                    }
+                }
+            }
+            load.complete(loaded);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public V getIfPresent(K key) {
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            if (entry.expireAt() - System.nanoTime() <= 0) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.value();
+        }
+    }
+
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, new CacheEntry<>(value, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            inFlight.remove(key);
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            inFlight.clear();
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public CacheStatsDto stats() {
+        return CacheStatsDto.builder()
+                .name(name)
+                .size(size())
+                .maxSize(maxSize)
+                .hits(hits.get())
+                .misses(misses.get())
+                .evictions(evictions.get())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.likelion.loco_project.global.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+// 애플리케이션에서 사용하는 로컬 캐시를 생성하고 통계를 한 곳에서 모아 보는 레지스트리
+@Component
+public class LocalCacheRegistry {
+
+    private final List<LocalCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    public <K, V> LocalCache<K, V> create(String name, int maxSize, Duration ttl) {
+        LocalCache<K, V> cache = new LocalCache<>(name, maxSize, ttl);
+        caches.add(cache);
+        return cache;
+    }
+
+    public List<CacheStatsDto> getAllStats() {
+        return caches.stream()
+                .map(LocalCache::stats)
+                .collect(Collectors.toList());
+    }
+}
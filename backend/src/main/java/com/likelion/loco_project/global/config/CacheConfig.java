@@ -0,0 +1,62 @@
+package com.likelion.loco_project.global.config;
+
+import com.likelion.loco_project.domain.reservation.dto.SpaceMonthCalendarDto;
+import com.likelion.loco_project.domain.space.dto.SpaceResponseDto;
+import com.likelion.loco_project.global.cache.LocalCache;
+import com.likelion.loco_project.global.cache.LocalCacheRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+
+import java.time.Duration;
+
+// 로컬 캐시 설정 (크기/TTL은 application.yml의 cache.* 값으로 조정 가능)
+@Configuration
+public class CacheConfig {
+
+    // 공간 상세 조회 캐시 (공간 ID -> 상세 DTO)
+    @Bean
+    public LocalCache<Long, SpaceResponseDto> spaceDetailCache(
+            LocalCacheRegistry registry,
+            @Value("${cache.space-detail.max-size:10000}") int maxSize,
+            @Value("${cache.space-detail.ttl-seconds:600}") long ttlSeconds) {
+        return registry.create("spaceDetail", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // 공간 상세 응답 본문 캐시 (상세 DTO ETag + 찜 여부 -> 직렬화된 JSON 바이트)
+    @Bean
+    public LocalCache<String, byte[]> spaceDetailBodyCache(
+            LocalCacheRegistry registry,
+            @Value("${cache.space-detail-body.max-size:2000}") int maxSize,
+            @Value("${cache.space-detail-body.ttl-seconds:600}") long ttlSeconds) {
+        return registry.create("spaceDetailBody", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // 공간 검색 결과 캐시 (카탈로그 버전 + 정규화된 검색 조건 -> 결과 페이지)
+    @Bean
+    public LocalCache<String, Page<SpaceResponseDto>> spaceSearchCache(
+            LocalCacheRegistry registry,
+            @Value("${cache.space-search.max-size:1000}") int maxSize,
+            @Value("${cache.space-search.ttl-seconds:300}") long ttlSeconds) {
+        return registry.create("spaceSearch", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // 공간 월별 예약 달력 캐시 (공간 ID:yyyy-MM -> 날짜별 점유 비트맵), 예약 생성/취소 시 해당 월만 무효화
+    @Bean
+    public LocalCache<String, SpaceMonthCalendarDto> spaceCalendarCache(
+            LocalCacheRegistry registry,
+            @Value("${cache.space-calendar.max-size:5000}") int maxSize,
+            @Value("${cache.space-calendar.ttl-seconds:600}") long ttlSeconds) {
+        return registry.create("spaceCalendar", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // 사용자 ID -> 호스트 ID 매핑 캐시 (1:1 관계라 한 번 정해지면 바뀌지 않으므로 TTL을 길게 둠)
+    @Bean
+    public LocalCache<Long, Long> hostIdByUserIdCache(
+            LocalCacheRegistry registry,
+            @Value("${cache.host-id.max-size:10000}") int maxSize,
+            @Value("${cache.host-id.ttl-seconds:3600}") long ttlSeconds) {
+        return registry.create("hostIdByUserId", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+}
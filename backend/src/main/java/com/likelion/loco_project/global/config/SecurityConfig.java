@@ -74,10 +74,16 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/api/v1/spaces").permitAll()
                 // 공간 목록 조회 (GET /api/v1/spaces/all)는 모두 허용
                 .requestMatchers(HttpMethod.GET, "/api/v1/spaces/all").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/v1/spaces/all/cursor").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/v1/spaces/cards").permitAll()
+                // 지도 영역/반경 공간 조회는 모두 허용
+                .requestMatchers(HttpMethod.GET, "/api/v1/spaces/map", "/api/v1/spaces/map/clusters", "/api/v1/spaces/nearby", "/api/v1/spaces/nearest").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/v1/spaces/popular").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/v1/spaces/suggest").permitAll()
                 // 공간 상세 조회 (GET /api/v1/spaces/{id})는 인증된 사용자만 접근 가능
                 .requestMatchers(HttpMethod.GET, "/api/v1/spaces/{id}").authenticated()
                 // 공간 검색 (GET /api/v1/spaces/search)는 모두 허용
-                .requestMatchers(HttpMethod.GET, "/api/v1/spaces/search").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/v1/spaces/search", "/api/v1/spaces/search/faceted").permitAll()
                 // OPTIONS 요청은 모든 경로에 대해 허용 (CORS Preflight)
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 // H2 콘솔
@@ -0,0 +1,34 @@
+package com.likelion.loco_project.global.jpa;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// long 배열 <-> 콤마 구분 문자열 변환 (예: 평점 분포 "0,1,3,...")
+// 배열은 변경 감지가 값 비교로 이뤄지므로 수정 시 새 배열을 할당해야 함
+@Converter
+public class LongArrayConverter implements AttributeConverter<long[], String> {
+
+    @Override
+    public String convertToDatabaseColumn(long[] attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        return Arrays.stream(attribute)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public long[] convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(dbData.split(","))
+                .map(String::trim)
+                .mapToLong(Long::parseLong)
+                .toArray();
+    }
+}
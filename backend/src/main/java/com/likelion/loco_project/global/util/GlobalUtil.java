@@ -1,4 +1,42 @@
 package com.likelion.loco_project.global.util;
 
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 public class GlobalUtil {
+
+    // 트랜잭션이 있으면 커밋된 뒤에 실행, 없으면 바로 실행
+    // 메모리 인덱스/캐시 갱신에 사용 (롤백된 변경이 남거나, 커밋 전 옛 값이 다시 캐시되는 것을 방지)
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 약한 ETag 값 (W/"a-b-c"), 내용이 같으면 같은 값이 나오는 버전/수정 시각 등으로 만듦
+    public static String weakEtag(Object... parts) {
+        StringBuilder sb = new StringBuilder("W/\"");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                sb.append('-');
+            }
+            sb.append(parts[i]);
+        }
+        return sb.append('"').toString();
+    }
+
+    // Last-Modified 헤더용 epoch 밀리초 (값이 없으면 -1, WebRequest.checkNotModified 에서 무시됨)
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
@@ -0,0 +1,60 @@
+package com.likelion.loco_project.domain.reservation.service;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisReservationHoldStoreTest {
+
+	private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+	private final RedisReservationHoldStore store = new RedisReservationHoldStore(redisTemplate);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void scripts_declareEveryKeyUnderTheSpaceHashTag() {
+		when(redisTemplate.opsForSet()).thenReturn(mock(SetOperations.class));
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+		String holdId = ReservationHold.newHoldId(10L);
+
+		store.tryHold(new ReservationHold(holdId, 10L, 1_000L, 2_000L, System.currentTimeMillis() + 60_000L, 1L),
+				System.currentTimeMillis());
+		store.release(holdId, 1L);
+
+		// Redis Cluster 에서 한 스크립트의 키가 모두 같은 슬롯에 있도록 같은 해시 태그를 씀
+		ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+		verify(redisTemplate, times(2)).execute(any(RedisScript.class), keys.capture(), any(Object[].class));
+		assertThat(keys.getAllValues()).allSatisfy(scriptKeys -> {
+			assertThat(scriptKeys).hasSize(3);
+			assertThat(scriptKeys).allSatisfy(key -> assertThat(key).startsWith("reservation-hold:{10}:"));
+		});
+		assertThat(keys.getAllValues().get(1).get(0)).endsWith(holdId);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void release_ignoresHoldIdWithoutSpace() {
+		assertThat(store.release("not-a-hold", 1L)).isFalse();
+		assertThat(store.find("h1", System.currentTimeMillis())).isEmpty();
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+	}
+
+	@Test
+	void holdId_carriesSpaceId() {
+		assertThat(ReservationHold.spaceIdOf(ReservationHold.newHoldId(42L))).isEqualTo(42L);
+		assertThat(ReservationHold.spaceIdOf("-abc")).isNull();
+		assertThat(ReservationHold.spaceIdOf(null)).isNull();
+	}
+}
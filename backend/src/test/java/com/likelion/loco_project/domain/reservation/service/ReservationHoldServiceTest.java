@@ -0,0 +1,83 @@
+package com.likelion.loco_project.domain.reservation.service;
+
+import com.likelion.loco_project.global.exception.AccessDeniedException;
+import com.likelion.loco_project.global.util.GlobalUtil;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReservationHoldServiceTest {
+
+	private static final long SPACE_ID = 10L;
+	private static final long OWNER_ID = 1L;
+	private static final long OTHER_GUEST_ID = 2L;
+	private static final LocalDateTime DAY = LocalDateTime.now().plusDays(3).withHour(0).withMinute(0).withSecond(0).withNano(0);
+
+	private final InMemoryReservationHoldStore store = new InMemoryReservationHoldStore();
+	private final ReservationHoldService service = new ReservationHoldService(store, null, null, null, null, null);
+
+	private static LocalDateTime at(int hour) {
+		return DAY.plusHours(hour);
+	}
+
+	private ReservationHold hold(String holdId, long spaceId, int startHour, int endHour, long guestId) {
+		ReservationHold hold = new ReservationHold(holdId, spaceId,
+				GlobalUtil.toEpochMillis(at(startHour)), GlobalUtil.toEpochMillis(at(endHour)),
+				System.currentTimeMillis() + 60_000L, guestId);
+		assertThat(store.tryHold(hold, System.currentTimeMillis())).isTrue();
+		return hold;
+	}
+
+	@Test
+	void isHeldByOthers_acceptsOwnHoldOnlyForSameGuestSpaceAndCoveredWindow() {
+		hold("h1", SPACE_ID, 10, 12, OWNER_ID);
+
+		assertThat(service.isHeldByOthers(SPACE_ID, at(10), at(12), "h1", OWNER_ID)).isFalse();
+		assertThat(service.isHeldByOthers(SPACE_ID, at(10), at(11), "h1", OWNER_ID)).isFalse();
+		// holdId 를 알아도 다른 게스트면 본인 홀드로 인정하지 않음
+		assertThat(service.isHeldByOthers(SPACE_ID, at(10), at(12), "h1", OTHER_GUEST_ID)).isTrue();
+		assertThat(service.isHeldByOthers(SPACE_ID, at(10), at(12), "h1", null)).isTrue();
+		// 잡아 둔 시간대를 벗어나는 예약은 본인 홀드로 덮이지 않음
+		assertThat(service.isHeldByOthers(SPACE_ID, at(11), at(13), "h1", OWNER_ID)).isTrue();
+		assertThat(service.isHeldByOthers(SPACE_ID, at(12), at(13), null, OTHER_GUEST_ID)).isFalse();
+	}
+
+	@Test
+	void isOwnHoldFor_checksSpace() {
+		ReservationHold hold = hold("h1", SPACE_ID, 10, 12, OWNER_ID);
+		long start = GlobalUtil.toEpochMillis(at(10));
+		long end = GlobalUtil.toEpochMillis(at(12));
+
+		assertThat(hold.isOwnHoldFor("h1", OWNER_ID, SPACE_ID, start, end)).isTrue();
+		assertThat(hold.isOwnHoldFor("h1", OWNER_ID, SPACE_ID + 1, start, end)).isFalse();
+		assertThat(hold.isOwnHoldFor("h2", OWNER_ID, SPACE_ID, start, end)).isFalse();
+	}
+
+	@Test
+	void releaseOwnHold_rejectsOtherGuests() {
+		hold("h1", SPACE_ID, 10, 12, OWNER_ID);
+
+		assertThatThrownBy(() -> service.releaseOwnHold("h1", OTHER_GUEST_ID))
+				.isInstanceOf(AccessDeniedException.class);
+		assertThat(service.isHeldByOthers(SPACE_ID, at(10), at(12), null, OTHER_GUEST_ID)).isTrue();
+
+		service.releaseOwnHold("h1", OWNER_ID);
+		assertThat(service.isHeldByOthers(SPACE_ID, at(10), at(12), null, OTHER_GUEST_ID)).isFalse();
+		// 이미 해제된 홀드는 무시
+		service.releaseOwnHold("h1", OWNER_ID);
+	}
+
+	@Test
+	void release_ignoresHoldOfAnotherGuest() {
+		hold("h1", SPACE_ID, 10, 12, OWNER_ID);
+
+		service.release("h1", OTHER_GUEST_ID);
+		assertThat(store.find("h1", System.currentTimeMillis())).isPresent();
+
+		service.release("h1", OWNER_ID);
+		assertThat(store.find("h1", System.currentTimeMillis())).isEmpty();
+	}
+}
@@ -0,0 +1,160 @@
+package com.likelion.loco_project.domain.reservation.service;
+
+import com.likelion.loco_project.domain.guest.repository.GuestRepository;
+import com.likelion.loco_project.domain.payment.repository.PaymentRepository;
+import com.likelion.loco_project.domain.reservation.dto.ReservationRequestDto;
+import com.likelion.loco_project.domain.reservation.repository.ReservationRepository;
+import com.likelion.loco_project.domain.space.repository.SpaceRepository;
+import com.likelion.loco_project.global.cache.LocalCacheRegistry;
+import com.likelion.loco_project.global.config.CacheConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 공간의 겹치는 시간대에 예약 요청이 동시에 몰려도 DB 에 저장되는 예약은 하나뿐인지 확인
+// 서버 두 대를 흉내 내 서로 다른 SpaceBookingEngine(공간 락/메모리 인덱스)을 쓰는 서비스 두 개로 나눠 요청하므로
+// 메모리 락만으로는 막을 수 없고 공간 행 잠금 + existsActiveOverlap 이 최종 판단을 해야 함
+// 예약마다 실제로 커밋되어야 하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = "reservation-hold.store=memory")
+@Import({ReservationService.class, SpaceBookingEngine.class, SpaceAvailabilityIndex.class, SpaceCalendarService.class,
+		ReservationHoldService.class, InMemoryReservationHoldStore.class, CacheConfig.class, LocalCacheRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationServiceConcurrencyTest {
+
+	private static final long SPACE_ID = 1L;
+	private static final int GUESTS = 50;
+	private static final int REQUESTS = 1_200;
+	private static final int THREADS = 16;
+	private static final LocalDateTime DAY = LocalDateTime.now().plusDays(5).withHour(0).withMinute(0).withSecond(0).withNano(0);
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private GuestRepository guestRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private SpaceRepository spaceRepository;
+
+	@Autowired
+	private SpaceAvailabilityIndex spaceAvailabilityIndex;
+
+	@Autowired
+	private SpaceCalendarService spaceCalendarService;
+
+	@Autowired
+	private ReservationHoldService reservationHoldService;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		// 호스트/사용자 행 없이 공간/게스트만 넣기 위해 FK 검사를 끔 (H2)
+		jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+		jdbcTemplate.update("""
+				INSERT INTO spaces (id, space_name, upload_date, space_type, price, address, latitude, longitude,
+				                    max_capacity, is_active, status, host_id, rating_sum, review_count, favorite_count)
+				VALUES (?, '동시 예약 공간', CURRENT_TIMESTAMP, 'MEETING', 10000, '서울', 37.5, 127.0, 10, TRUE, 'APPROVED', 1, 0, 0, 0)
+				""", SPACE_ID);
+		List<Object[]> rows = new ArrayList<>();
+		for (long id = 1; id <= GUESTS; id++) {
+			rows.add(new Object[]{id, id});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO guest (id, user_id) VALUES (?, ?)", rows);
+		jdbcTemplate.batchUpdate("INSERT INTO payment (id, payment_amount, guest_id) VALUES (?, 10000, ?)", rows);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM reservation");
+		jdbcTemplate.update("DELETE FROM payment");
+		jdbcTemplate.update("DELETE FROM guest");
+		jdbcTemplate.update("DELETE FROM spaces");
+	}
+
+	@Test
+	void createReservation_overlappingRequestsFromTwoServers_persistOnlyOne() throws Exception {
+		// 다른 서버: 공간 락과 예약 구간 인덱스를 공유하지 않음
+		ReservationService otherServer = new ReservationService(reservationRepository, guestRepository, paymentRepository,
+				spaceRepository, spaceAvailabilityIndex, new SpaceBookingEngine(reservationRepository), transactionTemplate,
+				spaceCalendarService, reservationHoldService);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch go = new CountDownLatch(1);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < REQUESTS; i++) {
+				// 10:00~10:45 에 시작하는 1시간 예약이라 모든 요청이 서로 겹침
+				ReservationRequestDto dto = request(i % GUESTS + 1, DAY.plusHours(10).plusMinutes(i % 4 * 15));
+				ReservationService server = i % 2 == 0 ? reservationService : otherServer;
+				results.add(executor.submit(() -> {
+					go.await();
+					try {
+						server.createReservation(dto);
+						return true;
+					} catch (IllegalStateException e) {
+						return false; // 이미 예약된 시간대
+					}
+				}));
+			}
+			go.countDown();
+
+			int booked = 0;
+			for (Future<Boolean> result : results) {
+				if (result.get(60, TimeUnit.SECONDS)) {
+					booked++;
+				}
+			}
+			assertThat(booked).isEqualTo(1);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// 저장된 예약 중 서로 겹치는 쌍이 없고 딱 하나만 남아 있음
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservation WHERE space_id = ?", Long.class, SPACE_ID))
+				.isEqualTo(1L);
+		assertThat(jdbcTemplate.queryForObject("""
+				SELECT COUNT(*) FROM reservation a JOIN reservation b
+				  ON a.space_id = b.space_id AND a.id < b.id AND a.start_time < b.end_time AND b.start_time < a.end_time
+				""", Long.class)).isZero();
+	}
+
+	private static ReservationRequestDto request(long guestId, LocalDateTime start) {
+		ReservationRequestDto dto = new ReservationRequestDto();
+		dto.setGuestId(guestId);
+		dto.setPaymentId(guestId);
+		dto.setSpaceId(SPACE_ID);
+		dto.setBookingCapacity(2);
+		dto.setStartTime(start);
+		dto.setEndTime(start.plusHours(1));
+		return dto;
+	}
+}
@@ -0,0 +1,139 @@
+package com.likelion.loco_project.domain.reservation.service;
+
+import com.likelion.loco_project.domain.reservation.dto.RecurringReservationRequestDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReservationServiceRecurrenceTest {
+
+	// 다음 주 월요일 10:00 ~ 12:00
+	private static final LocalDate FIRST_DAY = LocalDate.now().plusWeeks(1).with(DayOfWeek.MONDAY);
+	private static final LocalDateTime START = FIRST_DAY.atTime(10, 0);
+
+	private static RecurringReservationRequestDto request(RecurringReservationRequestDto.Frequency frequency) {
+		RecurringReservationRequestDto dto = new RecurringReservationRequestDto();
+		dto.setGuestId(1L);
+		dto.setSpaceId(10L);
+		dto.setBookingCapacity(2);
+		dto.setStartTime(START);
+		dto.setEndTime(START.plusHours(2));
+		dto.setFrequency(frequency);
+		return dto;
+	}
+
+	@Test
+	void count_isCappedAtMaxOccurrences() {
+		RecurringReservationRequestDto dto = request(RecurringReservationRequestDto.Frequency.DAILY);
+		dto.setCount(ReservationService.MAX_RECURRING_OCCURRENCES);
+
+		List<ReservationService.Occurrence> occurrences = ReservationService.expandOccurrences(dto);
+		assertThat(occurrences).hasSize(ReservationService.MAX_RECURRING_OCCURRENCES);
+		assertThat(occurrences.get(occurrences.size() - 1).start())
+				.isEqualTo(START.plusDays(ReservationService.MAX_RECURRING_OCCURRENCES - 1));
+
+		dto.setCount(ReservationService.MAX_RECURRING_OCCURRENCES + 1);
+		assertThatThrownBy(() -> ReservationService.expandOccurrences(dto))
+				.isInstanceOf(IllegalArgumentException.class);
+		dto.setCount(0);
+		assertThatThrownBy(() -> ReservationService.expandOccurrences(dto))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void until_isCappedAtMaxDays() {
+		// 종료 날짜만 있고 펼친 회차가 한도를 넘으면 거절
+		RecurringReservationRequestDto daily = request(RecurringReservationRequestDto.Frequency.DAILY);
+		daily.setUntil(FIRST_DAY.plusYears(2));
+		assertThatThrownBy(() -> ReservationService.expandOccurrences(daily))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		// 회차 수는 한도 안이어도 기간은 MAX_RECURRING_DAYS 일에서 잘림
+		RecurringReservationRequestDto everyFourDays = request(RecurringReservationRequestDto.Frequency.DAILY);
+		everyFourDays.setInterval(4);
+		everyFourDays.setUntil(FIRST_DAY.plusYears(2));
+		List<ReservationService.Occurrence> occurrences = ReservationService.expandOccurrences(everyFourDays);
+
+		LocalDate lastAllowed = FIRST_DAY.plusDays(ReservationService.MAX_RECURRING_DAYS - 1);
+		assertThat(occurrences).hasSize((ReservationService.MAX_RECURRING_DAYS + 3) / 4);
+		assertThat(occurrences).allSatisfy(occurrence ->
+				assertThat(occurrence.start().toLocalDate()).isBeforeOrEqualTo(lastAllowed));
+	}
+
+	@Test
+	void until_stopsAtGivenDateInclusive() {
+		RecurringReservationRequestDto dto = request(RecurringReservationRequestDto.Frequency.DAILY);
+		dto.setUntil(FIRST_DAY.plusDays(4));
+		dto.setCount(3);
+
+		// count 와 until 을 함께 주면 먼저 닿는 쪽에서 멈춤
+		assertThat(ReservationService.expandOccurrences(dto)).hasSize(3);
+		dto.setCount(null);
+		assertThat(ReservationService.expandOccurrences(dto)).hasSize(5);
+
+		dto.setUntil(FIRST_DAY.minusDays(1));
+		assertThatThrownBy(() -> ReservationService.expandOccurrences(dto))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void weekly_usesDaysOfWeekAndInterval() {
+		RecurringReservationRequestDto dto = request(RecurringReservationRequestDto.Frequency.WEEKLY);
+		dto.setDaysOfWeek(Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+		dto.setInterval(2);
+		dto.setCount(5);
+
+		assertThat(ReservationService.expandOccurrences(dto))
+				.extracting(ReservationService.Occurrence::start)
+				.containsExactly(
+						START,
+						START.plusDays(4),
+						START.plusWeeks(2),
+						START.plusWeeks(2).plusDays(4),
+						START.plusWeeks(4));
+		// 모든 회차의 길이는 첫 회차와 같음
+		assertThat(ReservationService.expandOccurrences(dto))
+				.allSatisfy(occurrence -> assertThat(occurrence.end()).isEqualTo(occurrence.start().plusHours(2)));
+
+		// 요일을 비우면 첫 회차 요일로 매주 반복
+		dto.setDaysOfWeek(null);
+		dto.setInterval(1);
+		dto.setCount(3);
+		assertThat(ReservationService.expandOccurrences(dto))
+				.extracting(ReservationService.Occurrence::start)
+				.containsExactly(START, START.plusWeeks(1), START.plusWeeks(2));
+	}
+
+	@Test
+	void rejectsInvalidRules() {
+		RecurringReservationRequestDto past = request(RecurringReservationRequestDto.Frequency.DAILY);
+		past.setStartTime(LocalDateTime.now().minusHours(1));
+		past.setEndTime(LocalDateTime.now().plusHours(1));
+		past.setCount(3);
+		assertThatThrownBy(() -> ReservationService.expandOccurrences(past))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		RecurringReservationRequestDto noEnd = request(RecurringReservationRequestDto.Frequency.DAILY);
+		assertThatThrownBy(() -> ReservationService.expandOccurrences(noEnd))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		RecurringReservationRequestDto zeroInterval = request(RecurringReservationRequestDto.Frequency.WEEKLY);
+		zeroInterval.setInterval(0);
+		zeroInterval.setCount(3);
+		assertThatThrownBy(() -> ReservationService.expandOccurrences(zeroInterval))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		RecurringReservationRequestDto reversed = request(RecurringReservationRequestDto.Frequency.DAILY);
+		reversed.setEndTime(START.minusHours(1));
+		reversed.setCount(3);
+		assertThatThrownBy(() -> ReservationService.expandOccurrences(reversed))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,85 @@
+package com.likelion.loco_project.domain.reservation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceAvailabilityIndexTest {
+
+	private static final LocalDate DAY = LocalDate.of(2030, 5, 4);
+
+	private static LocalDateTime at(int hour, int minute) {
+		return DAY.atTime(hour, minute);
+	}
+
+	@Test
+	void forEachDayMask_coversEveryTouchedSlot() {
+		Map<LocalDate, Long> masks = new LinkedHashMap<>();
+		// 14:10 ~ 15:00 -> 14:00 칸(28)과 14:30 칸(29)
+		SpaceAvailabilityIndex.forEachDayMask(at(14, 10), at(15, 0), masks::put);
+		assertThat(masks).containsExactly(Map.entry(DAY, (1L << 28) | (1L << 29)));
+	}
+
+	@Test
+	void forEachDayMask_splitsAcrossMidnightAndStopsAtExactMidnight() {
+		Map<LocalDate, Long> masks = new LinkedHashMap<>();
+		SpaceAvailabilityIndex.forEachDayMask(at(23, 0), DAY.plusDays(1).atTime(1, 0), masks::put);
+		assertThat(masks).containsExactly(
+				Map.entry(DAY, (1L << 46) | (1L << 47)),
+				Map.entry(DAY.plusDays(1), (1L << 0) | (1L << 1)));
+
+		masks.clear();
+		SpaceAvailabilityIndex.forEachDayMask(at(22, 0), DAY.plusDays(1).atStartOfDay(), masks::put);
+		assertThat(masks).containsOnlyKeys(DAY);
+	}
+
+	@Test
+	void forEachDayMask_ignoresEmptyOrInvertedRange() {
+		Map<LocalDate, Long> masks = new LinkedHashMap<>();
+		SpaceAvailabilityIndex.forEachDayMask(at(10, 0), at(10, 0), masks::put);
+		SpaceAvailabilityIndex.forEachDayMask(at(11, 0), at(10, 0), masks::put);
+		assertThat(masks).isEmpty();
+	}
+
+	@Test
+	void isAvailable_adjacentReservationsDoNotConflict() {
+		SpaceAvailabilityIndex index = new SpaceAvailabilityIndex(null);
+		index.add(1L, 7L, at(10, 0), at(12, 0));
+
+		assertThat(index.isAvailable(7L, at(12, 0), at(13, 0))).isTrue();
+		assertThat(index.isAvailable(7L, at(8, 0), at(10, 0))).isTrue();
+		assertThat(index.isAvailable(7L, at(11, 30), at(12, 30))).isFalse();
+		assertThat(index.isAvailable(8L, at(10, 0), at(12, 0))).isTrue();
+	}
+
+	@Test
+	void remove_keepsSlotsOfOverlappingReservations() {
+		SpaceAvailabilityIndex index = new SpaceAvailabilityIndex(null);
+		index.add(1L, 7L, at(10, 0), at(12, 0));
+		index.add(2L, 7L, at(11, 0), at(13, 0));
+		index.remove(1L, 7L);
+
+		assertThat(index.isAvailable(7L, at(10, 0), at(11, 0))).isTrue();
+		assertThat(index.isAvailable(7L, at(11, 0), at(11, 30))).isFalse();
+		assertThat(index.getDayBitmap(7L, DAY)).isEqualTo(0b1111L << 22);
+	}
+
+	@Test
+	void findBusySpaceIds_returnsOnlySpacesWithOverlap() {
+		SpaceAvailabilityIndex index = new SpaceAvailabilityIndex(null);
+		index.add(1L, 7L, at(10, 0), at(12, 0));
+		index.add(2L, 8L, at(14, 0), at(15, 0));
+		long before = index.version();
+
+		assertThat(index.findBusySpaceIds(at(11, 0), at(14, 30))).containsExactlyInAnyOrder(7L, 8L);
+		assertThat(index.findBusySpaceIds(at(12, 0), at(14, 0))).isEmpty();
+
+		index.remove(2L, 8L);
+		assertThat(index.version()).isGreaterThan(before);
+	}
+}
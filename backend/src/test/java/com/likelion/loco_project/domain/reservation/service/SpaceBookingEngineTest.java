@@ -0,0 +1,215 @@
+package com.likelion.loco_project.domain.reservation.service;
+
+import com.likelion.loco_project.domain.reservation.dto.ReservationSlotView;
+import com.likelion.loco_project.domain.reservation.entity.Reservation;
+import com.likelion.loco_project.domain.reservation.repository.ReservationRepository;
+import com.likelion.loco_project.domain.space.entity.Space;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SpaceBookingEngineTest {
+
+	private static final LocalDateTime DAY = LocalDateTime.now().plusDays(7).withHour(0).withMinute(0).withSecond(0).withNano(0);
+
+	private static LocalDateTime at(int hour) {
+		return DAY.plusHours(hour);
+	}
+
+	@Test
+	void overlaps_treatsSlotsAsHalfOpen() {
+		SpaceBookingEngine engine = new SpaceBookingEngine(null);
+		engine.add(1L, 10L, at(10), at(12));
+
+		// 끝 시각과 시작 시각이 맞닿은 예약은 겹치지 않음
+		assertThat(engine.overlaps(10L, at(12), at(13))).isFalse();
+		assertThat(engine.overlaps(10L, at(9), at(10))).isFalse();
+		// 한쪽 끝만 걸쳐도, 안에 들어가도, 감싸도 겹침
+		assertThat(engine.overlaps(10L, at(11), at(13))).isTrue();
+		assertThat(engine.overlaps(10L, at(9), at(11))).isTrue();
+		assertThat(engine.overlaps(10L, at(10).plusMinutes(30), at(11))).isTrue();
+		assertThat(engine.overlaps(10L, at(8), at(14))).isTrue();
+		// 다른 공간은 영향 없음
+		assertThat(engine.overlaps(11L, at(10), at(12))).isFalse();
+	}
+
+	@Test
+	void overlaps_findsLongReservationThatStartedEarlier() {
+		SpaceBookingEngine engine = new SpaceBookingEngine(null);
+		engine.add(1L, 10L, DAY.minusDays(2), DAY.plusHours(1)); // 사흘 가까이 이어지는 예약
+		engine.add(2L, 10L, at(5), at(6));
+
+		assertThat(engine.overlaps(10L, at(0), at(1))).isTrue();
+		assertThat(engine.overlaps(10L, at(1), at(2))).isFalse();
+	}
+
+	@Test
+	void remove_replaceAndEmptySlots() {
+		SpaceBookingEngine engine = new SpaceBookingEngine(null);
+		engine.add(1L, 10L, at(10), at(12));
+		engine.add(2L, 10L, at(10), at(11)); // 같은 시작 시각
+		engine.add(3L, 10L, at(15), at(15)); // 길이가 0인 구간은 무시
+
+		engine.remove(reservation(1L, 10L));
+		assertThat(engine.overlaps(10L, at(11), at(12))).isFalse();
+		assertThat(engine.overlaps(10L, at(10), at(11))).isTrue();
+		assertThat(engine.overlaps(10L, at(14), at(16))).isFalse();
+
+		// 같은 예약 ID 를 다시 넣으면 이전 구간을 대체
+		engine.add(2L, 10L, at(20), at(21));
+		assertThat(engine.overlaps(10L, at(10), at(11))).isFalse();
+		assertThat(engine.overlaps(10L, at(20), at(21))).isTrue();
+	}
+
+	@Test
+	void pruneExpired_dropsOnlyEndedSlots() {
+		SpaceBookingEngine engine = new SpaceBookingEngine(null);
+		LocalDateTime now = LocalDateTime.now();
+		engine.add(1L, 10L, now.minusHours(3), now.minusHours(2));
+		engine.add(2L, 10L, now.minusHours(1), now.plusHours(1));
+
+		engine.pruneExpired();
+
+		assertThat(engine.overlaps(10L, now.minusHours(3), now.minusHours(2))).isFalse();
+		assertThat(engine.overlaps(10L, now, now.plusMinutes(30))).isTrue();
+	}
+
+	@Test
+	void syncIfStale_reloadsSpaceFromDbOnlyWhenIndexDisagrees() {
+		ReservationRepository repository = mock(ReservationRepository.class);
+		SpaceBookingEngine engine = new SpaceBookingEngine(repository);
+		engine.add(1L, 10L, at(10), at(12)); // 다른 서버에서 취소되어 DB 에는 없는 예약
+		when(repository.findActiveSlotsOfSpaceEndingAfter(eq(10L), any(), eq(Reservation.ReservationStatus.CANCELLED)))
+				.thenReturn(List.of(slot(2L, 10L, at(14), at(15)))); // 다른 서버에서 생성된 예약
+
+		// 인덱스와 DB 가 같은 답이면 그대로 둠
+		engine.syncIfStale(10L, at(12), at(13), false);
+		verify(repository, never()).findActiveSlotsOfSpaceEndingAfter(any(), any(), any());
+
+		engine.syncIfStale(10L, at(10), at(11), false);
+
+		assertThat(engine.overlaps(10L, at(10), at(12))).isFalse();
+		assertThat(engine.overlaps(10L, at(14), at(15))).isTrue();
+	}
+
+	@Test
+	void withSpaceLock_letsOnlyOneOfConcurrentBookingsForSameSlotThrough() throws Exception {
+		SpaceBookingEngine engine = new SpaceBookingEngine(null);
+		int threads = 32;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch ready = new CountDownLatch(threads);
+		CountDownLatch go = new CountDownLatch(1);
+		AtomicInteger nextId = new AtomicInteger();
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				// 모두 같은 공간의 서로 겹치는 시간대를 예약 (확인 후 추가를 공간 락 안에서 수행)
+				LocalDateTime start = at(10).plusMinutes(i % 4 * 15);
+				results.add(executor.submit(() -> {
+					ready.countDown();
+					go.await();
+					return engine.withSpaceLock(10L, () -> {
+						if (engine.overlaps(10L, start, start.plusHours(1))) {
+							return false;
+						}
+						Thread.yield();
+						engine.add(nextId.incrementAndGet(), 10L, start, start.plusHours(1));
+						return true;
+					});
+				}));
+			}
+			ready.await();
+			go.countDown();
+
+			int booked = 0;
+			for (Future<Boolean> result : results) {
+				if (result.get(10, TimeUnit.SECONDS)) {
+					booked++;
+				}
+			}
+			assertThat(booked).isEqualTo(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void withSpaceLock_doesNotBlockSpacesOnOtherStripes() throws Exception {
+		SpaceBookingEngine engine = new SpaceBookingEngine(null);
+		long otherSpaceId = 2L;
+		while (SpaceBookingEngine.stripeIndex(otherSpaceId) == SpaceBookingEngine.stripeIndex(1L)) {
+			otherSpaceId++;
+		}
+		long spaceId = otherSpaceId;
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		CountDownLatch inside = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			Future<?> holder = executor.submit(() -> engine.withSpaceLock(1L, () -> {
+				inside.countDown();
+				try {
+					return release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+			}));
+			assertThat(inside.await(10, TimeUnit.SECONDS)).isTrue();
+
+			// 공간 1 의 락이 잡혀 있어도 다른 줄무늬의 공간은 바로 처리됨
+			assertThat(executor.submit(() -> engine.withSpaceLock(spaceId, () -> true)).get(5, TimeUnit.SECONDS)).isTrue();
+
+			release.countDown();
+			holder.get(10, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static Reservation reservation(long id, long spaceId) {
+		Reservation reservation = new Reservation();
+		reservation.setId(id);
+		reservation.setSpace(Space.builder().id(spaceId).build());
+		return reservation;
+	}
+
+	private static ReservationSlotView slot(long id, long spaceId, LocalDateTime start, LocalDateTime end) {
+		return new ReservationSlotView() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public Long getSpaceId() {
+				return spaceId;
+			}
+
+			@Override
+			public LocalDateTime getStartTime() {
+				return start;
+			}
+
+			@Override
+			public LocalDateTime getEndTime() {
+				return end;
+			}
+		};
+	}
+}
@@ -0,0 +1,76 @@
+package com.likelion.loco_project.domain.space.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 찜 수 증감이 0 밑으로 내려가지 않고, 보정 쿼리가 조인 테이블 기준으로 다시 맞추는지 확인
+@DataJpaTest
+class SpaceFavoriteCountTest {
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private SpaceRepository spaceRepository;
+
+	@BeforeEach
+	void setUp() {
+		// 호스트/사용자 행 없이 공간과 찜만 넣기 위해 FK 검사를 끔 (H2)
+		entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
+		insertSpace(1L, 0L);
+		insertSpace(2L, 5L);
+		insertSpace(3L, 1L);
+		insertFavorite(10L, 1L);
+		insertFavorite(11L, 1L);
+		insertFavorite(10L, 3L);
+	}
+
+	@Test
+	void addFavoriteCount_doesNotGoBelowZero() {
+		spaceRepository.addFavoriteCount(1L, -1, LocalDateTime.now());
+
+		assertThat(favoriteCount(1L)).isZero();
+	}
+
+	@Test
+	void reconcileFavoriteCounts_updatesOnlyMismatchedSpaces() {
+		int updated = spaceRepository.reconcileFavoriteCounts();
+
+		assertThat(updated).isEqualTo(2);
+		assertThat(favoriteCount(1L)).isEqualTo(2L);
+		assertThat(favoriteCount(2L)).isZero();
+		assertThat(favoriteCount(3L)).isEqualTo(1L);
+	}
+
+	private void insertSpace(long id, long favoriteCount) {
+		entityManager.createNativeQuery("""
+				INSERT INTO spaces (id, space_name, upload_date, space_type, price, address, latitude, longitude,
+				                    host_id, rating_sum, review_count, favorite_count)
+				VALUES (?, '공간', CURRENT_TIMESTAMP, 'MEETING', 10000, '서울', 37.5, 127.0, 1, 0, 0, ?)
+				""")
+				.setParameter(1, id)
+				.setParameter(2, favoriteCount)
+				.executeUpdate();
+	}
+
+	private void insertFavorite(long userId, long spaceId) {
+		entityManager.createNativeQuery("INSERT INTO user_favorite_spaces (user_id, space_id) VALUES (?, ?)")
+				.setParameter(1, userId)
+				.setParameter(2, spaceId)
+				.executeUpdate();
+	}
+
+	private long favoriteCount(long spaceId) {
+		entityManager.clear();
+		return ((Number) entityManager.createNativeQuery("SELECT favorite_count FROM spaces WHERE id = ?")
+				.setParameter(1, spaceId)
+				.getSingleResult()).longValue();
+	}
+}
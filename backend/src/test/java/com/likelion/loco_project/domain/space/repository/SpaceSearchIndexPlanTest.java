@@ -0,0 +1,38 @@
+package com.likelion.loco_project.domain.space.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 검색 필터용 복합 인덱스가 실제 컬럼명으로 만들어지고, 검색 조건에서 해당 인덱스를 타는지 확인 (H2 실행 계획 기준)
+@DataJpaTest
+class SpaceSearchIndexPlanTest {
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void typeFilter_usesStatusTypePriceCapacityIndex() {
+		String plan = explain("""
+				SELECT id FROM spaces
+				WHERE status = 'APPROVED' AND space_type = 'STUDIO' AND price BETWEEN 10000 AND 50000 AND max_capacity >= 4
+				""");
+		assertThat(plan).containsIgnoringCase("idx_spaces_status_type_price_capacity");
+	}
+
+	@Test
+	void priceFilter_usesStatusPriceCapacityIndex() {
+		String plan = explain("""
+				SELECT id FROM spaces
+				WHERE status = 'APPROVED' AND price BETWEEN 10000 AND 50000
+				""");
+		assertThat(plan).containsIgnoringCase("idx_spaces_status_price_capacity");
+	}
+
+	private String explain(String sql) {
+		return String.valueOf(entityManager.createNativeQuery("EXPLAIN " + sql).getSingleResult());
+	}
+}
@@ -0,0 +1,106 @@
+package com.likelion.loco_project.domain.space.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 집계 컬럼이 생기기 전에 쌓인 리뷰/찜이 기동 시 보정으로 공간 집계에 반영되는지 확인
+@DataJpaTest
+@Import(SpaceAggregateReconciler.class)
+class SpaceAggregateReconcilerTest {
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private SpaceAggregateReconciler reconciler;
+
+	@BeforeEach
+	void setUp() {
+		// 호스트/게스트/사용자 행 없이 공간, 리뷰, 찜만 넣기 위해 FK 검사를 끔 (H2)
+		entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
+	}
+
+	@Test
+	void reconcile_backfillsRatingAggregatesFromReviews() {
+		insertSpace(1L, null, 0L, 0L, null);
+		insertReview(1L, 8, false);
+		insertReview(1L, 10, false);
+		insertReview(1L, 2, true); // 삭제된 리뷰는 집계하지 않음
+
+		reconciler.reconcile();
+
+		assertThat(column(1L, "rating_sum")).isEqualTo(18L);
+		assertThat(column(1L, "review_count")).isEqualTo(2L);
+		assertThat(column(1L, "rating_histogram")).isEqualTo("0,0,0,0,0,0,0,1,0,1");
+		assertThat((BigDecimal) column(1L, "space_rating")).isEqualByComparingTo("9.00");
+	}
+
+	@Test
+	void reconcile_clearsRatingOfSpaceWithoutReviews() {
+		insertSpace(1L, BigDecimal.ZERO, 0L, 0L, null);
+
+		reconciler.reconcile();
+
+		assertThat(column(1L, "space_rating")).isNull();
+		assertThat(column(1L, "review_count")).isEqualTo(0L);
+	}
+
+	@Test
+	void reconcile_leavesConsistentSpaceUntouched() {
+		insertSpace(1L, new BigDecimal("7.00"), 7L, 1L, "0,0,0,0,0,0,1,0,0,0");
+		insertReview(1L, 7, false);
+
+		reconciler.reconcile();
+
+		assertThat(column(1L, "modified_date")).isNull();
+	}
+
+	@Test
+	void reconcile_backfillsFavoriteCount() {
+		insertSpace(1L, null, 0L, 0L, null);
+		entityManager.createNativeQuery("INSERT INTO user_favorite_spaces (user_id, space_id) VALUES (10, 1), (11, 1)").executeUpdate();
+
+		reconciler.reconcile();
+
+		assertThat(column(1L, "favorite_count")).isEqualTo(2L);
+	}
+
+	private void insertSpace(long id, BigDecimal spaceRating, long ratingSum, long reviewCount, String histogram) {
+		entityManager.createNativeQuery("""
+				INSERT INTO spaces (id, space_name, upload_date, space_type, price, address, latitude, longitude,
+				                    host_id, space_rating, rating_sum, review_count, rating_histogram, favorite_count)
+				VALUES (?, '공간', CURRENT_TIMESTAMP, 'MEETING', 10000, '서울', 37.5, 127.0, 1, ?, ?, ?, ?, 0)
+				""")
+				.setParameter(1, id)
+				.setParameter(2, spaceRating)
+				.setParameter(3, ratingSum)
+				.setParameter(4, reviewCount)
+				.setParameter(5, histogram)
+				.executeUpdate();
+	}
+
+	private void insertReview(long spaceId, int rating, boolean deleted) {
+		entityManager.createNativeQuery("INSERT INTO review (guest_id, space_id, rating, is_deleted) VALUES (1, ?, ?, ?)")
+				.setParameter(1, spaceId)
+				.setParameter(2, rating)
+				.setParameter(3, deleted)
+				.executeUpdate();
+	}
+
+	private Object column(long spaceId, String column) {
+		entityManager.flush();
+		entityManager.clear();
+		Object value = entityManager.createNativeQuery("SELECT " + column + " FROM spaces WHERE id = ?")
+				.setParameter(1, spaceId)
+				.getSingleResult();
+		return value instanceof Number number && !(value instanceof BigDecimal) ? number.longValue() : value;
+	}
+}
@@ -0,0 +1,77 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.host.service.HostIdResolver;
+import com.likelion.loco_project.domain.space.dto.SpaceBulkImportResultDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+// 배치 INSERT 가 DB 오류로 실패해도 문제 행만 실패로 기록되고 같은 배치의 나머지 행은 저장되는지 확인
+// 배치마다 실제로 커밋/롤백되어야 하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({SpaceBulkImportService.class, SpaceGeoIndex.class, SpaceSearchIndex.class, SpaceStatsCounter.class, SpaceCatalogVersion.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SpaceBulkImportServiceTest {
+
+	@Autowired
+	private SpaceBulkImportService spaceBulkImportService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockBean
+	private HostIdResolver hostIdResolver;
+
+	@BeforeEach
+	void setUp() {
+		// 호스트 행 없이 공간만 넣기 위해 FK 검사를 끔 (H2)
+		jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+		given(hostIdResolver.findHostId(1L)).willReturn(Optional.of(1L));
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM space_additional_images");
+		jdbcTemplate.update("DELETE FROM spaces");
+	}
+
+	@Test
+	void importSpaces_isolatesRowRejectedByDatabase() {
+		// 환불 규정은 입력 검증에서 길이를 보지 않으므로 DB 컬럼 길이(255) 초과로 INSERT 에서만 실패
+		StringBuilder ndjson = new StringBuilder();
+		for (int line = 1; line <= 7; line++) {
+			String refundPolicy = line == 5 ? "x".repeat(300) : "환불 불가";
+			ndjson.append("""
+					{"type":"MEETING","name":"공간 %d","address":"서울","latitude":37.5,"longitude":127.0,"price":10000,"refundPolicy":"%s"}
+					""".formatted(line, refundPolicy));
+		}
+
+		SpaceBulkImportResultDto result = spaceBulkImportService.importSpaces(1L, SpaceBulkImportService.Format.NDJSON,
+				new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(result.getSuccessCount()).isEqualTo(6);
+		assertThat(result.getFailureCount()).isEqualTo(1);
+		assertThat(result.getErrors()).singleElement()
+				.satisfies(error -> assertThat(error.getLine()).isEqualTo(5));
+		assertThat(result.getCreatedSpaceIds()).hasSize(6);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM spaces", Long.class)).isEqualTo(6L);
+		assertThat(jdbcTemplate.queryForList("SELECT space_name FROM spaces", String.class)).doesNotContain("공간 5");
+	}
+}
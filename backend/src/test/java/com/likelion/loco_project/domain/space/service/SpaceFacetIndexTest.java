@@ -0,0 +1,76 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.space.dto.SpaceFacetDto;
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.entity.SpaceType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceFacetIndexTest {
+
+	@Test
+	void compute_returnsMatchesAndFacetsFromOneScan() {
+		SpaceFacetIndex index = new SpaceFacetIndex(null);
+		index.update(space(1L, SpaceType.MEETING, 20_000L, 4, SpaceStatus.APPROVED));
+		index.update(space(2L, SpaceType.MEETING, 60_000L, 12, SpaceStatus.APPROVED));
+		index.update(space(3L, SpaceType.PHOTO, 25_000L, 6, SpaceStatus.APPROVED));
+		index.update(space(4L, SpaceType.MEETING, 15_000L, 4, SpaceStatus.PENDING)); // 승인 전이라 제외
+
+		SpaceFacetIndex.Result result = index.compute(new SpaceFacetIndex.Query(
+				null, null, null, Set.of(SpaceType.MEETING), null, 50_000L, null));
+
+		assertThat(result.matches()).extracting(SpaceFacetIndex.Match::id).containsExactly(1L);
+		SpaceFacetDto facets = result.facets();
+		assertThat(facets.getTotal()).isEqualTo(1);
+		// 유형 개수는 유형 조건만 빼고 계산 (가격 조건에 맞는 PHOTO 1건도 보임)
+		assertThat(facets.getSpaceTypes()).containsEntry("MEETING", 1L).containsEntry("PHOTO", 1L);
+		// 가격대 개수는 가격 조건만 빼고 계산 (60,000원 MEETING 도 50000~99999 구간에 보임)
+		assertThat(counts(facets.getPriceBuckets())).containsExactly(0L, 1L, 0L, 1L, 0L);
+		assertThat(facets.isPartial()).isFalse();
+	}
+
+	@Test
+	void compute_appliesCandidateAndExcludedIds() {
+		SpaceFacetIndex index = new SpaceFacetIndex(null);
+		index.update(space(1L, SpaceType.MEETING, 20_000L, 4, SpaceStatus.APPROVED));
+		index.update(space(2L, SpaceType.MEETING, 20_000L, 4, SpaceStatus.APPROVED));
+		index.update(space(3L, SpaceType.MEETING, 20_000L, 4, SpaceStatus.APPROVED));
+
+		SpaceFacetIndex.Result result = index.compute(new SpaceFacetIndex.Query(
+				List.of(1L, 2L, 99L), null, Set.of(2L), null, null, null, null));
+
+		assertThat(result.matches()).extracting(SpaceFacetIndex.Match::id).containsExactly(1L);
+		assertThat(result.facets().getSpaceTypes()).containsEntry("MEETING", 1L);
+	}
+
+	@Test
+	void emptyFacets_hasZeroCountsForEveryBucket() {
+		SpaceFacetDto facets = SpaceFacetIndex.emptyFacets();
+
+		assertThat(facets.getTotal()).isZero();
+		assertThat(facets.isPartial()).isTrue();
+		assertThat(facets.getSpaceTypes()).hasSize(SpaceType.values().length).containsValue(0L).doesNotContainValue(1L);
+		assertThat(counts(facets.getPriceBuckets())).isNotEmpty().containsOnly(0L);
+		assertThat(counts(facets.getCapacityBuckets())).isNotEmpty().containsOnly(0L);
+	}
+
+	private static List<Long> counts(List<SpaceFacetDto.Bucket> buckets) {
+		return buckets.stream().map(SpaceFacetDto.Bucket::getCount).toList();
+	}
+
+	private static Space space(long id, SpaceType type, long price, int capacity, SpaceStatus status) {
+		return Space.builder()
+				.id(id)
+				.spaceType(type)
+				.price(price)
+				.maxCapacity(capacity)
+				.address("서울 강남구")
+				.status(status)
+				.build();
+	}
+}
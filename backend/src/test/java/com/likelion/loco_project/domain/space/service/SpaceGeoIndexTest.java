@@ -0,0 +1,173 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceGeoIndexTest {
+
+	private static final double[][] POINTS = randomPoints(2_000, 37.40, 37.70, 126.80, 127.20, 42);
+
+	private static double[][] randomPoints(int count, double latMin, double latMax, double lngMin, double lngMax, long seed) {
+		Random random = new Random(seed);
+		double[][] points = new double[count][];
+		for (int i = 0; i < count; i++) {
+			points[i] = new double[]{
+					latMin + random.nextDouble() * (latMax - latMin),
+					lngMin + random.nextDouble() * (lngMax - lngMin)};
+		}
+		return points;
+	}
+
+	private static SpaceGeoIndex loadedIndex() {
+		SpaceGeoIndex index = new SpaceGeoIndex(null);
+		for (int i = 0; i < POINTS.length; i++) {
+			index.put(i, POINTS[i][0], POINTS[i][1], 10_000L + i);
+		}
+		return index;
+	}
+
+	@Test
+	void findInBox_matchesBruteForce() {
+		SpaceGeoIndex index = loadedIndex();
+		double latMin = 37.50, latMax = 37.56, lngMin = 126.95, lngMax = 127.05;
+
+		List<Long> expected = new ArrayList<>();
+		for (int i = 0; i < POINTS.length; i++) {
+			if (POINTS[i][0] >= latMin && POINTS[i][0] <= latMax && POINTS[i][1] >= lngMin && POINTS[i][1] <= lngMax) {
+				expected.add((long) i);
+			}
+		}
+
+		assertThat(index.findInBox(latMin, latMax, lngMin, lngMax)).containsExactlyInAnyOrderElementsOf(expected);
+	}
+
+	@Test
+	void findInRadius_matchesBruteForce() {
+		SpaceGeoIndex index = loadedIndex();
+		double lat = 37.55, lng = 127.00, radiusKm = 3.0;
+
+		List<Long> expected = new ArrayList<>();
+		for (int i = 0; i < POINTS.length; i++) {
+			if (SpaceGeoIndex.distanceKm(lat, lng, POINTS[i][0], POINTS[i][1]) <= radiusKm) {
+				expected.add((long) i);
+			}
+		}
+
+		assertThat(expected).isNotEmpty();
+		assertThat(index.findInRadius(lat, lng, radiusKm)).containsExactlyInAnyOrderElementsOf(expected);
+	}
+
+	@Test
+	@Timeout(5)
+	void findInBox_clampsOutOfRangeBounds() {
+		SpaceGeoIndex index = loadedIndex();
+
+		// 범위를 벗어난 경도로 격자 수가 int 를 넘어도 끝나야 함
+		assertThat(index.findInBox(0, 0, 0, 1e10)).isEmpty();
+		assertThat(index.findInBox(-1e9, 1e9, -1e10, 1e10)).hasSize(POINTS.length);
+		// 뒤집힌 범위는 빈 결과
+		assertThat(index.findInBox(37.70, 37.40, 126.80, 127.20)).isEmpty();
+	}
+
+	@Test
+	void findNearest_matchesBruteForceInDenseArea() {
+		SpaceGeoIndex index = loadedIndex();
+
+		assertNearestMatchesBruteForce(index, 37.55, 127.00, 15, 50.0);
+		// 격자 경계 바로 위의 중심 좌표
+		assertNearestMatchesBruteForce(index, 37.50, 126.99, 7, 50.0);
+	}
+
+	@Test
+	void findNearest_expandsIntoSparseAreaAndHonoursMaxRadius() {
+		SpaceGeoIndex index = loadedIndex();
+
+		// 좌표들이 모인 곳에서 수십 km 떨어진 중심: 빈 격자를 넓혀 가다 전체 순회로 전환되어도 같은 결과
+		assertNearestMatchesBruteForce(index, 36.90, 127.60, 10, 200.0);
+		// 반경 안에 limit 보다 적게 있으면 반경 안의 것만
+		assertNearestMatchesBruteForce(index, 37.55, 127.00, 500, 2.0);
+		assertThat(index.findNearest(36.90, 127.60, 10, 5.0)).isEmpty();
+	}
+
+	private static void assertNearestMatchesBruteForce(SpaceGeoIndex index, double lat, double lng, int limit, double maxRadiusKm) {
+		List<SpaceGeoIndex.Nearest> expected = new ArrayList<>();
+		for (int i = 0; i < POINTS.length; i++) {
+			double distanceKm = SpaceGeoIndex.distanceKm(lat, lng, POINTS[i][0], POINTS[i][1]);
+			if (distanceKm <= maxRadiusKm) {
+				expected.add(new SpaceGeoIndex.Nearest(i, distanceKm));
+			}
+		}
+		expected.sort(Comparator.comparingDouble(SpaceGeoIndex.Nearest::distanceKm).thenComparingLong(SpaceGeoIndex.Nearest::id));
+
+		assertThat(index.findNearest(lat, lng, limit, maxRadiusKm))
+				.containsExactlyElementsOf(expected.subList(0, Math.min(limit, expected.size())));
+	}
+
+	@Test
+	void update_keepsOnlyActiveApprovedSpaces() {
+		SpaceGeoIndex index = new SpaceGeoIndex(null);
+		index.update(space(1L, SpaceStatus.APPROVED, true));
+		index.update(space(2L, SpaceStatus.PENDING, true));
+		index.update(space(3L, SpaceStatus.REJECTED, true));
+		index.update(space(4L, SpaceStatus.APPROVED, false));
+
+		assertThat(index.findInBox(37.0, 38.0, 126.0, 128.0)).containsExactly(1L);
+
+		// 승인 취소/반려 등으로 상태가 바뀌면 인덱스에서 빠짐
+		index.update(space(1L, SpaceStatus.REJECTED, true));
+		assertThat(index.findInBox(37.0, 38.0, 126.0, 128.0)).isEmpty();
+	}
+
+	@Test
+	void remove_updatesClusterSummary() {
+		SpaceGeoIndex index = new SpaceGeoIndex(null);
+		index.put(1L, 37.5001, 127.0001, 20_000L);
+		index.put(2L, 37.5002, 127.0002, 10_000L);
+		index.remove(2L);
+
+		assertThat(index.cluster(37.0, 38.0, 126.0, 128.0, 1))
+				.singleElement()
+				.satisfies(cluster -> {
+					assertThat(cluster.getCount()).isEqualTo(1L);
+					assertThat(cluster.getMinPrice()).isEqualTo(20_000L);
+				});
+	}
+
+	@Test
+	@Timeout(5)
+	void cluster_clampsOutOfRangeBounds() {
+		SpaceGeoIndex index = new SpaceGeoIndex(null);
+		index.put(1L, 37.5001, 127.0001, 20_000L);
+		index.put(2L, 37.5002, 127.0002, 10_000L);
+
+		// 격자 수가 int 를 넘는 범위여도 음수가 되지 않고 비어 있지 않은 격자만 훑어 끝남
+		assertThat(index.cluster(0, 0, 0, 1e10, 1)).isEmpty();
+		assertThat(index.cluster(-1e9, 1e9, -1e10, 1e10, 1))
+				.singleElement()
+				.satisfies(cluster -> {
+					assertThat(cluster.getCount()).isEqualTo(2L);
+					assertThat(cluster.getMinPrice()).isEqualTo(10_000L);
+				});
+	}
+
+	private static Space space(long id, SpaceStatus status, boolean active) {
+		return Space.builder()
+				.id(id)
+				.status(status)
+				.isActive(active)
+				.latitude(new BigDecimal("37.5"))
+				.longitude(new BigDecimal("127.0"))
+				.price(10_000L)
+				.build();
+	}
+}
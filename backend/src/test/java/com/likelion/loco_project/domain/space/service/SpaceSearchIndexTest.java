@@ -0,0 +1,63 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSearchIndexTest {
+
+	@Test
+	void tokenize_splitsWordsIntoBigrams() {
+		assertThat(SpaceSearchIndex.tokenize("강남역 Studio")).containsExactly("강남", "남역", "st", "tu", "ud", "di", "io");
+		assertThat(SpaceSearchIndex.isSearchable("강")).isFalse();
+		assertThat(SpaceSearchIndex.isSearchable("강 남")).isFalse();
+		assertThat(SpaceSearchIndex.isSearchable("강남")).isTrue();
+	}
+
+	@Test
+	void search_requiresAllTermsAndRanksNameMatchesFirst() {
+		SpaceSearchIndex index = new SpaceSearchIndex(null);
+		index.put(1L, "홍대 연습실", "서울 마포구", null, "강남역에서 멀어요");
+		index.put(2L, "강남역 스터디룸", "서울 강남구", null, null);
+		index.put(3L, "역삼 회의실", "서울 강남구 강남역 근처", null, null);
+
+		assertThat(index.search("강남역", 10)).containsExactly(2L, 3L, 1L);
+		assertThat(index.search("강남역 스터디", 10)).containsExactly(2L);
+		assertThat(index.search("부산", 10)).isEmpty();
+	}
+
+	@Test
+	void findAll_returnsEveryMatchWhileSearchIsCapped() {
+		SpaceSearchIndex index = new SpaceSearchIndex(null);
+		int count = SpaceSearchIndex.MAX_CANDIDATES + 100;
+		for (long id = 1; id <= count; id++) {
+			index.put(id, "스터디룸 " + id, "서울 강남구", null, null);
+		}
+
+		assertThat(index.search("스터디룸", SpaceSearchIndex.MAX_CANDIDATES)).hasSize(SpaceSearchIndex.MAX_CANDIDATES);
+		assertThat(index.findAll("스터디룸")).hasSize(count);
+		assertThat(index.findAll("없는단어")).isEmpty();
+	}
+
+	@Test
+	void update_indexesOnlyApprovedSpaces() {
+		SpaceSearchIndex index = new SpaceSearchIndex(null);
+		index.update(space(1L, SpaceStatus.APPROVED));
+		index.update(space(2L, SpaceStatus.PENDING));
+		assertThat(index.findAll("파티룸")).containsExactly(1L);
+
+		index.update(space(1L, SpaceStatus.REJECTED));
+		assertThat(index.findAll("파티룸")).isEmpty();
+	}
+
+	private static Space space(long id, SpaceStatus status) {
+		return Space.builder()
+				.id(id)
+				.status(status)
+				.spaceName("성수 파티룸")
+				.address("서울 성동구")
+				.build();
+	}
+}
@@ -0,0 +1,161 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.host.service.HostIdResolver;
+import com.likelion.loco_project.domain.reservation.service.SpaceAvailabilityIndex;
+import com.likelion.loco_project.domain.space.dto.SpaceFacetedSearchDto;
+import com.likelion.loco_project.domain.space.dto.SpaceResponseDto;
+import com.likelion.loco_project.domain.space.dto.SpaceSearchDto;
+import com.likelion.loco_project.global.cache.LocalCacheRegistry;
+import com.likelion.loco_project.global.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 공간 검색: 검색어 후보가 많을 때의 정렬/페이지, 같은 의미의 조건이 같은 결과를 내는지 확인
+@DataJpaTest
+@Import({SpaceService.class, SpaceGeoIndex.class, SpaceSearchIndex.class, SpaceStatsCounter.class, SpaceCatalogVersion.class,
+		SpaceTypeaheadIndex.class, SpaceFacetIndex.class, SpaceSimilarityIndex.class, SpacePopularityRanking.class,
+		SpaceAvailabilityIndex.class, CacheConfig.class, LocalCacheRegistry.class})
+class SpaceServiceSearchTest {
+
+	// IN 목록 상한(1,000)보다 많은 공간이 같은 검색어에 걸리도록 함
+	private static final int GANGNAM_SPACES = 1_100;
+
+	@Autowired
+	private SpaceService spaceService;
+
+	@Autowired
+	private SpaceSearchIndex spaceSearchIndex;
+
+	@Autowired
+	private SpaceFacetIndex spaceFacetIndex;
+
+	@Autowired
+	private SpaceAvailabilityIndex spaceAvailabilityIndex;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockBean
+	private HostIdResolver hostIdResolver;
+
+	@BeforeEach
+	void setUp() {
+		// 호스트 행 없이 공간만 넣기 위해 FK 검사를 끔 (H2)
+		jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+		List<Object[]> rows = new ArrayList<>();
+		for (int i = 1; i <= GANGNAM_SPACES; i++) {
+			// 가격은 id 와 다른 순서, 인원은 id 와 같은 순서
+			rows.add(new Object[]{i, "강남 스터디룸 " + i, 10_000 + (i * 37 % 1_000) * 100, "서울 강남구 " + i, i});
+		}
+		for (int i = GANGNAM_SPACES + 1; i <= GANGNAM_SPACES + 5; i++) {
+			rows.add(new Object[]{i, "홍대 연습실 " + i, 5_000, "서울 마포구 " + i, i});
+		}
+		jdbcTemplate.batchUpdate("""
+				INSERT INTO spaces (id, space_name, upload_date, space_type, price, address, latitude, longitude,
+				                    max_capacity, is_active, status, host_id, rating_sum, review_count, favorite_count)
+				VALUES (?, ?, CURRENT_TIMESTAMP, 'MEETING', ?, ?, 37.5, 127.0, ?, TRUE, 'APPROVED', 1, 0, 0, 0)
+				""", rows);
+		spaceSearchIndex.load();
+		spaceFacetIndex.load();
+	}
+
+	@Test
+	void searchSpaces_broadKeywordSortedByPrice_pagesInMemory() {
+		Page<SpaceResponseDto> page = spaceService.searchSpaces(search("강남", "price", "ASC", 2, 5));
+
+		List<Long> expected = new ArrayList<>();
+		for (long id = 1; id <= GANGNAM_SPACES; id++) {
+			expected.add(id);
+		}
+		expected.sort((a, b) -> {
+			int byPrice = Long.compare(price(a), price(b));
+			return byPrice != 0 ? byPrice : Long.compare(a, b);
+		});
+
+		assertThat(page.getTotalElements()).isEqualTo(GANGNAM_SPACES);
+		assertThat(page.getContent()).extracting(SpaceResponseDto::getId)
+				.containsExactlyElementsOf(expected.subList(10, 15));
+	}
+
+	@Test
+	void searchSpaces_broadKeywordSortedByOtherColumn_keepsKeywordInSql() {
+		// 메모리에 없는 정렬 기준 + 후보가 IN 목록 상한을 넘는 경우
+		Page<SpaceResponseDto> page = spaceService.searchSpaces(search("강남", "maxCapacity", "DESC", 0, 3));
+
+		assertThat(page.getTotalElements()).isEqualTo(GANGNAM_SPACES);
+		assertThat(page.getContent()).extracting(SpaceResponseDto::getId)
+				.containsExactly((long) GANGNAM_SPACES, GANGNAM_SPACES - 1L, GANGNAM_SPACES - 2L);
+	}
+
+	@Test
+	void searchSpaces_sortDirectionIsCaseInsensitive() {
+		// 소문자 asc 가 먼저 캐시를 채워도 ASC 와 같은 (오름차순) 결과
+		for (String sortBy : List.of("price", "maxCapacity", "id")) {
+			Page<SpaceResponseDto> lower = spaceService.searchSpaces(search(" 강남 ", sortBy, "asc", 0, 5));
+			Page<SpaceResponseDto> upper = spaceService.searchSpaces(search("강남", sortBy, "ASC", 0, 5));
+
+			assertThat(lower.getContent()).extracting(SpaceResponseDto::getId)
+					.containsExactlyElementsOf(upper.getContent().stream().map(SpaceResponseDto::getId).toList());
+			assertThat(upper.getContent()).extracting(SpaceResponseDto::getId)
+					.isSortedAccordingTo(sortBy.equals("price")
+							? (a, b) -> Long.compare(price(a), price(b)) != 0 ? Long.compare(price(a), price(b)) : Long.compare(a, b)
+							: Long::compare);
+		}
+	}
+
+	@Test
+	void searchSpaces_availabilityWindowBeforeIndexLoads_excludesBookedSpacesFromDb() {
+		// 예약 가능 시간 인덱스가 아직 적재되지 않은 상태 (애플리케이션 시작 직후)
+		ReflectionTestUtils.setField(spaceAvailabilityIndex, "loaded", false);
+		LocalDateTime from = LocalDateTime.now().plusDays(3).withHour(14).withMinute(0).withSecond(0).withNano(0);
+		long booked = GANGNAM_SPACES + 2L;
+		long cancelled = GANGNAM_SPACES + 3L;
+		jdbcTemplate.update("""
+				INSERT INTO reservation (id, space_id, booking_capacity, start_time, end_time, status)
+				VALUES (1, ?, 2, ?, ?, 'CONFIRMED'), (2, ?, 2, ?, ?, 'CANCELLED')
+				""", booked, from.plusHours(1), from.plusHours(3), cancelled, from, from.plusHours(4));
+
+		try {
+			SpaceSearchDto dto = search("홍대", "id", "ASC", 0, 10);
+			dto.setAvailableFrom(from);
+			dto.setAvailableTo(from.plusHours(2));
+
+			List<Long> expected = List.of(GANGNAM_SPACES + 1L, cancelled, GANGNAM_SPACES + 4L, GANGNAM_SPACES + 5L);
+			assertThat(spaceService.searchSpaces(dto).getContent()).extracting(SpaceResponseDto::getId)
+					.containsExactlyElementsOf(expected);
+			SpaceFacetedSearchDto faceted = spaceService.searchSpacesWithFacets(dto);
+			assertThat(faceted.getFacets().getTotal()).isEqualTo(expected.size());
+			assertThat(faceted.getResults().getContent()).extracting(SpaceResponseDto::getId)
+					.containsExactlyElementsOf(expected);
+		} finally {
+			ReflectionTestUtils.setField(spaceAvailabilityIndex, "loaded", true);
+		}
+	}
+
+	private static long price(long id) {
+		return 10_000 + (id * 37 % 1_000) * 100;
+	}
+
+	private static SpaceSearchDto search(String location, String sortBy, String sortDirection, int page, int size) {
+		SpaceSearchDto dto = new SpaceSearchDto();
+		dto.setLocation(location);
+		dto.setSortBy(sortBy);
+		dto.setSortDirection(sortDirection);
+		dto.setPage(page);
+		dto.setSize(size);
+		return dto;
+	}
+}
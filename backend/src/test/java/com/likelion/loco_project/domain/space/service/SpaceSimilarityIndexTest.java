@@ -0,0 +1,113 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import com.likelion.loco_project.domain.space.entity.SpaceType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSimilarityIndexTest {
+
+	@Test
+	void findSimilar_matchesBruteForceScan() {
+		List<Space> spaces = randomSpaces(1_500, 7);
+		SpaceSimilarityIndex index = new SpaceSimilarityIndex(null);
+		spaces.forEach(index::update);
+
+		for (long origin : new long[]{1L, 500L, 1_500L}) {
+			assertThat(index.findSimilar(origin, 20)).containsExactlyElementsOf(bruteForce(spaces, origin, 20));
+		}
+	}
+
+	@Test
+	void findSimilar_skipsRemovedAndHiddenSpaces() {
+		List<Space> spaces = randomSpaces(200, 11);
+		SpaceSimilarityIndex index = new SpaceSimilarityIndex(null);
+		spaces.forEach(index::update);
+
+		index.remove(5L);
+		Space hidden = spaces.get(9); // id 10
+		hidden.setStatus(SpaceStatus.REJECTED);
+		index.update(hidden);
+		List<Space> visible = spaces.stream().filter(s -> s.getId() != 5L && s.getId() != 10L).toList();
+
+		assertThat(index.findSimilar(1L, 199)).hasSize(visible.size() - 1).doesNotContain(1L, 5L, 10L);
+		assertThat(index.findSimilar(1L, 20)).containsExactlyElementsOf(bruteForce(visible, 1L, 20));
+		assertThat(index.findSimilar(5L, 20)).isEmpty();
+	}
+
+	@Test
+	void toVector_usesSameLongitudeScaleRegardlessOfLatitude() {
+		float[] north = vector(37.6, 127.0);
+		float[] south = vector(37.4, 127.0);
+		float[] northEast = vector(37.6, 127.1);
+		float[] southEast = vector(37.4, 127.1);
+
+		// 같은 경도면 위도가 달라도 경도 축 값이 같고, 경도 0.1도 차이는 위도와 관계없이 같은 거리
+		int lng = north.length - 2;
+		assertThat(north[lng]).isEqualTo(south[lng]);
+		assertThat(northEast[lng] - north[lng]).isEqualTo(southEast[lng] - south[lng]);
+	}
+
+	private static float[] vector(double lat, double lng) {
+		return SpaceSimilarityIndex.toVector(SpaceType.MEETING, 10_000L, 4,
+				BigDecimal.valueOf(lat), BigDecimal.valueOf(lng), null);
+	}
+
+	private static List<Long> bruteForce(List<Space> spaces, long originId, int limit) {
+		Space origin = spaces.stream().filter(s -> s.getId() == originId).findFirst().orElseThrow();
+		float[] target = toVector(origin);
+		record Candidate(long id, float distance) {
+		}
+		List<Candidate> candidates = new ArrayList<>();
+		for (Space space : spaces) {
+			if (space.getId() == originId) {
+				continue;
+			}
+			float[] vector = toVector(space);
+			float distance = 0;
+			for (int k = 0; k < vector.length; k++) {
+				float diff = vector[k] - target[k];
+				distance += diff * diff;
+			}
+			candidates.add(new Candidate(space.getId(), distance));
+		}
+		return candidates.stream()
+				.sorted(Comparator.comparingDouble(Candidate::distance))
+				.limit(limit)
+				.map(Candidate::id)
+				.toList();
+	}
+
+	private static float[] toVector(Space space) {
+		return SpaceSimilarityIndex.toVector(space.getSpaceType(), space.getPrice(), space.getMaxCapacity(),
+				space.getLatitude(), space.getLongitude(), space.getSpaceRating());
+	}
+
+	private static List<Space> randomSpaces(int count, long seed) {
+		Random random = new Random(seed);
+		SpaceType[] types = SpaceType.values();
+		List<Space> spaces = new ArrayList<>(count);
+		for (long id = 1; id <= count; id++) {
+			spaces.add(Space.builder()
+					.id(id)
+					.spaceType(types[random.nextInt(types.length)])
+					.price(5_000L + random.nextInt(200_000))
+					.maxCapacity(1 + random.nextInt(60))
+					.latitude(BigDecimal.valueOf(37.40 + random.nextDouble() * 0.30))
+					.longitude(BigDecimal.valueOf(126.80 + random.nextDouble() * 0.40))
+					.spaceRating(BigDecimal.valueOf(1 + random.nextDouble() * 9))
+					.status(SpaceStatus.APPROVED)
+					.isActive(true)
+					.build());
+		}
+		return spaces;
+	}
+}
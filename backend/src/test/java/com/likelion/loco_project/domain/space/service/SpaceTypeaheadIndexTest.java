@@ -0,0 +1,118 @@
+package com.likelion.loco_project.domain.space.service;
+
+import com.likelion.loco_project.domain.space.dto.SpaceSuggestionDto;
+import com.likelion.loco_project.domain.space.entity.Space;
+import com.likelion.loco_project.domain.space.entity.SpaceStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceTypeaheadIndexTest {
+
+	@Test
+	void keystrokes_splitsSyllablesInTypingOrder() {
+		assertThat(SpaceTypeaheadIndex.keystrokes("강남")).isEqualTo("ㄱㅏㅇㄴㅏㅁ");
+		assertThat(SpaceTypeaheadIndex.keystrokes("과")).isEqualTo("ㄱㅗㅏ");
+		assertThat(SpaceTypeaheadIndex.choseongKey("강남역")).isEqualTo("ㄱㄴㅇ");
+	}
+
+	@Test
+	void suggest_matchesPrefixEndingInsideSyllable() {
+		SpaceTypeaheadIndex index = new SpaceTypeaheadIndex(null);
+		index.update(space(1L, "강남역 스터디룸", "서울 강남구 123"));
+		index.update(space(2L, "홍대 연습실", "서울 마포구 45"));
+
+		assertThat(texts(index.suggest("강나", 10))).containsExactly("강남구", "강남역 스터디룸");
+		assertThat(texts(index.suggest("스터", 10))).containsExactly("강남역 스터디룸");
+		assertThat(texts(index.suggest("고", 10))).isEmpty();
+	}
+
+	@Test
+	void suggest_matchesChoseongOnlyQuery() {
+		SpaceTypeaheadIndex index = new SpaceTypeaheadIndex(null);
+		index.update(space(1L, "강남역 스터디룸", "서울 강남구"));
+		index.update(space(2L, "홍대 연습실", "서울 마포구"));
+
+		assertThat(texts(index.suggest("ㄱㄴㅇ", 10))).containsExactly("강남역 스터디룸");
+		assertThat(texts(index.suggest("ㅎㄷ", 10))).containsExactly("홍대 연습실");
+	}
+
+	@Test
+	void suggest_ranksAddressWordsByNumberOfSpaces() {
+		SpaceTypeaheadIndex index = new SpaceTypeaheadIndex(null);
+		index.update(space(1L, "역삼 회의실", "서울 강남구"));
+		index.update(space(2L, "논현 스튜디오", "서울 강남구"));
+		index.update(space(3L, "강서 연습실", "서울 강서구"));
+
+		List<SpaceSuggestionDto> suggestions = index.suggest("강", 10);
+		assertThat(suggestions.get(0).getText()).isEqualTo("강남구");
+		assertThat(suggestions.get(0).getCount()).isEqualTo(2);
+	}
+
+	@Test
+	void update_replacesOldTermsAndHidesUnapprovedSpaces() {
+		SpaceTypeaheadIndex index = new SpaceTypeaheadIndex(null);
+		index.update(space(1L, "강남 스터디룸", "서울"));
+		index.update(space(1L, "강북 스터디룸", "서울"));
+
+		assertThat(texts(index.suggest("강", 10))).containsExactly("강북 스터디룸");
+
+		Space rejected = space(1L, "강북 스터디룸", "서울");
+		rejected.setStatus(SpaceStatus.REJECTED);
+		index.update(rejected);
+
+		assertThat(index.suggest("강", 10)).isEmpty();
+	}
+
+	@Test
+	void suggest_readsConsistentSnapshotWhileSpacesChange() throws Exception {
+		SpaceTypeaheadIndex index = new SpaceTypeaheadIndex(null);
+		index.update(space(1L, "강남 스터디룸", "서울"));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		AtomicBoolean running = new AtomicBoolean(true);
+		try {
+			Future<?> writer = executor.submit(() -> {
+				for (int i = 0; i < 2_000; i++) {
+					long id = 2 + i % 50;
+					index.update(space(id, "강남 연습실 " + i, "서울 강남구"));
+					if (i % 3 == 0) {
+						index.remove(id);
+					}
+				}
+				running.set(false);
+			});
+			Future<?> reader = executor.submit(() -> {
+				while (running.get()) {
+					// 바뀌지 않은 공간은 다른 공간이 추가/삭제되는 중에도 항상 보여야 함
+					assertThat(texts(index.suggest("강남 스", 10))).contains("강남 스터디룸");
+				}
+			});
+			writer.get(30, TimeUnit.SECONDS);
+			reader.get(30, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static Space space(long id, String name, String address) {
+		return Space.builder()
+				.id(id)
+				.spaceName(name)
+				.address(address)
+				.status(SpaceStatus.APPROVED)
+				.isActive(true)
+				.build();
+	}
+
+	private static List<String> texts(List<SpaceSuggestionDto> suggestions) {
+		return suggestions.stream().map(SpaceSuggestionDto::getText).toList();
+	}
+}
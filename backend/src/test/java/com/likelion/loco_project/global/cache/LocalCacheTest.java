@@ -0,0 +1,98 @@
+package com.likelion.loco_project.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalCacheTest {
+
+	@Test
+	void concurrentMissesOnSameKey_runLoaderOnce() throws Exception {
+		LocalCache<String, String> cache = new LocalCache<>("test", 100, Duration.ofMinutes(1));
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		int threads = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				results.add(executor.submit(() -> cache.get("hot", key -> {
+					loads.incrementAndGet();
+					await(release);
+					return "value";
+				})));
+			}
+			Thread.sleep(100); // 모든 요청이 미적중 상태로 대기하도록
+			release.countDown();
+			for (Future<String> result : results) {
+				assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertThat(loads).hasValue(1);
+		assertThat(cache.getIfPresent("hot")).isEqualTo("value");
+	}
+
+	@Test
+	void invalidatingAnotherKey_doesNotDiscardInFlightLoad() {
+		LocalCache<String, String> cache = new LocalCache<>("test", 100, Duration.ofMinutes(1));
+		cache.get("a", key -> {
+			cache.invalidate("b");
+			return "loaded";
+		});
+		assertThat(cache.getIfPresent("a")).isEqualTo("loaded");
+	}
+
+	@Test
+	void invalidatingSameKeyDuringLoad_skipsStoringStaleValue() {
+		LocalCache<String, String> cache = new LocalCache<>("test", 100, Duration.ofMinutes(1));
+		String returned = cache.get("a", key -> {
+			cache.invalidate("a");
+			return "stale";
+		});
+		assertThat(returned).isEqualTo("stale");
+		assertThat(cache.getIfPresent("a")).isNull();
+		assertThat(cache.get("a", key -> "fresh")).isEqualTo("fresh");
+	}
+
+	@Test
+	void failedLoad_isNotCachedAndDoesNotBlockNextLoad() {
+		LocalCache<String, String> cache = new LocalCache<>("test", 100, Duration.ofMinutes(1));
+		assertThatThrownBy(() -> cache.get("a", key -> {
+			throw new IllegalArgumentException("없음");
+		})).isInstanceOf(IllegalArgumentException.class);
+		assertThat(cache.get("a", key -> "ok")).isEqualTo("ok");
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedBeyondMaxSize() {
+		LocalCache<String, String> cache = new LocalCache<>("test", 2, Duration.ofMinutes(1));
+		cache.put("a", "1");
+		cache.put("b", "2");
+		cache.getIfPresent("a");
+		cache.put("c", "3");
+		assertThat(cache.getIfPresent("b")).isNull();
+		assertThat(cache.getIfPresent("a")).isEqualTo("1");
+		assertThat(cache.stats().getEvictions()).isEqualTo(1);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -26,7 +26,7 @@ interface Space {
   longitude: number;
   maxCapacity: number;
   isActive: boolean;
-  spaceRating: number;
+  spaceRating: number | null;
   imageUrl: string;
   additionalImageUrls: string[];
 }
@@ -206,7 +206,7 @@ const HostSpaceListPage = () => {
                   최대 {space.maxCapacity}명 · {space.price.toLocaleString()}원/시간
                 </p>
                 <p className="text-gray-500 text-sm mb-4">
-                  평점: {space.spaceRating.toFixed(1)}
+                  평점: {space.spaceRating != null ? space.spaceRating.toFixed(1) : "-"}
                 </p>
                 <button
                   onClick={() => router.push(`/host/spaces/list/${space.id}`)}